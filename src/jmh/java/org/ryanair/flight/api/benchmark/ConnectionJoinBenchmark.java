@@ -0,0 +1,159 @@
+package org.ryanair.flight.api.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.FinalFlightResponseDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.engine.ConnectionCandidate;
+import org.ryanair.flight.api.engine.impl.LayeredConnectionScanEngine;
+import org.ryanair.flight.api.engine.impl.SortedConnectionJoinEngine;
+import org.ryanair.flight.api.helper.impl.ServiceHelperImpl;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.perf.SyntheticTimetables;
+import org.ryanair.flight.api.service.frontend.impl.ConnectionScanSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.FlightSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.MultiStopSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.RouteServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
+import org.ryanair.flight.api.util.Constant;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:20 PM
+ */
+
+/**
+ * Joining a busy hub month: the join engine alone, the linear closest connection scan the join engine replaced
+ * and the hub itineraries built by FlightSearchServiceImpl, which covers findAndMapRelatedInterConnectedFlights
+ * together with the reactive plumbing around it, and the same itineraries found by the connection scan engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionJoinBenchmark {
+
+    @Param({"40"})
+    public int flightsPerDay;
+
+    private List<ScheduledFlight> departingFlights;
+    private List<ScheduledFlight> connectingFlights;
+    private SortedConnectionJoinEngine connectionJoinEngine;
+    private ServiceHelperImpl serviceHelper;
+    private FlightSearchServiceImpl flightSearchService;
+    private RequestDataDto requestDataDto;
+    private RequestDataDto connectionScanRequestDataDto;
+
+    @Setup
+    public void setUp() {
+        String departure = SyntheticTimetables.spoke(0);
+        String hub = SyntheticTimetables.hub(0);
+        String arrival = SyntheticTimetables.spoke(1);
+        MonthlyTimetable departingTimetable = SyntheticTimetables.busyMonth(flightsPerDay, 11);
+        MonthlyTimetable connectingTimetable = SyntheticTimetables.busyMonth(flightsPerDay, 13);
+        departingFlights = departingTimetable.getFlights();
+        connectingFlights = connectingTimetable.getFlights();
+
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setMinConnectionMinutes(120);
+        // every invocation measures a full search, so results are never served from the result cache
+        propertyConfiguration.setResultCacheEnabled(false);
+        connectionJoinEngine = new SortedConnectionJoinEngine(propertyConfiguration);
+        serviceHelper = new ServiceHelperImpl();
+
+        RouteCatalogSnapshot routeCatalogSnapshot = new RouteCatalogSnapshot(
+                List.of(SyntheticTimetables.route(departure, hub), SyntheticTimetables.route(hub, arrival)), Instant.EPOCH);
+        StubBackendAPIService backendAPIService = new StubBackendAPIService(routeCatalogSnapshot,
+                request -> departure.equals(request.getDeparture()) ? departingTimetable : connectingTimetable);
+        SearchMetrics searchMetrics = new SearchMetrics(new SimpleMeterRegistry());
+        ScheduleServiceImpl scheduleService = new ScheduleServiceImpl(backendAPIService, searchMetrics);
+        RouteServiceImpl routeService = new RouteServiceImpl(backendAPIService, propertyConfiguration);
+        flightSearchService = new FlightSearchServiceImpl(serviceHelper, routeService,
+                scheduleService, connectionJoinEngine,
+                new MultiStopSearchServiceImpl(scheduleService, connectionJoinEngine, propertyConfiguration, searchMetrics), searchMetrics,
+                null, propertyConfiguration, new ConnectionScanSearchServiceImpl(serviceHelper, routeService, scheduleService,
+                new LayeredConnectionScanEngine(), propertyConfiguration, searchMetrics));
+
+        LocalDateTime windowStart = SyntheticTimetables.MONTH.atDay(1).atStartOfDay();
+        requestDataDto = RequestDataDto.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDateTime(windowStart)
+                .arrivalDateTime(windowStart.plusDays(SyntheticTimetables.MONTH.lengthOfMonth() - 1))
+                .build();
+        connectionScanRequestDataDto = RequestDataDto.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDateTime(requestDataDto.getDepartureDateTime())
+                .arrivalDateTime(requestDataDto.getArrivalDateTime())
+                .engine(Constant.ENGINE_CONNECTION_SCAN)
+                .build();
+    }
+
+    @Benchmark
+    public List<ConnectionCandidate> joinEngine() {
+        return connectionJoinEngine.join(departingFlights, connectingFlights);
+    }
+
+    @Benchmark
+    public void closestFlightScan(Blackhole blackhole) {
+        for (ScheduledFlight departingFlight : departingFlights) {
+            blackhole.consume(findTwoHourAfterClosestFlight(departingFlight.getArrivalEpochMinute(), connectingFlights));
+        }
+    }
+
+    @Benchmark
+    public List<FinalFlightResponseDto> hubItineraries() {
+        return flightSearchService.findFlights(requestDataDto).block();
+    }
+
+    @Benchmark
+    public List<FinalFlightResponseDto> hubItinerariesConnectionScan() {
+        return flightSearchService.findFlights(connectionScanRequestDataDto).block();
+    }
+
+    /**
+     * The linear scan ServiceHelperImpl used before the join engine, kept as the baseline of the join engine.
+     *
+     * @param arrivalEpochMinute The arrival of the departing flight.
+     * @param flightList         The connecting flights in any order.
+     * @return The first connecting flight departing two hours or more after the arrival, or null if none is found.
+     */
+    private static ScheduledFlight findTwoHourAfterClosestFlight(int arrivalEpochMinute, List<ScheduledFlight> flightList) {
+        long minDifference = Long.MIN_VALUE;
+        int index = -1;
+        int plus2EpochMinute = arrivalEpochMinute + 120;
+        for (int i = 0; i < flightList.size(); i++) {
+            long diff = plus2EpochMinute - flightList.get(i).getDepartureEpochMinute();
+            if (diff <= 0 && diff > minDifference) {
+                minDifference = diff;
+                index = i;
+            }
+        }
+        return index == -1 ? null : flightList.get(index);
+    }
+}
@@ -0,0 +1,90 @@
+package org.ryanair.flight.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ryanair.flight.api.dto.DataLegs;
+import org.ryanair.flight.api.dto.FinalFlightResponseDto;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.perf.SyntheticTimetables;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:25 PM
+ */
+
+/**
+ * Serialization of one-stop itineraries with an ObjectMapper configured like the one of the application,
+ * as a single JSON array and as newline delimited items the way the streaming endpoint writes them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int itineraries;
+
+    private ObjectMapper objectMapper;
+    private List<FinalFlightResponseDto> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<ScheduledFlight> departingFlights = SyntheticTimetables.busyMonth(40, 17).getFlights();
+        List<ScheduledFlight> connectingFlights = SyntheticTimetables.busyMonth(40, 19).getFlights();
+        response = new ArrayList<>(itineraries);
+        for (int i = 0; i < itineraries; i++) {
+            ScheduledFlight departingFlight = departingFlights.get(i % departingFlights.size());
+            ScheduledFlight connectingFlight = connectingFlights.get(i % connectingFlights.size());
+            response.add(FinalFlightResponseDto.builder()
+                    .stops(1)
+                    .legs(List.of(
+                            leg(SyntheticTimetables.spoke(0), SyntheticTimetables.hub(0), departingFlight),
+                            leg(SyntheticTimetables.hub(0), SyntheticTimetables.spoke(1), connectingFlight)))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] jsonArray() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public void ndjsonItems(Blackhole blackhole) throws JsonProcessingException {
+        for (FinalFlightResponseDto itinerary : response) {
+            blackhole.consume(objectMapper.writeValueAsBytes(itinerary));
+        }
+    }
+
+    private static DataLegs leg(String departureAirport, String arrivalAirport, ScheduledFlight flight) {
+        return DataLegs.builder()
+                .departureAirport(departureAirport)
+                .arrivalAirport(arrivalAirport)
+                .departureEpochMinute(flight.getDepartureEpochMinute())
+                .arrivalEpochMinute(flight.getArrivalEpochMinute())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package org.ryanair.flight.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.PossibleRoutesDto;
+import org.ryanair.flight.api.perf.SyntheticTimetables;
+import org.ryanair.flight.api.service.frontend.impl.RouteServiceImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:10 PM
+ */
+
+/**
+ * RouteServiceImpl.findAllPossibleRoutes over the full size synthetic catalog.
+ * Hub to hub pairs have the most one-stop options, spoke to spoke pairs are the common case.
+ * The multi-stop case runs the bounded search of RouteServiceImpl.findMultiStopRoutes with the default route cap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteDiscoveryBenchmark {
+
+    private RouteServiceImpl routeService;
+
+    @Setup
+    public void setUp() {
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setMultiStopMaxRoutes(64);
+        routeService = new RouteServiceImpl(new StubBackendAPIService(SyntheticTimetables.routeCatalog(42), request -> null), propertyConfiguration);
+    }
+
+    @Benchmark
+    public List<PossibleRoutesDto> spokeToSpoke() {
+        return routeService.findAllPossibleRoutes(SyntheticTimetables.spoke(0), SyntheticTimetables.spoke(1)).block();
+    }
+
+    @Benchmark
+    public List<PossibleRoutesDto> hubToHub() {
+        return routeService.findAllPossibleRoutes(SyntheticTimetables.hub(0), SyntheticTimetables.hub(1)).block();
+    }
+
+    @Benchmark
+    public List<PossibleRoutesDto> spokeToSpokeThreeStops() {
+        return routeService.findMultiStopRoutes(SyntheticTimetables.spoke(0), SyntheticTimetables.spoke(1), 3).block();
+    }
+}
@@ -0,0 +1,78 @@
+package org.ryanair.flight.api.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.dto.ScheduledServiceDto;
+import org.ryanair.flight.api.dto.YearMonthDataDto;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.perf.SyntheticTimetables;
+import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:15 PM
+ */
+
+/**
+ * ScheduleServiceImpl filtering a busy hub month down to the request window,
+ * which covers filterAllAvailableFlightsFromScheduleResponse through the public service method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleFilterBenchmark {
+
+    @Param({"40"})
+    public int flightsPerDay;
+
+    @Param({"1", "30"})
+    public int windowDays;
+
+    private ScheduleServiceImpl scheduleService;
+    private ScheduledServiceDto scheduledServiceDto;
+
+    @Setup
+    public void setUp() {
+        MonthlyTimetable monthlyTimetable = SyntheticTimetables.busyMonth(flightsPerDay, 7);
+        scheduleService = new ScheduleServiceImpl(new StubBackendAPIService(SyntheticTimetables.routeCatalog(42), request -> monthlyTimetable),
+                new SearchMetrics(new SimpleMeterRegistry()));
+        LocalDateTime windowStart = SyntheticTimetables.MONTH.atDay(1).atStartOfDay();
+        scheduledServiceDto = ScheduledServiceDto.builder()
+                .directRouteData(SyntheticTimetables.route(SyntheticTimetables.hub(0), SyntheticTimetables.spoke(0)))
+                .yearMonthData(new YearMonthDataDto(SyntheticTimetables.MONTH.getYear(), SyntheticTimetables.MONTH.getMonthValue()))
+                .requestData(RequestDataDto.builder()
+                        .departure(SyntheticTimetables.hub(0))
+                        .arrival(SyntheticTimetables.spoke(0))
+                        .departureDateTime(windowStart)
+                        .arrivalDateTime(windowStart.plusDays(windowDays))
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<ScheduledFlight> filterWindow() {
+        return scheduleService.getScheduledDirectFlightData(scheduledServiceDto).block();
+    }
+}
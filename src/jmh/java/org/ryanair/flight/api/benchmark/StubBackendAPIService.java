@@ -0,0 +1,64 @@
+package org.ryanair.flight.api.benchmark;
+
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+import org.ryanair.flight.api.snapshot.TimetableSnapshot;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:05 PM
+ */
+
+/**
+ * In-memory BackendAPIService serving a fixed catalog and timetables, so benchmarks measure the service code only.
+ */
+final class StubBackendAPIService implements BackendAPIService {
+
+    private final RouteCatalogSnapshot routeCatalogSnapshot;
+    private final Function<ScheduleAPIRequestModel, MonthlyTimetable> timetables;
+
+    StubBackendAPIService(RouteCatalogSnapshot routeCatalogSnapshot, Function<ScheduleAPIRequestModel, MonthlyTimetable> timetables) {
+        this.routeCatalogSnapshot = routeCatalogSnapshot;
+        this.timetables = timetables;
+    }
+
+    @Override
+    public Mono<List<RouteAPIResponseModel>> getRoutes(String arrivalIATACode, String departureIATACode) {
+        return Mono.just(routeCatalogSnapshot.getRoutes());
+    }
+
+    @Override
+    public Mono<RouteCatalogSnapshot> getRouteCatalog() {
+        return Mono.just(routeCatalogSnapshot);
+    }
+
+    @Override
+    public Mono<MonthlyTimetable> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) {
+        return Mono.justOrEmpty(timetables.apply(scheduleAPIRequestModel));
+    }
+
+    @Override
+    public Mono<MonthlyTimetable> refreshSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) {
+        return getSchedules(scheduleAPIRequestModel);
+    }
+
+    @Override
+    public TimetableSnapshot captureSnapshot() {
+        return new TimetableSnapshot(Instant.now(), routeCatalogSnapshot, List.of());
+    }
+
+    @Override
+    public void restoreSnapshot(TimetableSnapshot timetableSnapshot) {
+        // the stub data is fixed
+    }
+}
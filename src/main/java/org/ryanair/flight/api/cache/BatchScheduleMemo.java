@@ -0,0 +1,89 @@
+package org.ryanair.flight.api.cache;
+
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:20 PM
+ */
+
+/**
+ * Monthly schedules looked up by the queries of one batch search.
+ * Every schedule is looked up once per batch and its outcome, a timetable, no schedule or an error, is replayed to
+ * every query of the batch needing it, independent of what the schedule cache keeps or evicts in the meantime.
+ * The memo travels in the Reactor context of the batch, so single searches and other batches never share it.
+ * A stale schedule is memoized together with its fetch time, which is recorded in the ScheduleStaleness of every
+ * lookup replaying it, so each query of the batch is marked stale by the schedules it read and only by those.
+ */
+public final class BatchScheduleMemo {
+
+    private static final Object CONTEXT_KEY = BatchScheduleMemo.class;
+
+    private final Map<ScheduleCacheKey, Mono<MemoizedSchedule>> schedules = new ConcurrentHashMap<>();
+
+    /**
+     * @param context The Reactor context of a search.
+     * @return The memo of the batch the search belongs to, empty for a single search.
+     */
+    public static Optional<BatchScheduleMemo> find(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * @return The context with this memo added.
+     */
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Returns the memoized schedule of the given key, the loader is only subscribed by the first lookup of the key.
+     * The loader records staleness in a ScheduleStaleness of its own, every lookup, the first one included,
+     * then records the stale fetch time of the schedule in the ScheduleStaleness of its own context.
+     *
+     * @param scheduleCacheKey The leg and month of the schedule.
+     * @param loader           The lookup of the schedule on a miss.
+     * @return A Mono replaying the outcome of the first lookup.
+     */
+    public Mono<MonthlyTimetable> get(ScheduleCacheKey scheduleCacheKey, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader) {
+        Mono<MemoizedSchedule> memoizedSchedule = schedules.computeIfAbsent(scheduleCacheKey, key -> {
+            ScheduleStaleness loaderStaleness = new ScheduleStaleness();
+            return loader.apply(key)
+                    .map(timetable -> new MemoizedSchedule(timetable, loaderStaleness.getOldestFetchedAt()))
+                    .contextWrite(loaderStaleness::writeTo)
+                    .cache();
+        });
+        return Mono.deferContextual(context -> memoizedSchedule.map(schedule -> {
+            schedule.staleFetchedAt().ifPresent(fetchedAt -> ScheduleStaleness.find(context)
+                    .ifPresent(scheduleStaleness -> scheduleStaleness.record(fetchedAt)));
+            return schedule.timetable();
+        }));
+    }
+
+    /**
+     * @return The number of distinct schedules looked up by the batch so far.
+     */
+    public int size() {
+        return schedules.size();
+    }
+
+    /**
+     * The outcome of the first lookup of a schedule.
+     *
+     * @param timetable      The timetable served.
+     * @param staleFetchedAt The fetch time of the timetable if it was served stale, empty if it was fresh.
+     */
+    private record MemoizedSchedule(MonthlyTimetable timetable, Optional<Instant> staleFetchedAt) {
+    }
+}
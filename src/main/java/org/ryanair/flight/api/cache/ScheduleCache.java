@@ -0,0 +1,77 @@
+package org.ryanair.flight.api.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 1:12 PM
+ */
+
+/**
+ * Schedule cache interface defines behaviour methods for caching decoded monthly timetables per leg.
+ * Entries hold the whole month so different request windows share the same entry.
+ */
+public interface ScheduleCache {
+
+    /**
+     * Retrieves the monthly schedule for the given key, loading it with the given loader on a miss.
+     *
+     * @param key    The leg and month to look up.
+     * @param loader The function loading the schedule from the backend on a cache miss.
+     * @return A Mono emitting the cached or freshly loaded MonthlyTimetable.
+     */
+    Mono<MonthlyTimetable> get(ScheduleCacheKey key, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader);
+
+    /**
+     * Looks up when the cached schedule of the given key was fetched, without loading or counting a lookup.
+     *
+     * @param key The leg and month to look up.
+     * @return The fetch time of the schedule, also when it is past its time to live, empty if it is not loaded.
+     */
+    Optional<Instant> findFetchedAt(ScheduleCacheKey key);
+
+    /**
+     * Reloads the monthly schedule for the given key whether or not it is cached, concurrent reloads of the same key
+     * share one load. A failed or empty reload keeps the cached entry.
+     *
+     * @param key    The leg and month to reload.
+     * @param loader The function loading the schedule from the backend.
+     * @return A Mono emitting the reloaded MonthlyTimetable.
+     */
+    Mono<MonthlyTimetable> refresh(ScheduleCacheKey key, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader);
+
+    /**
+     * Ranks the cached keys by how likely they are to be looked up again, as seen by the eviction policy of the cache.
+     *
+     * @param limit The maximum number of keys returned.
+     * @return The most popular cached keys, the most popular first.
+     */
+    List<ScheduleCacheKey> findPopularKeys(int limit);
+
+    /**
+     * @return The loaded entries of the cache with the time they were fetched, used to persist the cache.
+     */
+    List<ScheduleCacheEntry> entries();
+
+    /**
+     * Restores a persisted entry unless the key is already cached. Restored entries are stale,
+     * they are served as they are and reloaded in the background on their first use.
+     *
+     * @param entry The persisted entry.
+     */
+    void restore(ScheduleCacheEntry entry);
+
+    /**
+     * @return Snapshot of the hit, miss and eviction statistics of the cache.
+     */
+    CacheStats stats();
+}
@@ -0,0 +1,22 @@
+package org.ryanair.flight.api.cache;
+
+import org.ryanair.flight.api.model.MonthlyTimetable;
+
+import java.time.Instant;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 6:50 PM
+ */
+
+/**
+ * One monthly timetable held by the schedule cache together with the time it was fetched from the backend.
+ *
+ * @param key       The leg and month of the timetable.
+ * @param timetable The monthly timetable.
+ * @param fetchedAt The time the timetable was fetched from the backend.
+ */
+public record ScheduleCacheEntry(ScheduleCacheKey key, MonthlyTimetable timetable, Instant fetchedAt) {
+}
@@ -0,0 +1,38 @@
+package org.ryanair.flight.api.cache;
+
+import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 1:10 PM
+ */
+
+/**
+ * Identity of one monthly schedule of a single leg, used as the schedule cache key.
+ *
+ * @param departure The IATA code of the departure airport.
+ * @param arrival   The IATA code of the arrival airport.
+ * @param year      The schedule year.
+ * @param month     The schedule month.
+ */
+public record ScheduleCacheKey(String departure, String arrival, int year, int month) {
+
+    public static ScheduleCacheKey of(ScheduleAPIRequestModel scheduleAPIRequestModel) {
+        return new ScheduleCacheKey(
+                scheduleAPIRequestModel.getDeparture(),
+                scheduleAPIRequestModel.getArrival(),
+                scheduleAPIRequestModel.getYear(),
+                scheduleAPIRequestModel.getMonth());
+    }
+
+    public ScheduleAPIRequestModel toRequestModel() {
+        return ScheduleAPIRequestModel.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .year(year)
+                .month(month)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package org.ryanair.flight.api.cache;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 12:30 AM
+ */
+
+/**
+ * Records whether a search was answered from schedules past their time to live, because the backend could not
+ * revalidate them in time, or from a route catalog the backend could not refresh. It travels in the Reactor context
+ * of the search and keeps the oldest fetch time served, the response then carries the staleness indicator.
+ */
+public final class ScheduleStaleness {
+
+    private static final Object CONTEXT_KEY = ScheduleStaleness.class;
+
+    private Instant oldestFetchedAt;
+    private Instant routeCatalogLoadedAt;
+
+    /**
+     * @param context The Reactor context of a search.
+     * @return The staleness of the search, empty if the caller does not track it.
+     */
+    public static Optional<ScheduleStaleness> find(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * @return The context with this staleness added.
+     */
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    public synchronized void record(Instant fetchedAt) {
+        if (Objects.isNull(oldestFetchedAt) || fetchedAt.isBefore(oldestFetchedAt)) {
+            oldestFetchedAt = fetchedAt;
+        }
+    }
+
+    public synchronized void recordRouteCatalog(Instant loadedAt) {
+        if (Objects.isNull(routeCatalogLoadedAt) || loadedAt.isBefore(routeCatalogLoadedAt)) {
+            routeCatalogLoadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * @return The fetch time of the oldest stale schedule served, empty if every schedule was fresh.
+     */
+    public synchronized Optional<Instant> getOldestFetchedAt() {
+        return Optional.ofNullable(oldestFetchedAt);
+    }
+
+    /**
+     * @return The load time of the stale route catalog served, empty if the catalog was fresh.
+     */
+    public synchronized Optional<Instant> getRouteCatalogLoadedAt() {
+        return Optional.ofNullable(routeCatalogLoadedAt);
+    }
+}
@@ -0,0 +1,28 @@
+package org.ryanair.flight.api.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:00 AM
+ */
+
+/**
+ * Search result cache interface defines behaviour methods for caching the search results of widened windows.
+ */
+public interface SearchResultCache {
+
+    /**
+     * Retrieves the result of the given widened window, computing it with the given loader on a miss or when
+     * a schedule it was computed from has changed or expired since.
+     *
+     * @param key    The pair and widened window.
+     * @param loader The search of the widened window.
+     * @return A Mono emitting the cached or freshly computed SearchWindowResult.
+     */
+    Mono<SearchWindowResult> get(SearchResultCacheKey key, Function<SearchResultCacheKey, Mono<SearchWindowResult>> loader);
+}
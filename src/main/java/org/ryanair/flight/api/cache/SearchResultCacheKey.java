@@ -0,0 +1,37 @@
+package org.ryanair.flight.api.cache;
+
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.util.EpochMinutes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 12:50 AM
+ */
+
+/**
+ * Identity of a cached search result, the pair of airports with the request window widened to whole buckets.
+ * The window start is moved back to the start of its bucket and the window end forward to the last minute of its bucket,
+ * unless it already is on a bucket boundary, so the widened window never reaches into another month of schedules.
+ *
+ * @param departure   The IATA code of the departure airport.
+ * @param arrival     The IATA code of the arrival airport.
+ * @param windowStart The start of the widened window.
+ * @param windowEnd   The end of the widened window.
+ */
+public record SearchResultCacheKey(String departure, String arrival, LocalDateTime windowStart, LocalDateTime windowEnd) {
+
+    public static SearchResultCacheKey of(RequestDataDto requestDataDto, int bucketMinutes) {
+        int windowStart = EpochMinutes.ofWindowStart(requestDataDto.getDepartureDateTime());
+        int windowEnd = EpochMinutes.ofWindowEnd(requestDataDto.getArrivalDateTime());
+        int widenedWindowStart = Math.floorDiv(windowStart, bucketMinutes) * bucketMinutes;
+        int widenedWindowEnd = Math.floorMod(windowEnd, bucketMinutes) == 0
+                ? windowEnd
+                : (Math.floorDiv(windowEnd, bucketMinutes) + 1) * bucketMinutes - 1;
+        return new SearchResultCacheKey(requestDataDto.getDeparture(), requestDataDto.getArrival(),
+                EpochMinutes.toLocalDateTime(widenedWindowStart), EpochMinutes.toLocalDateTime(widenedWindowEnd));
+    }
+}
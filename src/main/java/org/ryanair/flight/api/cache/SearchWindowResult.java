@@ -0,0 +1,58 @@
+package org.ryanair.flight.api.cache;
+
+import org.ryanair.flight.api.engine.ConnectionCandidate;
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 12:55 AM
+ */
+
+/**
+ * Direct and one-stop flights of a pair within a widened window, kept before legs are assigned to itineraries,
+ * so the result of any narrower window can be derived from it.
+ *
+ * @param directFlights    The direct flights within the window.
+ * @param hubConnections   The earliest connection of every departing flight, per hub.
+ * @param scheduleKeys     The schedules the result was computed from.
+ * @param fetchedSchedules The fetch time of every schedule the result was computed from, taken once it is computed,
+ *                         empty until then and for schedules without flights.
+ */
+public record SearchWindowResult(List<ScheduledFlight> directFlights,
+                                 List<HubConnections> hubConnections,
+                                 Set<ScheduleCacheKey> scheduleKeys,
+                                 Map<ScheduleCacheKey, FetchedSchedule> fetchedSchedules) {
+
+    public SearchWindowResult(List<ScheduledFlight> directFlights, List<HubConnections> hubConnections, Set<ScheduleCacheKey> scheduleKeys) {
+        this(directFlights, hubConnections, scheduleKeys, Map.of());
+    }
+
+    /**
+     * @param fetchedSchedules The fetch time of every schedule the result was computed from.
+     * @return This result with the fetch times of its schedules.
+     */
+    public SearchWindowResult withFetchedSchedules(Map<ScheduleCacheKey, FetchedSchedule> fetchedSchedules) {
+        return new SearchWindowResult(directFlights, hubConnections, scheduleKeys, Map.copyOf(fetchedSchedules));
+    }
+
+    /**
+     * @param hubAirport           The IATA code of the hub.
+     * @param connectionCandidates The connections through the hub in the order of the departing flights.
+     */
+    public record HubConnections(String hubAirport, List<ConnectionCandidate> connectionCandidates) {
+    }
+
+    /**
+     * @param fetchedAt The time the schedule was fetched from the backend.
+     * @param stale     Whether the schedule was past its time to live when the result was computed, so served stale.
+     */
+    public record FetchedSchedule(Instant fetchedAt, boolean stale) {
+    }
+}
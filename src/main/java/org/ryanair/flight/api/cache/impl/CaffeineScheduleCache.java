@@ -0,0 +1,231 @@
+package org.ryanair.flight.api.cache.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleCache;
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.config.property.ScheduleCachePropertyConfiguration;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 1:20 PM
+ */
+
+/**
+ * Implementation of the ScheduleCache interface backed by a Caffeine async cache.
+ * Entries are revalidated once their time to live has passed and the cache is bounded by the total number of flights it holds,
+ * evicting with Caffeine's frequency and recency based policy when the bound is reached.
+ * An expired entry is kept up to the maximum staleness longer, counted from the time it was fetched. When its revalidation fails, the circuit breaker being
+ * open for example, or takes longer than the revalidation timeout, the expired entry is served instead and recorded in
+ * the ScheduleStaleness of the search, so backend incidents do not fail searches over data already known.
+ * Restored entries are marked stale, they are served as they are and reloaded in the background on their first use.
+ * Snapshot entries already past the maximum staleness are not restored.
+ */
+@Component
+@Slf4j
+public class CaffeineScheduleCache implements ScheduleCache {
+
+    private static final String CACHE_NAME = "ryanair-schedules";
+    private static final String STALE_SERVED_COUNTER = "schedule.cache.stale.served";
+
+    private final AsyncCache<ScheduleCacheKey, CachedTimetable> cache;
+    private final Map<ScheduleCacheKey, Mono<CachedTimetable>> revalidations = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration maxAge;
+    private final Duration revalidateTimeout;
+    private final Counter staleServedCounter;
+
+    @Autowired
+    public CaffeineScheduleCache(ScheduleCachePropertyConfiguration propertyConfiguration, MeterRegistry meterRegistry) {
+        this.ttl = Duration.ofSeconds(propertyConfiguration.getTtlSeconds());
+        this.maxAge = ttl.plusSeconds(propertyConfiguration.getMaxStalenessSeconds());
+        this.revalidateTimeout = Duration.ofMillis(propertyConfiguration.getRevalidateTimeoutMs());
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(new FetchedAtExpiry())
+                .maximumWeight(propertyConfiguration.getMaxWeightFlights())
+                .weigher((ScheduleCacheKey key, CachedTimetable value) -> value.timetable().size() + 1)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.staleServedCounter = Counter.builder(STALE_SERVED_COUNTER)
+                .description("Expired schedules served because the backend could not revalidate them")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the monthly schedule for the given key. Concurrent misses for the same key share one load,
+     * a failed or empty load is not cached. A restored entry is returned right away and reloaded in the background.
+     * An expired entry is revalidated, falling back to the expired entry when the revalidation fails or is slow.
+     *
+     * @param key    The leg and month to look up.
+     * @param loader The function loading the schedule from the backend on a cache miss.
+     * @return A Mono emitting the cached or freshly loaded MonthlyTimetable.
+     */
+    @Override
+    public Mono<MonthlyTimetable> get(ScheduleCacheKey key, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader) {
+        return Mono.deferContextual(context -> Mono.fromFuture(() -> cache.get(key, (cacheKey, executor) -> load(cacheKey, loader).toFuture()), true)
+                .flatMap(cachedTimetable -> {
+                    if (!isExpired(cachedTimetable)) {
+                        return Mono.just(cachedTimetable);
+                    }
+                    if (cachedTimetable.restored()) {
+                        revalidate(key, loader).subscribe(
+                                revalidatedTimetable -> log.debug("Restored schedule {} refreshed in the background", key),
+                                throwable -> log.warn("Background refresh of restored schedule {} failed - {}", key, throwable.getMessage()));
+                        return Mono.just(serveStale(cachedTimetable, context));
+                    }
+                    return revalidate(key, loader)
+                            .timeout(revalidateTimeout)
+                            .onErrorResume(throwable -> {
+                                log.warn("Serving stale schedule {} fetched at {}, revalidation failed - {}",
+                                        key, cachedTimetable.fetchedAt(), throwable.getMessage());
+                                return Mono.just(serveStale(cachedTimetable, context));
+                            });
+                })
+                .map(CachedTimetable::timetable));
+    }
+
+    @Override
+    public Optional<Instant> findFetchedAt(ScheduleCacheKey key) {
+        // read through the map view so the lookup is not counted in the cache statistics
+        CompletableFuture<CachedTimetable> cachedTimetable = cache.asMap().get(key);
+        if (Objects.isNull(cachedTimetable) || !cachedTimetable.isDone() || cachedTimetable.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cachedTimetable.getNow(null)).map(CachedTimetable::fetchedAt);
+    }
+
+    @Override
+    public Mono<MonthlyTimetable> refresh(ScheduleCacheKey key, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader) {
+        return revalidate(key, loader).map(CachedTimetable::timetable);
+    }
+
+    @Override
+    public List<ScheduleCacheKey> findPopularKeys(int limit) {
+        // the eviction policy ranks the entries by the access frequency it keeps for its admission decisions
+        return cache.synchronous().policy().eviction()
+                .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+                .orElse(List.of());
+    }
+
+    @Override
+    public List<ScheduleCacheEntry> entries() {
+        return cache.synchronous().asMap().entrySet()
+                .stream()
+                .map(entry -> new ScheduleCacheEntry(entry.getKey(), entry.getValue().timetable(), entry.getValue().fetchedAt()))
+                .toList();
+    }
+
+    @Override
+    public void restore(ScheduleCacheEntry entry) {
+        if (entry.fetchedAt().plus(maxAge).isBefore(Instant.now())) {
+            log.debug("Schedule {} fetched at {} is past the maximum staleness, not restored", entry.key(), entry.fetchedAt());
+            return;
+        }
+        cache.asMap().putIfAbsent(entry.key(),
+                CompletableFuture.completedFuture(new CachedTimetable(entry.timetable(), entry.fetchedAt(), true)));
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private static Mono<CachedTimetable> load(ScheduleCacheKey key, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader) {
+        return loader.apply(key).map(timetable -> new CachedTimetable(timetable, Instant.now(), false));
+    }
+
+    private boolean isExpired(CachedTimetable cachedTimetable) {
+        return cachedTimetable.restored() || cachedTimetable.fetchedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    /**
+     * Reloads an expired, restored or refreshed entry once, concurrent lookups of the same entry share the reload.
+     * The reload is not cancelled by a lookup giving up on it, so a slow reload still replaces the entry.
+     * A failed reload keeps the expired entry until it reaches the maximum staleness.
+     */
+    private Mono<CachedTimetable> revalidate(ScheduleCacheKey key, Function<ScheduleCacheKey, Mono<MonthlyTimetable>> loader) {
+        Mono<CachedTimetable> ongoingRevalidation = revalidations.get(key);
+        if (Objects.nonNull(ongoingRevalidation)) {
+            return ongoingRevalidation;
+        }
+        Mono<CachedTimetable> revalidation = load(key, loader)
+                .doOnNext(cachedTimetable -> cache.put(key, CompletableFuture.completedFuture(cachedTimetable)))
+                .doFinally(signalType -> revalidations.remove(key))
+                .cache();
+        ongoingRevalidation = revalidations.putIfAbsent(key, revalidation);
+        if (Objects.nonNull(ongoingRevalidation)) {
+            return ongoingRevalidation;
+        }
+        // subscribed here so the reload completes even when every lookup times out or is cancelled
+        revalidation.subscribe(cachedTimetable -> {
+        }, throwable -> {
+        });
+        return revalidation;
+    }
+
+    /**
+     * Records an expired entry about to be served in the staleness of the search, restored entries still within
+     * their time to live are served as they are.
+     */
+    private CachedTimetable serveStale(CachedTimetable cachedTimetable, ContextView context) {
+        if (cachedTimetable.fetchedAt().plus(ttl).isBefore(Instant.now())) {
+            staleServedCounter.increment();
+            ScheduleStaleness.find(context).ifPresent(staleness -> staleness.record(cachedTimetable.fetchedAt()));
+        }
+        return cachedTimetable;
+    }
+
+    /**
+     * Expires an entry once it is older than its time to live plus the maximum staleness, counted from the time it was
+     * fetched rather than the time it was written, so a restored entry is not kept longer than a fetched one.
+     */
+    private final class FetchedAtExpiry implements Expiry<ScheduleCacheKey, CachedTimetable> {
+
+        @Override
+        public long expireAfterCreate(ScheduleCacheKey key, CachedTimetable value, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), value.fetchedAt().plus(maxAge)).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ScheduleCacheKey key, CachedTimetable value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ScheduleCacheKey key, CachedTimetable value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Cached value holding the timetable with the time it was fetched and whether it was restored from a snapshot.
+     */
+    private record CachedTimetable(MonthlyTimetable timetable, Instant fetchedAt, boolean restored) {
+    }
+}
@@ -0,0 +1,190 @@
+package org.ryanair.flight.api.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.*;
+import org.ryanair.flight.api.cache.SearchWindowResult.FetchedSchedule;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.config.property.ScheduleCachePropertyConfiguration;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.metrics.SearchTrace;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:05 AM
+ */
+
+/**
+ * Implementation of the SearchResultCache interface backed by a Caffeine cache bounded by the number of windows.
+ * When a result is computed, the fetch time of every schedule it was computed from is taken from the schedule cache.
+ * The result is reused while each of those schedules is still cached, within its time to live and not fetched again
+ * since, so a result never outlives the freshness of its schedules. A result computed from stale schedules is thus
+ * computed again on its next lookup. Schedules without flights are not cached and so not tracked.
+ * Lookups of a window still being computed join that computation, which runs in the Reactor context of the lookup
+ * that started it. The fetch times of the schedules are therefore kept in the result and replayed into the context of
+ * every lookup it is returned to: a schedule served stale is recorded in the ScheduleStaleness of the lookup, and a
+ * lookup which did not compute the result records its wait and one schedule cache hit per schedule on its SearchTrace.
+ * The computation records a stale route catalog in a ScheduleStaleness of its own, which is replayed the same way, and
+ * such a result is computed again on its next lookup as well.
+ */
+@Component
+@Slf4j
+public class CaffeineSearchResultCache implements SearchResultCache {
+
+    private static final String LOOKUPS_COUNTER = "flight.search.result.cache.lookups";
+    private static final String SIZE_GAUGE = "flight.search.result.cache.size";
+    private static final String RESULT_TAG = "result";
+    private static final String RESULT_HIT = "hit";
+    private static final String RESULT_MISS = "miss";
+    private static final String RESULT_INVALIDATED = "invalidated";
+
+    private final Cache<SearchResultCacheKey, CachedResult> cache;
+    private final ScheduleCache scheduleCache;
+    private final Duration scheduleTtl;
+    private final Map<String, Counter> lookupCounters = new HashMap<>();
+
+    @Autowired
+    public CaffeineSearchResultCache(FlightSearchPropertyConfiguration propertyConfiguration,
+                                     ScheduleCachePropertyConfiguration scheduleCachePropertyConfiguration,
+                                     ScheduleCache scheduleCache, MeterRegistry meterRegistry) {
+        this.scheduleCache = scheduleCache;
+        this.scheduleTtl = Duration.ofSeconds(scheduleCachePropertyConfiguration.getTtlSeconds());
+        // no schedule outlives its time to live, so neither does a result computed from it
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(scheduleTtl)
+                .maximumSize(propertyConfiguration.getResultCacheMaxEntries())
+                .build();
+        for (String result : new String[]{RESULT_HIT, RESULT_MISS, RESULT_INVALIDATED}) {
+            lookupCounters.put(result, Counter.builder(LOOKUPS_COUNTER)
+                    .description("Search result cache lookups by outcome")
+                    .tag(RESULT_TAG, result)
+                    .register(meterRegistry));
+        }
+        Gauge.builder(SIZE_GAUGE, cache, Cache::estimatedSize)
+                .description("Search results held by the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the result of the given widened window, computing it when it is missing or a schedule it was computed
+     * from has changed or expired since. A failed computation is not cached.
+     *
+     * @param key    The pair and widened window.
+     * @param loader The search of the widened window.
+     * @return A Mono emitting the cached or freshly computed SearchWindowResult.
+     */
+    @Override
+    public Mono<SearchWindowResult> get(SearchResultCacheKey key, Function<SearchResultCacheKey, Mono<SearchWindowResult>> loader) {
+        return Mono.deferContextual(context -> {
+            String[] result = {RESULT_HIT};
+            CachedResult cachedResult = cache.asMap().compute(key, (cacheKey, existingResult) -> {
+                if (Objects.isNull(existingResult)) {
+                    result[0] = RESULT_MISS;
+                    return new CachedResult(cacheKey, loader);
+                }
+                if (!isValid(existingResult)) {
+                    result[0] = RESULT_INVALIDATED;
+                    return new CachedResult(cacheKey, loader);
+                }
+                return existingResult;
+            });
+            lookupCounters.get(result[0]).increment();
+            boolean computedByThisLookup = !RESULT_HIT.equals(result[0]);
+            long startNanos = System.nanoTime();
+            return cachedResult.result.doOnNext(searchWindowResult -> replayInto(context, searchWindowResult,
+                    cachedResult.staleRouteCatalogLoadedAt, computedByThisLookup, System.nanoTime() - startNanos));
+        });
+    }
+
+    private boolean isValid(CachedResult cachedResult) {
+        Map<ScheduleCacheKey, FetchedSchedule> fetchedSchedules = cachedResult.fetchedSchedules;
+        if (Objects.isNull(fetchedSchedules)) {
+            // still being computed
+            return true;
+        }
+        if (Objects.nonNull(cachedResult.staleRouteCatalogLoadedAt)) {
+            return false;
+        }
+        Instant freshSince = Instant.now().minus(scheduleTtl);
+        return fetchedSchedules.entrySet()
+                .stream()
+                .allMatch(schedule -> schedule.getValue().fetchedAt().isAfter(freshSince) && scheduleCache.findFetchedAt(schedule.getKey())
+                        .filter(schedule.getValue().fetchedAt()::equals)
+                        .isPresent());
+    }
+
+    /**
+     * Replays the schedules of a result into the context of a lookup it is returned to.
+     * The lookup computing the result recorded its schedule lookups and stages itself while computing it.
+     *
+     * @param context              The Reactor context of the lookup.
+     * @param searchWindowResult   The result returned to the lookup.
+     * @param routeCatalogLoadedAt The load time of the stale route catalog the result was computed from, null if fresh.
+     * @param computedByThisLookup Whether the lookup computed the result.
+     * @param waitNanos            The time the lookup waited for the result.
+     */
+    private static void replayInto(ContextView context, SearchWindowResult searchWindowResult, Instant routeCatalogLoadedAt,
+                                   boolean computedByThisLookup, long waitNanos) {
+        ScheduleStaleness.find(context).ifPresent(scheduleStaleness -> {
+            searchWindowResult.fetchedSchedules().values()
+                    .stream()
+                    .filter(FetchedSchedule::stale)
+                    .forEach(fetchedSchedule -> scheduleStaleness.record(fetchedSchedule.fetchedAt()));
+            if (Objects.nonNull(routeCatalogLoadedAt)) {
+                scheduleStaleness.recordRouteCatalog(routeCatalogLoadedAt);
+            }
+        });
+        if (!computedByThisLookup) {
+            SearchTrace.find(context).ifPresent(searchTrace -> {
+                searchTrace.addDuration(SearchMetrics.STAGE_RESULT_CACHE, waitNanos);
+                searchWindowResult.fetchedSchedules().keySet().forEach(scheduleCacheKey -> searchTrace.countScheduleLookup(false));
+            });
+        }
+    }
+
+    /**
+     * A result being computed or computed, with the fetch times of its schedules and the load time of a stale route
+     * catalog once it is computed.
+     */
+    private final class CachedResult {
+        private final Mono<SearchWindowResult> result;
+        private volatile Map<ScheduleCacheKey, FetchedSchedule> fetchedSchedules;
+        private volatile Instant staleRouteCatalogLoadedAt;
+
+        private CachedResult(SearchResultCacheKey key, Function<SearchResultCacheKey, Mono<SearchWindowResult>> loader) {
+            ScheduleStaleness computationStaleness = new ScheduleStaleness();
+            this.result = Mono.defer(() -> loader.apply(key))
+                    .contextWrite(computationStaleness::writeTo)
+                    .map(searchWindowResult -> {
+                        staleRouteCatalogLoadedAt = computationStaleness.getRouteCatalogLoadedAt().orElse(null);
+                        // a schedule past its time to live once the result is computed was served stale to it
+                        Instant freshSince = Instant.now().minus(scheduleTtl);
+                        Map<ScheduleCacheKey, FetchedSchedule> fetchedAt = new HashMap<>();
+                        searchWindowResult.scheduleKeys().forEach(scheduleKey -> scheduleCache.findFetchedAt(scheduleKey)
+                                .ifPresent(instant -> fetchedAt.put(scheduleKey, new FetchedSchedule(instant, instant.isBefore(freshSince)))));
+                        SearchWindowResult computedResult = searchWindowResult.withFetchedSchedules(fetchedAt);
+                        fetchedSchedules = computedResult.fetchedSchedules();
+                        return computedResult;
+                    })
+                    .doOnError(throwable -> cache.asMap().remove(key, this))
+                    .cache();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.ryanair.flight.api.catalog;
+
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:12 AM
+ */
+
+/**
+ * Route catalog interface defines behaviour methods for serving the Ryanair route network from memory.
+ * The catalog is loaded once, refreshed in the background and always serves the last good snapshot.
+ */
+public interface RouteCatalog {
+
+    /**
+     * Retrieves the current route catalog snapshot, loading it from the backend if nothing has been loaded yet.
+     *
+     * @return A Mono emitting the current RouteCatalogSnapshot.
+     * @throws BackendInvocationException if the catalog was never loaded and the backend invocation fails.
+     */
+    Mono<RouteCatalogSnapshot> getSnapshot() throws BackendInvocationException;
+
+    /**
+     * Reloads the route catalog from the backend and atomically swaps in the new snapshot.
+     * If the reload fails the previous snapshot is kept and emitted instead.
+     *
+     * @return A Mono emitting the snapshot which is active after the refresh.
+     */
+    Mono<RouteCatalogSnapshot> refresh();
+
+    /**
+     * @return The current snapshot without triggering a load, empty if nothing has been loaded yet.
+     */
+    Optional<RouteCatalogSnapshot> getCurrentSnapshot();
+
+    /**
+     * Restores a persisted snapshot unless a snapshot has been loaded already.
+     * The scheduled refresh replaces the restored snapshot as soon as the backend answers.
+     *
+     * @param snapshot The persisted snapshot.
+     * @return True if the snapshot was restored, false if a snapshot was already loaded.
+     */
+    boolean restore(RouteCatalogSnapshot snapshot);
+}
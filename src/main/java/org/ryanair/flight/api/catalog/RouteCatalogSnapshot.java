@@ -0,0 +1,32 @@
+package org.ryanair.flight.api.catalog;
+
+import lombok.Getter;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:14 AM
+ */
+
+/**
+ * Immutable view of the valid route network at the time it was loaded from the backend.
+ * The adjacency index is built once per snapshot so it is shared by every search until the next refresh.
+ */
+@Getter
+public final class RouteCatalogSnapshot {
+
+    private final List<RouteAPIResponseModel> routes;
+    private final Instant loadedAt;
+    private final RouteIndex routeIndex;
+
+    public RouteCatalogSnapshot(List<RouteAPIResponseModel> routes, Instant loadedAt) {
+        this.routes = List.copyOf(routes);
+        this.loadedAt = loadedAt;
+        this.routeIndex = RouteIndex.of(this.routes);
+    }
+}
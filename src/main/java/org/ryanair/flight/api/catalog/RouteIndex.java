@@ -0,0 +1,201 @@
+package org.ryanair.flight.api.catalog;
+
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:02 AM
+ */
+
+/**
+ * Airport adjacency index over the route catalog.
+ * Keeps airport to outgoing routes and airport to incoming routes keyed by interned IATA codes,
+ * so direct lookups are a hash probe and one-stop discovery only touches the neighbours of the two airports.
+ * Routes with more stops are found by a depth bounded search pruned with the hop distances to the arrival airport,
+ * computed once per arrival airport and kept for the lifetime of the index.
+ */
+public final class RouteIndex {
+
+    private final Map<String, Map<String, RouteAPIResponseModel>> outgoingRoutes;
+    private final Map<String, Map<String, RouteAPIResponseModel>> incomingRoutes;
+    // arrival airport to the least number of legs from every airport which can reach it
+    private final Map<String, Map<String, Integer>> legsToArrivalCache = new ConcurrentHashMap<>();
+
+    private RouteIndex(Map<String, Map<String, RouteAPIResponseModel>> outgoingRoutes, Map<String, Map<String, RouteAPIResponseModel>> incomingRoutes) {
+        this.outgoingRoutes = outgoingRoutes;
+        this.incomingRoutes = incomingRoutes;
+    }
+
+    /**
+     * Builds the adjacency index for the given routes. When the same airport pair is listed more than once the first route wins.
+     *
+     * @param routes The routes to index.
+     * @return RouteIndex over the given routes.
+     */
+    public static RouteIndex of(List<RouteAPIResponseModel> routes) {
+        Map<String, Map<String, RouteAPIResponseModel>> outgoing = new HashMap<>();
+        Map<String, Map<String, RouteAPIResponseModel>> incoming = new HashMap<>();
+        for (RouteAPIResponseModel route : routes) {
+            if (Objects.isNull(route.getAirportFrom()) || Objects.isNull(route.getAirportTo())) {
+                continue;
+            }
+            String airportFrom = route.getAirportFrom().intern();
+            String airportTo = route.getAirportTo().intern();
+            outgoing.computeIfAbsent(airportFrom, key -> new LinkedHashMap<>()).putIfAbsent(airportTo, route);
+            incoming.computeIfAbsent(airportTo, key -> new LinkedHashMap<>()).putIfAbsent(airportFrom, route);
+        }
+        outgoing.replaceAll((airport, routesByAirport) -> Collections.unmodifiableMap(routesByAirport));
+        incoming.replaceAll((airport, routesByAirport) -> Collections.unmodifiableMap(routesByAirport));
+        return new RouteIndex(Map.copyOf(outgoing), Map.copyOf(incoming));
+    }
+
+    /**
+     * Finds the direct route between the given airports.
+     *
+     * @param departureIATACode The IATA code of the departure airport.
+     * @param arrivalIATACode   The IATA code of the arrival airport.
+     * @return The direct route if the airports are connected.
+     */
+    public Optional<RouteAPIResponseModel> findDirectRoute(String departureIATACode, String arrivalIATACode) {
+        return Optional.ofNullable(getOutgoingRoutes(departureIATACode).get(arrivalIATACode));
+    }
+
+    /**
+     * Finds all one-stop routes between the given airports by intersecting the out-neighbours of the departure airport
+     * with the in-neighbours of the arrival airport.
+     *
+     * @param departureIATACode The IATA code of the departure airport.
+     * @param arrivalIATACode   The IATA code of the arrival airport.
+     * @return A list of two element route lists, departing leg first.
+     */
+    public List<List<RouteAPIResponseModel>> findOneStopRoutes(String departureIATACode, String arrivalIATACode) {
+        Map<String, RouteAPIResponseModel> departingLegs = getOutgoingRoutes(departureIATACode);
+        Map<String, RouteAPIResponseModel> arrivingLegs = getIncomingRoutes(arrivalIATACode);
+        List<List<RouteAPIResponseModel>> oneStopRoutes = new ArrayList<>();
+        boolean iterateDeparting = departingLegs.size() <= arrivingLegs.size();
+        Map<String, RouteAPIResponseModel> smaller = iterateDeparting ? departingLegs : arrivingLegs;
+        Map<String, RouteAPIResponseModel> larger = iterateDeparting ? arrivingLegs : departingLegs;
+        smaller.forEach((hub, route) -> {
+            RouteAPIResponseModel other = larger.get(hub);
+            if (Objects.nonNull(other)) {
+                oneStopRoutes.add(iterateDeparting ? Arrays.asList(route, other) : Arrays.asList(other, route));
+            }
+        });
+        return oneStopRoutes;
+    }
+
+    /**
+     * Finds routes with two up to the given number of stops, routes with fewer stops first.
+     * An airport is only entered when the arrival airport can still be reached from it with the legs left,
+     * and no airport is visited twice on a route.
+     *
+     * @param departureIATACode The IATA code of the departure airport.
+     * @param arrivalIATACode   The IATA code of the arrival airport.
+     * @param maxStops          The maximum number of stops of a route.
+     * @param maxRoutes         The maximum number of routes returned, the search stops once it is reached.
+     * @return A list of route lists with one route per leg, departing leg first.
+     */
+    public List<List<RouteAPIResponseModel>> findMultiStopRoutes(String departureIATACode, String arrivalIATACode, int maxStops, int maxRoutes) {
+        List<List<RouteAPIResponseModel>> multiStopRoutes = new ArrayList<>();
+        Map<String, Integer> legsToArrival = getLegsToArrival(arrivalIATACode);
+        if (!legsToArrival.containsKey(departureIATACode)) {
+            return multiStopRoutes;
+        }
+        Set<String> visitedAirports = new HashSet<>();
+        visitedAirports.add(departureIATACode);
+        for (int stops = 2; stops <= maxStops && multiStopRoutes.size() < maxRoutes; stops++) {
+            collectRoutes(departureIATACode, arrivalIATACode, stops + 1, new ArrayList<>(), visitedAirports,
+                    legsToArrival, multiStopRoutes, maxRoutes);
+        }
+        return multiStopRoutes;
+    }
+
+    /**
+     * Retrieves the least number of legs needed to reach the given airport, by a breadth first search over the incoming routes.
+     *
+     * @param arrivalIATACode The IATA code of the arrival airport.
+     * @return The number of legs keyed by departure airport, airports which cannot reach the arrival airport are absent.
+     */
+    public Map<String, Integer> getLegsToArrival(String arrivalIATACode) {
+        return legsToArrivalCache.computeIfAbsent(arrivalIATACode, airport -> {
+            Map<String, Integer> legsToArrival = new HashMap<>();
+            Deque<String> queue = new ArrayDeque<>();
+            legsToArrival.put(airport, 0);
+            queue.add(airport);
+            while (!queue.isEmpty()) {
+                String current = queue.poll();
+                int legs = legsToArrival.get(current) + 1;
+                for (String previous : getIncomingRoutes(current).keySet()) {
+                    if (legsToArrival.putIfAbsent(previous, legs) == null) {
+                        queue.add(previous);
+                    }
+                }
+            }
+            return Collections.unmodifiableMap(legsToArrival);
+        });
+    }
+
+    private void collectRoutes(String airport, String arrivalIATACode, int legsLeft, List<RouteAPIResponseModel> route,
+                               Set<String> visitedAirports, Map<String, Integer> legsToArrival,
+                               List<List<RouteAPIResponseModel>> multiStopRoutes, int maxRoutes) {
+        if (legsLeft == 1) {
+            RouteAPIResponseModel lastLeg = getOutgoingRoutes(airport).get(arrivalIATACode);
+            if (Objects.nonNull(lastLeg)) {
+                List<RouteAPIResponseModel> completeRoute = new ArrayList<>(route);
+                completeRoute.add(lastLeg);
+                multiStopRoutes.add(Collections.unmodifiableList(completeRoute));
+            }
+            return;
+        }
+        for (Map.Entry<String, RouteAPIResponseModel> outgoingRoute : getOutgoingRoutes(airport).entrySet()) {
+            if (multiStopRoutes.size() >= maxRoutes) {
+                return;
+            }
+            String nextAirport = outgoingRoute.getKey();
+            Integer legsFromNextAirport = legsToArrival.get(nextAirport);
+            // the arrival airport is only entered by the last leg, airports too far from it are pruned with their whole subtree
+            if (nextAirport.equals(arrivalIATACode) || Objects.isNull(legsFromNextAirport) || legsFromNextAirport > legsLeft - 1
+                    || !visitedAirports.add(nextAirport)) {
+                continue;
+            }
+            route.add(outgoingRoute.getValue());
+            collectRoutes(nextAirport, arrivalIATACode, legsLeft - 1, route, visitedAirports, legsToArrival, multiStopRoutes, maxRoutes);
+            route.removeLast();
+            visitedAirports.remove(nextAirport);
+        }
+    }
+
+    /**
+     * Retrieves the routes leaving the given airport keyed by arrival airport.
+     *
+     * @param airport The IATA code of the airport.
+     * @return Outgoing routes, empty if the airport is unknown.
+     */
+    public Map<String, RouteAPIResponseModel> getOutgoingRoutes(String airport) {
+        return outgoingRoutes.getOrDefault(airport, Collections.emptyMap());
+    }
+
+    /**
+     * Retrieves the routes arriving at the given airport keyed by departure airport.
+     *
+     * @param airport The IATA code of the airport.
+     * @return Incoming routes, empty if the airport is unknown.
+     */
+    public Map<String, RouteAPIResponseModel> getIncomingRoutes(String airport) {
+        return incomingRoutes.getOrDefault(airport, Collections.emptyMap());
+    }
+
+    /**
+     * @return All airports which have at least one outgoing or incoming route.
+     */
+    public Set<String> getAirports() {
+        Set<String> airports = new HashSet<>(outgoingRoutes.keySet());
+        airports.addAll(incomingRoutes.keySet());
+        return airports;
+    }
+}
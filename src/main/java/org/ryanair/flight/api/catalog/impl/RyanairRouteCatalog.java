@@ -0,0 +1,176 @@
+package org.ryanair.flight.api.catalog.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.catalog.RouteCatalog;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.client.APIClient;
+import org.ryanair.flight.api.config.property.RouteCatalogPropertyConfiguration;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.exception.DataValidationException;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.util.Constant;
+import org.ryanair.flight.api.util.ResponseMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:20 AM
+ */
+
+/**
+ * Implementation of the RouteCatalog interface backed by the Ryanair routes API.
+ * The snapshot is loaded at startup and refreshed on a fixed delay, a failed refresh keeps serving the last good snapshot.
+ * A snapshot older than the refresh interval, kept after failed refreshes or restored, is recorded in the
+ * ScheduleStaleness of the search it is served to.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class RyanairRouteCatalog implements RouteCatalog {
+
+    private final APIClient apiClient;
+    private final RouteCatalogPropertyConfiguration propertyConfiguration;
+
+    private final AtomicReference<RouteCatalogSnapshot> currentSnapshot = new AtomicReference<>();
+    private final AtomicReference<Mono<RouteCatalogSnapshot>> inFlightRefresh = new AtomicReference<>();
+
+    /**
+     * Retrieves the current snapshot, or loads the catalog when no snapshot is available yet.
+     *
+     * @return A Mono emitting the current RouteCatalogSnapshot.
+     * @throws BackendInvocationException if the catalog was never loaded and the backend invocation fails.
+     */
+    @Override
+    public Mono<RouteCatalogSnapshot> getSnapshot() throws BackendInvocationException {
+        return Mono.deferContextual(context -> {
+            RouteCatalogSnapshot snapshot = currentSnapshot.get();
+            return (Objects.nonNull(snapshot) ? Mono.just(snapshot) : refresh())
+                    .doOnNext(servedSnapshot -> recordStaleness(servedSnapshot, context));
+        });
+    }
+
+    /**
+     * Reloads the catalog from the backend. Concurrent callers share the same in-flight reload.
+     *
+     * @return A Mono emitting the snapshot which is active after the refresh.
+     */
+    @Override
+    public Mono<RouteCatalogSnapshot> refresh() {
+        return Mono.defer(() -> {
+            while (true) {
+                Mono<RouteCatalogSnapshot> existing = inFlightRefresh.get();
+                if (Objects.nonNull(existing)) {
+                    return existing;
+                }
+                AtomicReference<Mono<RouteCatalogSnapshot>> self = new AtomicReference<>();
+                Mono<RouteCatalogSnapshot> reload = loadSnapshot()
+                        .doFinally(signalType -> inFlightRefresh.compareAndSet(self.get(), null))
+                        .cache();
+                self.set(reload);
+                if (inFlightRefresh.compareAndSet(null, reload)) {
+                    return reload;
+                }
+            }
+        });
+    }
+
+    @Override
+    public Optional<RouteCatalogSnapshot> getCurrentSnapshot() {
+        return Optional.ofNullable(currentSnapshot.get());
+    }
+
+    @Override
+    public boolean restore(RouteCatalogSnapshot snapshot) {
+        boolean restored = currentSnapshot.compareAndSet(null, snapshot);
+        if (restored) {
+            log.info("Route catalog restored with [{}] routes loaded at [{}]", snapshot.getRoutes().size(), snapshot.getLoadedAt());
+        }
+        return restored;
+    }
+
+    /**
+     * Records a snapshot not refreshed within the refresh interval in the staleness of the search.
+     */
+    private void recordStaleness(RouteCatalogSnapshot snapshot, ContextView context) {
+        if (snapshot.getLoadedAt().plusMillis(propertyConfiguration.getRefreshIntervalMs()).isBefore(Instant.now())) {
+            ScheduleStaleness.find(context).ifPresent(staleness -> staleness.recordRouteCatalog(snapshot.getLoadedAt()));
+        }
+    }
+
+    /**
+     * Periodically refreshes the catalog in the background.
+     */
+    @Scheduled(initialDelayString = "${backend.ryanair.catalog.initial-delay-ms}",
+            fixedDelayString = "${backend.ryanair.catalog.refresh-interval-ms}")
+    public void scheduledRefresh() {
+        refresh().subscribe(
+                snapshot -> log.debug("Route catalog refresh finished - {} routes loaded at {}", snapshot.getRoutes().size(), snapshot.getLoadedAt()),
+                throwable -> log.warn("Route catalog refresh failed and no previous snapshot is available - {}", throwable.getMessage()));
+    }
+
+    /**
+     * Loads and filters the route list from the backend and swaps it in as the current snapshot.
+     *
+     * @return A Mono emitting the new snapshot, or the previous one if the load failed.
+     */
+    private Mono<RouteCatalogSnapshot> loadSnapshot() {
+        return apiClient.getRoutes()
+                .flatMap(this::filterAndGetValidRoutes)
+                .map(routes -> new RouteCatalogSnapshot(routes, Instant.now()))
+                .doOnNext(snapshot -> {
+                    currentSnapshot.set(snapshot);
+                    log.info("Route catalog swapped in with [{}] valid routes", snapshot.getRoutes().size());
+                })
+                .onErrorResume(throwable -> {
+                    RouteCatalogSnapshot previous = currentSnapshot.get();
+                    if (Objects.isNull(previous)) {
+                        return Mono.error(throwable);
+                    }
+                    log.warn("Route catalog refresh failed, keeping snapshot loaded at [{}] - {}", previous.getLoadedAt(), throwable.getMessage());
+                    return Mono.just(previous);
+                });
+    }
+
+    /**
+     * Filters and retrieves valid routes from the list of RouteAPIResponseModel objects.
+     *
+     * @param routeList The list of RouteAPIResponseModel objects to filter.
+     * @return A Mono emitting a list of valid RouteAPIResponseModel objects.
+     */
+    private Mono<List<RouteAPIResponseModel>> filterAndGetValidRoutes(List<RouteAPIResponseModel> routeList) {
+        List<RouteAPIResponseModel> list = routeList.stream()
+                .filter(
+                        this::checkRouteValidityAndFilter
+                ).toList();
+        if (list.isEmpty()) {
+            return Mono.error(new DataValidationException(ResponseMessage.ERR_MSG_NO_VALID_ROUTE_FOUND));
+        } else {
+            return Mono.just(list);
+        }
+    }
+
+    /**
+     * Checks the validity of a route and filters it based on certain conditions.
+     *
+     * @param routeAPIResponseModel The RouteAPIResponseModel object to check.
+     * @return True if the route is valid, false otherwise.
+     */
+    private boolean checkRouteValidityAndFilter(RouteAPIResponseModel routeAPIResponseModel) {
+        return Objects.isNull(routeAPIResponseModel.getConnectingAirport()) &&
+                Constant.PROVIDER.equals(routeAPIResponseModel.getOperator());
+    }
+}
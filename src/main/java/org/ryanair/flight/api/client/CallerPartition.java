@@ -0,0 +1,40 @@
+package org.ryanair.flight.api.client;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:10 PM
+ */
+
+/**
+ * Identity of the inbound request a backend call is made for, used to queue backend calls fairly across requests.
+ * It travels in the Reactor context of the request, calls made outside of a request, the warm-up for example,
+ * share one background partition.
+ *
+ * @param id The request identifier.
+ */
+public record CallerPartition(String id) {
+
+    private static final Object CONTEXT_KEY = CallerPartition.class;
+
+    /**
+     * @param context The Reactor context of a backend call.
+     * @return The partition of the request the call is made for, empty outside of a request.
+     */
+    public static Optional<CallerPartition> find(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * @return The context with this partition added.
+     */
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+}
@@ -0,0 +1,26 @@
+package org.ryanair.flight.api.client;
+
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:10 PM
+ */
+
+/**
+ * Concurrency limiter interface defines behaviour methods for bounding the backend calls in flight.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Runs the call once a permit is available, calls above the limit wait in the queue of their caller partition.
+     *
+     * @param call The backend call, subscribed once the permit is granted.
+     * @return A Mono emitting the result of the call.
+     * @throws BackendInvocationException if the queue is full.
+     */
+    <T> Mono<T> execute(Mono<T> call) throws BackendInvocationException;
+}
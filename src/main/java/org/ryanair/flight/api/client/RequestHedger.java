@@ -0,0 +1,26 @@
+package org.ryanair.flight.api.client;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:50 PM
+ */
+
+/**
+ * Request hedger interface defines behaviour methods for duplicating slow backend calls.
+ */
+public interface RequestHedger {
+
+    /**
+     * Runs the call, and a duplicate of it when the call is slow to answer, taking whichever answers first.
+     *
+     * @param call The supplier of the backend call, invoked once for the call and once more for the duplicate.
+     * @return A Mono emitting the first answer.
+     */
+    <T> Mono<T> execute(Supplier<Mono<T>> call);
+}
@@ -0,0 +1,274 @@
+package org.ryanair.flight.api.client.decoder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.util.EpochMinutes;
+import org.ryanair.flight.api.util.ResponseMessage;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 5:25 PM
+ */
+
+/**
+ * Token streaming decoder of the schedules API payload.
+ * Response buffers are fed into a non-blocking Jackson parser as they arrive and released right after,
+ * the flights are emitted straight into ScheduledFlight records without materializing Day and Flight objects
+ * or the time strings. Unknown fields are skipped token by token.
+ */
+public final class MonthlyTimetableDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String FIELD_DAYS = "days";
+    private static final String FIELD_DAY = "day";
+    private static final String FIELD_FLIGHTS = "flights";
+    private static final String FIELD_CARRIER_CODE = "carrierCode";
+    private static final String FIELD_NUMBER = "number";
+    private static final String FIELD_DEPARTURE_TIME = "departureTime";
+    private static final String FIELD_ARRIVAL_TIME = "arrivalTime";
+
+    private enum State {ROOT_START, ROOT, DAYS, DAY, FLIGHTS, FLIGHT, DONE}
+
+    private final int year;
+    private final int month;
+    private final long firstEpochDayOfMonth;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final List<ScheduledFlight> flights = new ArrayList<>();
+    // flights of the current day seen before its day number, resolved when the day ends
+    private final List<PendingFlight> pendingFlights = new ArrayList<>();
+
+    private State state = State.ROOT_START;
+    private String fieldName;
+    private int skipDepth;
+    private int currentDay;
+    private String carrierCode;
+    private String number;
+    private int departureMinuteOfDay;
+    private int arrivalMinuteOfDay;
+
+    private MonthlyTimetableDecoder(int year, int month) throws IOException {
+        this.year = year;
+        this.month = month;
+        this.firstEpochDayOfMonth = LocalDate.of(year, month, 1).toEpochDay();
+        this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Decodes the schedules API payload of one leg and month.
+     *
+     * @param body  The response body buffers, each buffer is released once it was parsed.
+     * @param year  The requested schedule year.
+     * @param month The requested schedule month.
+     * @return A Mono emitting the MonthlyTimetable, empty if the body was empty.
+     */
+    public static Mono<MonthlyTimetable> decode(Flux<DataBuffer> body, int year, int month) {
+        return Mono.using(
+                () -> new MonthlyTimetableDecoder(year, month),
+                decoder -> body.doOnNext(decoder::feed).then(Mono.fromCallable(decoder::finish)),
+                MonthlyTimetableDecoder::close);
+    }
+
+    private void feed(DataBuffer dataBuffer) {
+        try (DataBuffer.ByteBufferIterator byteBuffers = dataBuffer.readableByteBuffers()) {
+            while (byteBuffers.hasNext()) {
+                feeder.feedInput(byteBuffers.next());
+                drain();
+            }
+        } catch (IOException e) {
+            throw invalidResponse(e);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    private MonthlyTimetable finish() {
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException e) {
+            throw invalidResponse(e);
+        }
+        if (state == State.ROOT_START) {
+            return null;
+        }
+        if (state != State.DONE) {
+            throw invalidResponse(new JsonParseException(parser, "Unexpected end of the schedule payload"));
+        }
+        return MonthlyTimetable.of(year, month, flights);
+    }
+
+    private void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // nothing is held open besides the parser buffers
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        if (skipDepth > 0) {
+            if (token.isStructStart()) {
+                skipDepth++;
+            } else if (token.isStructEnd()) {
+                skipDepth--;
+            }
+            return;
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            fieldName = parser.currentName();
+            return;
+        }
+        switch (state) {
+            case ROOT_START -> {
+                expect(token, JsonToken.START_OBJECT);
+                state = State.ROOT;
+            }
+            case ROOT -> {
+                if (token == JsonToken.END_OBJECT) {
+                    state = State.DONE;
+                } else if (FIELD_DAYS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    state = State.DAYS;
+                } else {
+                    skipValue(token);
+                }
+            }
+            case DAYS -> {
+                if (token == JsonToken.END_ARRAY) {
+                    state = State.ROOT;
+                } else {
+                    expect(token, JsonToken.START_OBJECT);
+                    currentDay = 0;
+                    state = State.DAY;
+                }
+            }
+            case DAY -> {
+                if (token == JsonToken.END_OBJECT) {
+                    resolvePendingFlights();
+                    state = State.DAYS;
+                } else if (FIELD_DAY.equals(fieldName) && token == JsonToken.VALUE_NUMBER_INT) {
+                    currentDay = parser.getIntValue();
+                } else if (FIELD_FLIGHTS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    state = State.FLIGHTS;
+                } else {
+                    skipValue(token);
+                }
+            }
+            case FLIGHTS -> {
+                if (token == JsonToken.END_ARRAY) {
+                    state = State.DAY;
+                } else {
+                    expect(token, JsonToken.START_OBJECT);
+                    carrierCode = null;
+                    number = null;
+                    departureMinuteOfDay = -1;
+                    arrivalMinuteOfDay = -1;
+                    state = State.FLIGHT;
+                }
+            }
+            case FLIGHT -> {
+                if (token == JsonToken.END_OBJECT) {
+                    addFlight();
+                    state = State.FLIGHTS;
+                } else if (token == JsonToken.VALUE_STRING) {
+                    handleFlightField();
+                } else {
+                    skipValue(token);
+                }
+            }
+            case DONE -> throw new JsonParseException(parser, "Unexpected content after the schedule payload");
+        }
+    }
+
+    private void handleFlightField() throws IOException {
+        switch (fieldName) {
+            case FIELD_CARRIER_CODE -> carrierCode = parser.getText();
+            case FIELD_NUMBER -> number = parser.getText();
+            case FIELD_DEPARTURE_TIME -> departureMinuteOfDay = parseMinuteOfDay();
+            case FIELD_ARRIVAL_TIME -> arrivalMinuteOfDay = parseMinuteOfDay();
+            default -> {
+                // unknown string field of a flight
+            }
+        }
+    }
+
+    private int parseMinuteOfDay() throws IOException {
+        return EpochMinutes.parseMinuteOfDay(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private void addFlight() {
+        if (departureMinuteOfDay < 0 || arrivalMinuteOfDay < 0) {
+            return;
+        }
+        if (currentDay > 0) {
+            flights.add(createFlight(currentDay, carrierCode, number, departureMinuteOfDay, arrivalMinuteOfDay));
+        } else {
+            pendingFlights.add(new PendingFlight(carrierCode, number, departureMinuteOfDay, arrivalMinuteOfDay));
+        }
+    }
+
+    private void resolvePendingFlights() {
+        if (currentDay > 0) {
+            pendingFlights.forEach(pendingFlight -> flights.add(createFlight(currentDay,
+                    pendingFlight.carrierCode(), pendingFlight.number(),
+                    pendingFlight.departureMinuteOfDay(), pendingFlight.arrivalMinuteOfDay())));
+        }
+        pendingFlights.clear();
+    }
+
+    /**
+     * Creates the flight of the given day, the arrival is placed on the departure day as the schedules API only reports the time of day.
+     */
+    private ScheduledFlight createFlight(int day, String carrierCode, String number, int departureMinuteOfDay, int arrivalMinuteOfDay) {
+        long epochDay = firstEpochDayOfMonth + day - 1;
+        return new ScheduledFlight(carrierCode, number,
+                EpochMinutes.of(epochDay, departureMinuteOfDay), EpochMinutes.of(epochDay, arrivalMinuteOfDay));
+    }
+
+    private void skipValue(JsonToken token) {
+        if (token.isStructStart()) {
+            skipDepth = 1;
+        }
+    }
+
+    private void expect(JsonToken token, JsonToken expectedToken) throws JsonParseException {
+        if (token != expectedToken) {
+            throw new JsonParseException(parser, "Expected " + expectedToken + " but found " + token);
+        }
+    }
+
+    private static BackendInvocationException invalidResponse(IOException e) {
+        return new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE,
+                ResponseMessage.ERR_INVALID_RESP_FROM_BACKEND + " - " + e.getMessage(), HttpStatus.BAD_GATEWAY);
+    }
+
+    private record PendingFlight(String carrierCode, String number, int departureMinuteOfDay, int arrivalMinuteOfDay) {
+    }
+}
@@ -0,0 +1,281 @@
+package org.ryanair.flight.api.client.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.client.CallerPartition;
+import org.ryanair.flight.api.client.ConcurrencyLimiter;
+import org.ryanair.flight.api.config.property.BackendConcurrencyLimitPropertyConfiguration;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.util.ResponseMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.*;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:15 PM
+ */
+
+/**
+ * Implementation of the ConcurrencyLimiter interface with an additive increase, multiplicative decrease limit.
+ * The limit grows by one per limit's worth of calls completing while at least half of it is in use, and shrinks by
+ * the backoff ratio when a call fails with an overload error or the recent latency exceeds the baseline latency
+ * by the tolerance. Only calls started after the last decrease can decrease it again, so one slow period costs one step.
+ * The baseline is the lowest latency observed, drifting slowly towards higher latencies so it follows a lasting change.
+ * Calls above the limit wait in one queue per caller partition, and freed permits go round robin over the partitions,
+ * so one wide search cannot hold back every other request.
+ */
+@Component
+@Slf4j
+public class AimdConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private static final String BACKGROUND_PARTITION = "background";
+    private static final double RECENT_LATENCY_WEIGHT = 0.2;
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private static final String LIMIT_GAUGE = "backend.concurrency.limit";
+    private static final String IN_FLIGHT_GAUGE = "backend.concurrency.inflight";
+    private static final String QUEUED_GAUGE = "backend.concurrency.queued";
+    private static final String BASELINE_LATENCY_GAUGE = "backend.concurrency.latency.baseline";
+    private static final String REJECTED_COUNTER = "backend.concurrency.rejected";
+
+    private enum Outcome {SUCCESS, OVERLOAD, IGNORED}
+
+    private final BackendConcurrencyLimitPropertyConfiguration propertyConfiguration;
+    private final Counter rejectedCounter;
+
+    // all state below is guarded by this limiter
+    private final Map<String, Deque<Waiter>> queues = new LinkedHashMap<>();
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private double baselineLatencyNanos = Double.NaN;
+    private double recentLatencyNanos = Double.NaN;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    @Autowired
+    public AimdConcurrencyLimiter(BackendConcurrencyLimitPropertyConfiguration propertyConfiguration, MeterRegistry meterRegistry) {
+        this.propertyConfiguration = propertyConfiguration;
+        this.limit = propertyConfiguration.getInitialLimit();
+        Gauge.builder(LIMIT_GAUGE, this, AimdConcurrencyLimiter::getLimit)
+                .description("Backend calls allowed in flight")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_GAUGE, this, AimdConcurrencyLimiter::getInFlight)
+                .description("Backend calls in flight")
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_GAUGE, this, AimdConcurrencyLimiter::getQueued)
+                .description("Backend calls waiting for a permit")
+                .register(meterRegistry);
+        Gauge.builder(BASELINE_LATENCY_GAUGE, this, limiter -> limiter.getBaselineLatencyNanos() / 1e9)
+                .description("Backend latency the limit is adapted against")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER)
+                .description("Backend calls rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call once a permit is available. The permit is held until the call terminates or is cancelled,
+     * the latency and outcome of the call then adapt the limit.
+     *
+     * @param call The backend call, subscribed once the permit is granted.
+     * @return A Mono emitting the result of the call.
+     * @throws BackendInvocationException if the queue is full.
+     */
+    @Override
+    public <T> Mono<T> execute(Mono<T> call) throws BackendInvocationException {
+        if (!propertyConfiguration.getEnabled()) {
+            return call;
+        }
+        return Mono.deferContextual(context -> {
+            String partition = CallerPartition.find(context).map(CallerPartition::id).orElse(BACKGROUND_PARTITION);
+            return acquire(partition).flatMap(permit -> call
+                    .doOnSuccess(value -> release(permit, Outcome.SUCCESS))
+                    .doOnError(throwable -> release(permit, isOverload(throwable) ? Outcome.OVERLOAD : Outcome.SUCCESS))
+                    .doOnCancel(() -> release(permit, Outcome.IGNORED)));
+        });
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    public synchronized double getBaselineLatencyNanos() {
+        return baselineLatencyNanos;
+    }
+
+    private Mono<Permit> acquire(String partition) {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink, partition);
+            Permit permit = null;
+            boolean rejected = false;
+            synchronized (this) {
+                if (inFlight < getLimit() && queues.isEmpty()) {
+                    permit = grant();
+                } else if (queued >= propertyConfiguration.getMaxQueueSize()) {
+                    rejected = true;
+                } else {
+                    queues.computeIfAbsent(partition, key -> new ArrayDeque<>()).add(waiter);
+                    queued++;
+                }
+            }
+            if (Objects.nonNull(permit)) {
+                sink.success(permit);
+            } else if (rejected) {
+                rejectedCounter.increment();
+                sink.error(new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE,
+                        ResponseMessage.ERR_BACKEND_CONCURRENCY_LIMIT, HttpStatus.SERVICE_UNAVAILABLE));
+            } else {
+                sink.onCancel(() -> cancel(waiter));
+            }
+        });
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit permit;
+        synchronized (this) {
+            Deque<Waiter> queue = queues.get(waiter.partition);
+            if (Objects.nonNull(queue) && queue.remove(waiter)) {
+                queued--;
+                if (queue.isEmpty()) {
+                    queues.remove(waiter.partition);
+                }
+                return;
+            }
+            permit = waiter.permit;
+        }
+        // the permit was granted while the caller was cancelling
+        if (Objects.nonNull(permit)) {
+            release(permit, Outcome.IGNORED);
+        }
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        if (!permit.released.compareAndSet(false, true)) {
+            return;
+        }
+        List<Waiter> grantedWaiters;
+        synchronized (this) {
+            inFlight--;
+            if (outcome != Outcome.IGNORED) {
+                adapt(permit, outcome);
+            }
+            grantedWaiters = dispatch();
+        }
+        grantedWaiters.forEach(waiter -> waiter.sink.success(waiter.permit));
+    }
+
+    /**
+     * Adapts the limit to the outcome of one call, guarded by this limiter.
+     */
+    private void adapt(Permit permit, Outcome outcome) {
+        long now = System.nanoTime();
+        long latencyNanos = now - permit.startNanos;
+        if (outcome == Outcome.SUCCESS) {
+            recentLatencyNanos = Double.isNaN(recentLatencyNanos) ? latencyNanos
+                    : recentLatencyNanos + (latencyNanos - recentLatencyNanos) * RECENT_LATENCY_WEIGHT;
+            baselineLatencyNanos = Double.isNaN(baselineLatencyNanos) || latencyNanos < baselineLatencyNanos ? latencyNanos
+                    : baselineLatencyNanos + (latencyNanos - baselineLatencyNanos) * BASELINE_DRIFT;
+        }
+        boolean overloaded = outcome == Outcome.OVERLOAD
+                || recentLatencyNanos > baselineLatencyNanos * propertyConfiguration.getLatencyTolerance();
+        if (overloaded) {
+            if (permit.startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(propertyConfiguration.getMinLimit(), limit * propertyConfiguration.getBackoffRatio());
+                lastDecreaseNanos = now;
+                log.debug("Backend concurrency limit decreased to {}", getLimit());
+            }
+        } else if (permit.inFlightAtStart * 2 >= limit) {
+            limit = Math.min(propertyConfiguration.getMaxLimit(), limit + 1 / limit);
+        }
+    }
+
+    /**
+     * Grants the free permits to the queued calls, one partition after the other, guarded by this limiter.
+     *
+     * @return The waiters granted a permit, to be completed outside of the lock.
+     */
+    private List<Waiter> dispatch() {
+        List<Waiter> grantedWaiters = new ArrayList<>();
+        while (inFlight < getLimit() && !queues.isEmpty()) {
+            Iterator<Map.Entry<String, Deque<Waiter>>> partitions = queues.entrySet().iterator();
+            Map.Entry<String, Deque<Waiter>> partition = partitions.next();
+            partitions.remove();
+            Waiter waiter = partition.getValue().poll();
+            if (!partition.getValue().isEmpty()) {
+                // the partition moves behind the others
+                queues.put(partition.getKey(), partition.getValue());
+            }
+            queued--;
+            waiter.permit = grant();
+            grantedWaiters.add(waiter);
+        }
+        return grantedWaiters;
+    }
+
+    private Permit grant() {
+        inFlight++;
+        return new Permit(System.nanoTime(), inFlight);
+    }
+
+    private static boolean isOverload(Throwable throwable) {
+        for (Throwable cause = throwable; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof WebClientRequestException || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof BackendInvocationException backendInvocationException && Objects.nonNull(backendInvocationException.getStatus())) {
+                HttpStatus status = backendInvocationException.getStatus();
+                return status.is5xxServerError() || status == HttpStatus.TOO_MANY_REQUESTS;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A granted permit with the time it was granted and the calls in flight at that time, itself included.
+     */
+    private static final class Permit {
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+    }
+
+    /**
+     * A queued call, the permit is set under the lock when the call is granted.
+     */
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final String partition;
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink, String partition) {
+            this.sink = sink;
+            this.partition = partition;
+        }
+    }
+}
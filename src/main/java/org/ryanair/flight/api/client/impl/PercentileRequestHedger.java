@@ -0,0 +1,188 @@
+package org.ryanair.flight.api.client.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.client.RequestHedger;
+import org.ryanair.flight.api.config.property.BackendHedgingPropertyConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:55 PM
+ */
+
+/**
+ * Implementation of the RequestHedger interface with a delay taken from the observed latency of the backend calls.
+ * A duplicate is sent once a call has not answered within the configured percentile of the latencies of the latest
+ * calls, the first answer wins and the other call is cancelled. The latency of a call is taken up to its first answer,
+ * so hedged calls count with the latency the caller saw.
+ * Duplicates are paid from a budget which every call adds the budget ratio to, so they never exceed that share
+ * of the calls, apart from a small burst. An error only fails the call once no other attempt is outstanding.
+ */
+@Component
+@Slf4j
+public class PercentileRequestHedger implements RequestHedger {
+
+    private static final String CALLS_COUNTER = "backend.hedge.calls";
+    private static final String HEDGED_COUNTER = "backend.hedge.hedged";
+    private static final String WINS_COUNTER = "backend.hedge.wins";
+    private static final String THRESHOLD_GAUGE = "backend.hedge.threshold";
+    private static final int THRESHOLD_UPDATES_PER_WINDOW = 10;
+
+    private final BackendHedgingPropertyConfiguration propertyConfiguration;
+    private final Counter callsCounter;
+    private final Counter hedgedCounter;
+    private final Counter winsCounter;
+
+    // all state below is guarded by this hedger
+    private final long[] latencyWindowNanos;
+    private int latencyCount;
+    private int nextLatency;
+    private long thresholdNanos = -1;
+    private double budget;
+
+    @Autowired
+    public PercentileRequestHedger(BackendHedgingPropertyConfiguration propertyConfiguration, MeterRegistry meterRegistry) {
+        this.propertyConfiguration = propertyConfiguration;
+        this.latencyWindowNanos = new long[propertyConfiguration.getWindowSize()];
+        this.callsCounter = Counter.builder(CALLS_COUNTER)
+                .description("Backend calls eligible for hedging")
+                .register(meterRegistry);
+        this.hedgedCounter = Counter.builder(HEDGED_COUNTER)
+                .description("Duplicate backend calls sent for slow calls")
+                .register(meterRegistry);
+        this.winsCounter = Counter.builder(WINS_COUNTER)
+                .description("Duplicate backend calls answering before the original call")
+                .register(meterRegistry);
+        Gauge.builder(THRESHOLD_GAUGE, this, hedger -> hedger.getThresholdNanos() / 1e9)
+                .description("Delay after which a backend call is duplicated, negative until enough calls were observed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call, and a duplicate of it when the call has not answered within the latency threshold
+     * and the budget allows, taking whichever answers first.
+     *
+     * @param call The supplier of the backend call, invoked once for the call and once more for the duplicate.
+     * @return A Mono emitting the first answer.
+     */
+    @Override
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        if (!propertyConfiguration.getEnabled()) {
+            return call.get();
+        }
+        return Mono.create(sink -> {
+            long thresholdNanos = registerCall();
+            HedgedCall<T> hedgedCall = new HedgedCall<>(sink, System.nanoTime());
+            sink.onCancel(hedgedCall.attempts);
+            hedgedCall.subscribe(call, false);
+            if (thresholdNanos >= 0) {
+                hedgedCall.attempts.add(Mono.delay(Duration.ofNanos(thresholdNanos)).subscribe(tick -> {
+                    if (!hedgedCall.done.get() && tryAcquireBudget()) {
+                        hedgedCounter.increment();
+                        hedgedCall.subscribe(call, true);
+                    }
+                }));
+            }
+        });
+    }
+
+    public synchronized long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * Adds the share of one call to the budget, guarded by this hedger.
+     *
+     * @return The current threshold, negative if the call must not be hedged.
+     */
+    private synchronized long registerCall() {
+        callsCounter.increment();
+        budget = Math.min(propertyConfiguration.getMaxBurst(), budget + propertyConfiguration.getBudgetRatio());
+        return thresholdNanos;
+    }
+
+    private synchronized boolean tryAcquireBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    /**
+     * Adds the latency of an answered call to the window, the threshold is recomputed a few times per window.
+     */
+    private synchronized void recordLatency(long latencyNanos) {
+        latencyWindowNanos[nextLatency] = latencyNanos;
+        nextLatency = (nextLatency + 1) % latencyWindowNanos.length;
+        latencyCount = Math.min(latencyCount + 1, latencyWindowNanos.length);
+        if (latencyCount >= propertyConfiguration.getMinSamples()
+                && nextLatency % Math.max(1, latencyWindowNanos.length / THRESHOLD_UPDATES_PER_WINDOW) == 0) {
+            long[] latencies = Arrays.copyOf(latencyWindowNanos, latencyCount);
+            Arrays.sort(latencies);
+            int rank = (int) Math.ceil(propertyConfiguration.getPercentile() * latencies.length) - 1;
+            thresholdNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(propertyConfiguration.getMinDelayMs()),
+                    latencies[Math.max(rank, 0)]);
+        }
+    }
+
+    /**
+     * The attempts of one call, the first answer completes the sink and cancels the other attempts.
+     */
+    private final class HedgedCall<T> {
+        private final MonoSink<T> sink;
+        private final long startNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicInteger outstandingAttempts = new AtomicInteger();
+        private final Disposable.Composite attempts = Disposables.composite();
+
+        private HedgedCall(MonoSink<T> sink, long startNanos) {
+            this.sink = sink;
+            this.startNanos = startNanos;
+        }
+
+        private void subscribe(Supplier<Mono<T>> call, boolean hedged) {
+            outstandingAttempts.incrementAndGet();
+            attempts.add(Mono.defer(call)
+                    .contextWrite(sink.contextView())
+                    .subscribe(value -> answer(value, hedged), this::fail, () -> answer(null, hedged)));
+        }
+
+        private void answer(T value, boolean hedged) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            recordLatency(System.nanoTime() - startNanos);
+            if (hedged) {
+                winsCounter.increment();
+            }
+            attempts.dispose();
+            sink.success(value);
+        }
+
+        private void fail(Throwable throwable) {
+            if (outstandingAttempts.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+                attempts.dispose();
+                sink.error(throwable);
+            }
+        }
+    }
+}
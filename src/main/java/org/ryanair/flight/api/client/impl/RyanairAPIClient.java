@@ -8,21 +8,30 @@ import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.retry.RetryRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
 import org.ryanair.flight.api.client.APIClient;
+import org.ryanair.flight.api.client.ConcurrencyLimiter;
+import org.ryanair.flight.api.client.RequestHedger;
+import org.ryanair.flight.api.client.decoder.MonthlyTimetableDecoder;
 import org.ryanair.flight.api.config.property.RyanairBackEndEndpointConfiguration;
 import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.MonthlyTimetable;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
-import org.ryanair.flight.api.model.ScheduleAPIResponseModel;
 import org.ryanair.flight.api.util.Constant;
 import org.ryanair.flight.api.util.ResponseMessage;
+import org.ryanair.flight.api.util.SingleFlight;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of the APIClient interface to interact with the Ryanair backend services.
@@ -37,8 +46,11 @@ public class RyanairAPIClient implements APIClient {
     private final RyanairBackEndEndpointConfiguration backEndEndpointConfiguration;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final RetryRegistry retryRegistry;
+    private final SearchMetrics searchMetrics;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final RequestHedger requestHedger;
 
-
+    private final SingleFlight<ScheduleCacheKey, MonthlyTimetable> scheduleSingleFlight = new SingleFlight<>();
 
     /**
      * Retrieves a list of available routes from the Ryanair backend.
@@ -72,14 +84,71 @@ public class RyanairAPIClient implements APIClient {
 
     /**
      * Retrieves flight schedules from the Ryanair backend based on the provided schedule request model.
+     * Concurrent requests for the same departure, arrival, year and month share one outstanding backend call,
+     * including its retries.
      *
      * @param scheduleAPIRequestModel The schedule request model containing departure, arrival, year, and month information.
-     * @return A Mono emitting a ScheduleAPIResponseModel instance.
+     * @return A Mono emitting the MonthlyTimetable of the requested leg and month.
      * @throws BackendInvocationException if there's an error invoking the backend service.
      */
     @Override
-    public Mono<ScheduleAPIResponseModel> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException {
+    public Mono<MonthlyTimetable> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException {
+        return scheduleSingleFlight.execute(ScheduleCacheKey.of(scheduleAPIRequestModel), () -> fetchSchedules(scheduleAPIRequestModel));
+    }
+
+    /**
+     * Invokes the Ryanair schedules endpoint with retry and circuit breaker applied.
+     * Every attempt holds a permit of the concurrency limiter only while it is in flight, not while backing off.
+     * A slow attempt may be hedged with a duplicate, which takes its own permit.
+     * The call is recorded as a schedule fetch cache miss with its outcome and retry count,
+     * along with the payload size of the attempt that succeeded.
+     *
+     * @param scheduleAPIRequestModel The schedule request model containing departure, arrival, year, and month information.
+     * @return A Mono emitting the MonthlyTimetable of the requested leg and month.
+     */
+    private Mono<MonthlyTimetable> fetchSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) {
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(Constant.DOWNSTREAM_SERVICE_NAME);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicInteger attempts = new AtomicInteger();
+            AtomicLong payloadBytes = new AtomicLong();
+            return Mono.defer(() -> {
+                        // subscribed again by the retry operator for every attempt
+                        attempts.incrementAndGet();
+                        payloadBytes.set(0);
+                        return requestHedger.execute(() -> {
+                            // a hedged attempt is sent twice, only the payload of the answering one is kept
+                            AtomicLong sentPayloadBytes = new AtomicLong();
+                            return concurrencyLimiter.execute(requestSchedules(scheduleAPIRequestModel, sentPayloadBytes))
+                                    .doOnSuccess(monthlyTimetable -> payloadBytes.set(sentPayloadBytes.get()));
+                        });
+                    })
+                    .transformDeferred(RetryOperator.of(retryRegistry.retry(Constant.DOWNSTREAM_SERVICE_NAME))) // ORDER - If above, retry will complete before a failure is recorded by the circuit breaker
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker)) //ORDER - If written below, circuit breaker will record a single failure after the max-retry
+                    .doOnError(CallNotPermittedException.class::isInstance, throwable -> {
+                        log.error("Circuit Breaker is in [{}]... Providing fallback response without calling the API", circuitBreaker.getState());
+                        throw new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE , throwable.getMessage() , HttpStatus.SERVICE_UNAVAILABLE);
+                    })
+                    .doOnSuccess(monthlyTimetable -> {
+                        searchMetrics.recordScheduleFetch(System.nanoTime() - start,
+                                monthlyTimetable == null ? SearchMetrics.OUTCOME_EMPTY : SearchMetrics.OUTCOME_SUCCESS,
+                                false, Math.max(attempts.get() - 1, 0));
+                        searchMetrics.recordPayloadSize(SearchMetrics.PAYLOAD_SCHEDULES, payloadBytes.get());
+                    })
+                    .doOnError(throwable -> searchMetrics.recordScheduleFetch(System.nanoTime() - start,
+                            SearchMetrics.OUTCOME_ERROR, false, Math.max(attempts.get() - 1, 0)));
+        });
+    }
+
+    /**
+     * Requests the schedules of one leg and month once.
+     * The payload is decoded token by token while it arrives instead of being bound to the schedule model.
+     *
+     * @param scheduleAPIRequestModel The schedule request model containing departure, arrival, year, and month information.
+     * @param payloadBytes            The counter the size of the received payload is added to.
+     * @return A Mono emitting the MonthlyTimetable of the requested leg and month.
+     */
+    private Mono<MonthlyTimetable> requestSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel, AtomicLong payloadBytes) {
         return webClient.get()
                 .uri(uriBuilder ->
                         uriBuilder
@@ -99,13 +168,10 @@ public class RyanairAPIClient implements APIClient {
                                 new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE, ResponseMessage.ERR_INVALID_RESP_FROM_BACKEND+" - " +clientResponse.statusCode(), HttpStatus.resolve(clientResponse.statusCode().value())
                                 )
                         )
-                )                .bodyToMono(ScheduleAPIResponseModel.class)
-                .transformDeferred(RetryOperator.of(retryRegistry.retry(Constant.DOWNSTREAM_SERVICE_NAME))) // ORDER - If above, retry will complete before a failure is recorded by the circuit breaker
-                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker)) //ORDER - If written below, circuit breaker will record a single failure after the max-retry
-                .doOnError(CallNotPermittedException.class::isInstance, throwable -> {
-                    log.error("Circuit Breaker is in [{}]... Providing fallback response without calling the API", circuitBreaker.getState());
-                    throw new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE , throwable.getMessage() , HttpStatus.SERVICE_UNAVAILABLE);
-                });
+                )
+                .bodyToFlux(DataBuffer.class)
+                .doOnNext(dataBuffer -> payloadBytes.addAndGet(dataBuffer.readableByteCount()))
+                .as(body -> MonthlyTimetableDecoder.decode(body, scheduleAPIRequestModel.getYear(), scheduleAPIRequestModel.getMonth()));
     }
 
 }
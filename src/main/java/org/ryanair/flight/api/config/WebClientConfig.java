@@ -6,21 +6,32 @@ import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.config.property.BackendDiagnosticsPropertyConfiguration;
+import org.ryanair.flight.api.config.property.RyanairBackEndConnectionPropertyConfiguration;
+import org.ryanair.flight.api.config.property.RyanairBackEndEndpointConfiguration;
 import org.ryanair.flight.api.config.property.RyanairBackEndPropertyConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -31,26 +42,55 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class WebClientConfig {
 
+    private static final String CONNECTION_POOL_NAME = "ryanair-api";
+
     private final RyanairBackEndPropertyConfiguration propertyConfiguration;
+    private final RyanairBackEndConnectionPropertyConfiguration connectionPropertyConfiguration;
+    private final RyanairBackEndEndpointConfiguration endpointConfiguration;
+    private final BackendDiagnosticsPropertyConfiguration diagnosticsPropertyConfiguration;
+
+    /**
+     * Configures and provides the connection pool used for the backend calls.
+     * Connections idle or older than the configured limits are evicted in the background, callers waiting for a
+     * connection are queued up to the configured count and time.
+     *
+     * @return Configured ConnectionProvider instance, disposed on shutdown.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ryanairConnectionProvider() {
+        return ConnectionProvider.builder(CONNECTION_POOL_NAME)
+                .maxConnections(connectionPropertyConfiguration.getMaxConnections())
+                .pendingAcquireMaxCount(connectionPropertyConfiguration.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(connectionPropertyConfiguration.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(connectionPropertyConfiguration.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(connectionPropertyConfiguration.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(connectionPropertyConfiguration.getEvictInBackgroundMs()))
+                .metrics(connectionPropertyConfiguration.getMetricsEnabled())
+                .build();
+    }
 
     /**
      * Configures and provides a WebClient bean for making HTTP requests.
      *
+     * @param ryanairConnectionProvider The connection pool used for the backend calls.
      * @return Configured WebClient instance.
      */
     @Bean
-    public WebClient webclient() {
+    public WebClient webclient(ConnectionProvider ryanairConnectionProvider) {
 
-        // Configure HTTP client options
-        HttpClient httpClient = HttpClient.create()
-                .tcpConfiguration(client ->
-                        client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, propertyConfiguration.getConnectTimeout())
-                                .doOnConnected(conn -> conn
-                                        .addHandler(new ReadTimeoutHandler(propertyConfiguration.getReadTimeout(), TimeUnit.MILLISECONDS))
-                                        .addHandlerLast(new WriteTimeoutHandler(propertyConfiguration.getWriteTimeout(), TimeUnit.MILLISECONDS))));
+        // Configure HTTP client options, HTTP/2 is negotiated over TLS when the backend supports it
+        HttpClient httpClient = HttpClient.create(ryanairConnectionProvider)
+                .protocol(resolveProtocols())
+                .compress(connectionPropertyConfiguration.getCompression())
+                .metrics(connectionPropertyConfiguration.getMetricsEnabled(), this::toUriTemplate)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, propertyConfiguration.getConnectTimeout())
+                .doOnConnected(conn -> conn
+                        .addHandlerLast(new ReadTimeoutHandler(propertyConfiguration.getReadTimeout(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(propertyConfiguration.getWriteTimeout(), TimeUnit.MILLISECONDS)));
 
         // Create a ReactorClientHttpConnector with the configured HTTP client
-        ClientHttpConnector connector = new ReactorClientHttpConnector(httpClient.wiretap(true));
+        // Hex dumps of the traffic are only wanted while diagnosing the connection itself
+        ClientHttpConnector connector = new ReactorClientHttpConnector(httpClient.wiretap(diagnosticsPropertyConfiguration.getWiretap()));
 
         // Configure exchange strategies for handling response body
         final int size = propertyConfiguration.getMaxInMemBufferSizeMb() * 1024 * 1024;
@@ -68,6 +108,22 @@ public class WebClientConfig {
                 .build();
     }
 
+    /**
+     * Maps a schedules call to its endpoint template, so airports and dates do not end up as metric tag values.
+     */
+    private String toUriTemplate(String uri) {
+        String scheduleEndpointURL = endpointConfiguration.getScheduleEndpointURL();
+        String schedulePath = StringUtils.trimLeadingCharacter(scheduleEndpointURL.substring(0, scheduleEndpointURL.indexOf('{')), '/');
+        return uri.contains(schedulePath) ? scheduleEndpointURL : uri;
+    }
+
+    private HttpProtocol[] resolveProtocols() {
+        return connectionPropertyConfiguration.getProtocols()
+                .stream()
+                .map(protocol -> HttpProtocol.valueOf(protocol.trim().toUpperCase()))
+                .toArray(HttpProtocol[]::new);
+    }
+
     private ExchangeFilterFunction logRequestDetails() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             log.info("Sending [{}] request to URL [{}] with request headers [{}]",
@@ -76,14 +132,75 @@ public class WebClientConfig {
         });
     }
 
+    /**
+     * Logs the response metadata without touching the body. For a sample of the responses the body stream is peeked at
+     * while it is consumed and only its first bytes are captured, the buffers themselves are passed on as they are.
+     *
+     * @return The response logging filter.
+     */
     private ExchangeFilterFunction logResponseDetails() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse ->
-                clientResponse.bodyToMono(String.class).defaultIfEmpty("").flatMap(responseBody -> {
-                    final ClientResponse orgClientResponse = clientResponse.mutate().body(responseBody).build();
-                    log.info("Received response from API with status [{}]",
-                            clientResponse.statusCode());
-                    return Mono.just(orgClientResponse);
-                })
-        );
+        return (clientRequest, next) -> {
+            long startNanos = System.nanoTime();
+            return next.exchange(clientRequest).map(clientResponse -> {
+                log.info("Received response from API [{}] with status [{}] and content length [{}] in [{}] ms",
+                        clientRequest.url(), clientResponse.statusCode(),
+                        clientResponse.headers().contentLength().orElse(-1),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                if (!isBodyCaptureSampled()) {
+                    return clientResponse;
+                }
+                return clientResponse.mutate()
+                        .body(body -> captureBody(body, clientRequest.url()))
+                        .build();
+            });
+        };
+    }
+
+    private boolean isBodyCaptureSampled() {
+        double sampleRate = diagnosticsPropertyConfiguration.getBodyCaptureSampleRate();
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private Flux<DataBuffer> captureBody(Flux<DataBuffer> body, URI url) {
+        int maxBytes = diagnosticsPropertyConfiguration.getBodyCaptureMaxBytes();
+        return Flux.defer(() -> {
+            byte[] capturedBytes = new byte[maxBytes];
+            long[] totalBytes = new long[1];
+            return body
+                    .doOnNext(dataBuffer -> {
+                        int readableBytes = dataBuffer.readableByteCount();
+                        int capturedLength = (int) Math.min(maxBytes, totalBytes[0]);
+                        int bytesToCapture = Math.min(maxBytes - capturedLength, readableBytes);
+                        // reads without moving the read position of the buffer
+                        for (int i = 0; i < bytesToCapture; i++) {
+                            capturedBytes[capturedLength + i] = dataBuffer.getByte(dataBuffer.readPosition() + i);
+                        }
+                        totalBytes[0] += readableBytes;
+                    })
+                    .doOnComplete(() -> {
+                        int capturedLength = (int) Math.min(maxBytes, totalBytes[0]);
+                        log.info("Captured response body from API [{}] with [{}] bytes, first [{}] bytes [{}]", url, totalBytes[0], capturedLength,
+                                new String(capturedBytes, 0, completeUtf8Length(capturedBytes, capturedLength), StandardCharsets.UTF_8));
+                    });
+        });
+    }
+
+    /**
+     * Trims the captured bytes back to the last whole UTF-8 character, a character cut at the capture limit is dropped.
+     *
+     * @param bytes  The captured bytes.
+     * @param length The number of captured bytes.
+     * @return The length of the captured bytes ending with a whole character.
+     */
+    private static int completeUtf8Length(byte[] bytes, int length) {
+        // a character is at most four bytes long, so its lead byte is among the last four
+        for (int i = length - 1; i >= Math.max(0, length - 4); i--) {
+            int leadByte = bytes[i] & 0xFF;
+            if ((leadByte & 0xC0) != 0x80) {
+                int characterLength = leadByte >= 0xF0 ? 4 : leadByte >= 0xE0 ? 3 : leadByte >= 0xC0 ? 2 : 1;
+                return i + characterLength <= length ? length : i;
+            }
+        }
+        return length;
     }
 }
@@ -0,0 +1,54 @@
+package org.ryanair.flight.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.ryanair.flight.api.metrics.MeteredJackson2JsonEncoder;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:00 PM
+ */
+
+/**
+ * Configuration of the server codecs, responses are written by the metered Jackson encoder.
+ * The application enables WebFlux itself, which turns off the WebFlux auto-configuration applying the codec customizers
+ * to the server codecs, so they are applied here in their order, Spring Boot's Jackson codecs built on the application
+ * ObjectMapper first and the metered encoder replacing the Jackson encoder after.
+ */
+@Configuration
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class WebFluxCodecConfig implements WebFluxConfigurer {
+
+    private final ObjectProvider<CodecCustomizer> codecCustomizers;
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        codecCustomizers.orderedStream().forEach(codecCustomizer -> codecCustomizer.customize(configurer));
+    }
+
+    /**
+     * Replaces the Jackson encoder with the metered one, built on the ObjectMapper configured by Spring Boot.
+     * Ordered after the Jackson codec customizer of Spring Boot, which registers the encoder it replaces.
+     * Static, so it is available while this configuration is being created and collects the customizers.
+     *
+     * @param objectMapper  The application ObjectMapper.
+     * @param searchMetrics The search metrics recording the serialization stage.
+     * @return The CodecCustomizer registering the metered encoder.
+     */
+    @Bean
+    @Order(1)
+    public static CodecCustomizer meteredJacksonCodecCustomizer(ObjectMapper objectMapper, SearchMetrics searchMetrics) {
+        return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new MeteredJackson2JsonEncoder(objectMapper, searchMetrics));
+    }
+}
@@ -0,0 +1,37 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:05 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class BackendConcurrencyLimitPropertyConfiguration {
+
+    @Value("${backend.ryanair.concurrency-limit.enabled}")
+    private Boolean enabled;
+    @Value("${backend.ryanair.concurrency-limit.initial-limit}")
+    private Integer initialLimit;
+    @Value("${backend.ryanair.concurrency-limit.min-limit}")
+    private Integer minLimit;
+    @Value("${backend.ryanair.concurrency-limit.max-limit}")
+    private Integer maxLimit;
+    @Value("${backend.ryanair.concurrency-limit.backoff-ratio}")
+    private Double backoffRatio;
+    @Value("${backend.ryanair.concurrency-limit.latency-tolerance}")
+    private Double latencyTolerance;
+    @Value("${backend.ryanair.concurrency-limit.max-queue-size}")
+    private Integer maxQueueSize;
+}
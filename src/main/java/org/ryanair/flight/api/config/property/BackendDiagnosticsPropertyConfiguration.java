@@ -0,0 +1,29 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 6:05 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class BackendDiagnosticsPropertyConfiguration {
+
+    @Value("${backend.ryanair.diagnostics.wiretap}")
+    private Boolean wiretap;
+    @Value("${backend.ryanair.diagnostics.body-capture.sample-rate}")
+    private Double bodyCaptureSampleRate;
+    @Value("${backend.ryanair.diagnostics.body-capture.max-bytes}")
+    private Integer bodyCaptureMaxBytes;
+}
@@ -0,0 +1,37 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:50 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class BackendHedgingPropertyConfiguration {
+
+    @Value("${backend.ryanair.hedging.enabled}")
+    private Boolean enabled;
+    @Value("${backend.ryanair.hedging.percentile}")
+    private Double percentile;
+    @Value("${backend.ryanair.hedging.window-size}")
+    private Integer windowSize;
+    @Value("${backend.ryanair.hedging.min-samples}")
+    private Integer minSamples;
+    @Value("${backend.ryanair.hedging.min-delay-ms}")
+    private Long minDelayMs;
+    @Value("${backend.ryanair.hedging.budget-ratio}")
+    private Double budgetRatio;
+    @Value("${backend.ryanair.hedging.max-burst}")
+    private Integer maxBurst;
+}
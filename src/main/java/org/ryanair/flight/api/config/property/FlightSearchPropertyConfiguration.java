@@ -0,0 +1,52 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 3:25 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class FlightSearchPropertyConfiguration {
+
+    @Value("${flight-search.min-connection-minutes}")
+    private Integer minConnectionMinutes;
+
+    @Value("${flight-search.max-stops-limit}")
+    private Integer maxStopsLimit;
+
+    @Value("${flight-search.multi-stop.max-routes}")
+    private Integer multiStopMaxRoutes;
+
+    @Value("${flight-search.multi-stop.min-leg-minutes}")
+    private Integer multiStopMinLegMinutes;
+
+    @Value("${flight-search.batch.max-queries}")
+    private Integer batchMaxQueries;
+
+    @Value("${flight-search.batch.fetch-concurrency}")
+    private Integer batchFetchConcurrency;
+
+    @Value("${flight-search.batch.query-concurrency}")
+    private Integer batchQueryConcurrency;
+
+    @Value("${flight-search.result-cache.enabled}")
+    private Boolean resultCacheEnabled;
+
+    @Value("${flight-search.result-cache.bucket-minutes}")
+    private Integer resultCacheBucketMinutes;
+
+    @Value("${flight-search.result-cache.max-entries}")
+    private Long resultCacheMaxEntries;
+}
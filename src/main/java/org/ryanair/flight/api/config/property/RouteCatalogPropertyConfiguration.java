@@ -0,0 +1,25 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 10:20 AM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class RouteCatalogPropertyConfiguration {
+
+    @Value("${backend.ryanair.catalog.refresh-interval-ms}")
+    private Long refreshIntervalMs;
+}
@@ -0,0 +1,43 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 6:30 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class RyanairBackEndConnectionPropertyConfiguration {
+
+    @Value("${backend.ryanair.api.pool.max-connections}")
+    private Integer maxConnections;
+    @Value("${backend.ryanair.api.pool.pending-acquire-max-count}")
+    private Integer pendingAcquireMaxCount;
+    @Value("${backend.ryanair.api.pool.pending-acquire-timeout-ms}")
+    private Long pendingAcquireTimeoutMs;
+    @Value("${backend.ryanair.api.pool.max-idle-time-ms}")
+    private Long maxIdleTimeMs;
+    @Value("${backend.ryanair.api.pool.max-life-time-ms}")
+    private Long maxLifeTimeMs;
+    @Value("${backend.ryanair.api.pool.evict-in-background-ms}")
+    private Long evictInBackgroundMs;
+    @Value("${backend.ryanair.api.pool.metrics-enabled}")
+    private Boolean metricsEnabled;
+    @Value("${backend.ryanair.api.protocols}")
+    private List<String> protocols;
+    @Value("${backend.ryanair.api.compression}")
+    private Boolean compression;
+}
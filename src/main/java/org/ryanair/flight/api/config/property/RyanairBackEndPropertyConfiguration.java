@@ -22,9 +22,9 @@ public class RyanairBackEndPropertyConfiguration {
 
     @Value("${backend.ryanair.api.base-url}")
     private String baseUrl;
-    @Value("${backend.ryanair.api.read-timeout}")
-    private Integer connectTimeout;
     @Value("${backend.ryanair.api.connect-timeout}")
+    private Integer connectTimeout;
+    @Value("${backend.ryanair.api.read-timeout}")
     private Integer readTimeout;
     @Value("${backend.ryanair.api.write-timeout}")
     private Integer writeTimeout;
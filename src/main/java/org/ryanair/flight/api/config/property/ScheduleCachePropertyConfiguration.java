@@ -0,0 +1,31 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 1:15 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class ScheduleCachePropertyConfiguration {
+
+    @Value("${backend.ryanair.schedule-cache.ttl-seconds}")
+    private Long ttlSeconds;
+    @Value("${backend.ryanair.schedule-cache.max-weight-flights}")
+    private Long maxWeightFlights;
+    @Value("${backend.ryanair.schedule-cache.max-staleness-seconds}")
+    private Long maxStalenessSeconds;
+    @Value("${backend.ryanair.schedule-cache.revalidate-timeout-ms}")
+    private Long revalidateTimeoutMs;
+}
@@ -0,0 +1,39 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:50 AM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class TimetableCrawlerPropertyConfiguration {
+
+    @Value("${backend.ryanair.crawler.enabled}")
+    private Boolean enabled;
+    @Value("${backend.ryanair.crawler.months-ahead}")
+    private Integer monthsAhead;
+    @Value("${backend.ryanair.crawler.requests-per-second}")
+    private Double requestsPerSecond;
+    @Value("${backend.ryanair.crawler.concurrency}")
+    private Integer concurrency;
+    @Value("${backend.ryanair.crawler.refresh-after-seconds}")
+    private Long refreshAfterSeconds;
+    @Value("${backend.ryanair.crawler.popular-legs}")
+    private Integer popularLegs;
+    @Value("${backend.ryanair.crawler.initial-delay-ms}")
+    private Long initialDelayMs;
+    @Value("${backend.ryanair.crawler.cycle-pause-ms}")
+    private Long cyclePauseMs;
+}
@@ -0,0 +1,29 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:20 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class TimetableSnapshotPropertyConfiguration {
+
+    @Value("${backend.ryanair.snapshot.enabled}")
+    private Boolean enabled;
+    @Value("${backend.ryanair.snapshot.path}")
+    private String path;
+    @Value("${backend.ryanair.snapshot.max-age-hours}")
+    private Long maxAgeHours;
+}
@@ -0,0 +1,39 @@
+package org.ryanair.flight.api.config.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:05 PM
+ */
+
+
+@Configuration
+@RefreshScope
+@Getter
+@Setter
+public class WarmUpPropertyConfiguration {
+
+    @Value("${backend.ryanair.warm-up.enabled}")
+    private Boolean enabled;
+    @Value("${backend.ryanair.warm-up.pairs}")
+    private List<String> pairs;
+    @Value("${backend.ryanair.warm-up.hubs}")
+    private List<String> hubs;
+    @Value("${backend.ryanair.warm-up.learned-legs}")
+    private Boolean learnedLegs;
+    @Value("${backend.ryanair.warm-up.months-ahead}")
+    private Integer monthsAhead;
+    @Value("${backend.ryanair.warm-up.concurrency}")
+    private Integer concurrency;
+    @Value("${backend.ryanair.warm-up.max-duration-ms}")
+    private Long maxDurationMs;
+}
@@ -0,0 +1,21 @@
+package org.ryanair.flight.api.crawler;
+
+import java.time.Duration;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:55 AM
+ */
+
+/**
+ * Summary of one walk of the timetable crawler over the route catalog.
+ *
+ * @param plannedSchedules   The number of monthly schedules within the horizon.
+ * @param refreshedSchedules The number of monthly schedules reloaded from the backend.
+ * @param failedSchedules    The number of monthly schedules which could not be reloaded.
+ * @param duration           The time the walk took.
+ */
+public record CrawlCycle(int plannedSchedules, int refreshedSchedules, int failedSchedules, Duration duration) {
+}
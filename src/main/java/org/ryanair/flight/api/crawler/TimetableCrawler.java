@@ -0,0 +1,25 @@
+package org.ryanair.flight.api.crawler;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:55 AM
+ */
+
+/**
+ * Timetable crawler interface defines behaviour methods for keeping the schedules of the whole route catalog
+ * loaded ahead of the searches.
+ */
+public interface TimetableCrawler {
+
+    /**
+     * Walks the route catalog once, reloading the monthly schedules within the horizon which are missing
+     * or due for a refresh. Schedules which fail to load are counted and skipped, they are retried on the next walk.
+     *
+     * @return A Mono emitting the summary of the walk once it has finished.
+     */
+    Mono<CrawlCycle> crawl();
+}
@@ -0,0 +1,211 @@
+package org.ryanair.flight.api.crawler.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleCache;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.config.property.TimetableCrawlerPropertyConfiguration;
+import org.ryanair.flight.api.crawler.CrawlCycle;
+import org.ryanair.flight.api.crawler.TimetableCrawler;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 2:00 AM
+ */
+
+/**
+ * Implementation of the TimetableCrawler interface walking every leg of the route catalog for the configured months ahead.
+ * The schedules are reloaded into the shared schedule cache, so the searches find them there and only fetch the schedules
+ * the crawler has not loaded yet. The legs most popular in the schedule cache are walked first, the other legs of
+ * the catalog follow. Schedules fetched within the refresh interval are skipped, as are schedules the backend had
+ * no flights for within that interval, so a walk only spends its requests on the schedules due for a refresh.
+ * Requests are started at the configured rate whatever the search traffic, and go through the concurrency limiter
+ * in its background partition. The crawler starts as an application runner and walks the catalog again after a pause.
+ */
+@Component
+@Slf4j
+public class CatalogTimetableCrawler implements TimetableCrawler, ApplicationRunner {
+
+    private static final String SCHEDULES_COUNTER = "timetable.crawler.schedules";
+    private static final String CYCLE_DURATION_GAUGE = "timetable.crawler.cycle.duration";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final BackendAPIService backendAPIService;
+    private final ScheduleCache scheduleCache;
+    private final TimetableCrawlerPropertyConfiguration propertyConfiguration;
+    private final Counter refreshedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong lastCycleDurationNanos = new AtomicLong();
+    // schedules the backend had no flights for, they are not cached and so not known to the schedule cache
+    private final Map<ScheduleCacheKey, Instant> emptySchedules = new ConcurrentHashMap<>();
+    private volatile Disposable crawling;
+
+    @Autowired
+    public CatalogTimetableCrawler(BackendAPIService backendAPIService, ScheduleCache scheduleCache,
+                                   TimetableCrawlerPropertyConfiguration propertyConfiguration, MeterRegistry meterRegistry) {
+        this.backendAPIService = backendAPIService;
+        this.scheduleCache = scheduleCache;
+        this.propertyConfiguration = propertyConfiguration;
+        this.refreshedCounter = Counter.builder(SCHEDULES_COUNTER)
+                .description("Monthly schedules reloaded by the timetable crawler")
+                .tag(OUTCOME_TAG, "refreshed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(SCHEDULES_COUNTER)
+                .description("Monthly schedules reloaded by the timetable crawler")
+                .tag(OUTCOME_TAG, "failed")
+                .register(meterRegistry);
+        Gauge.builder(CYCLE_DURATION_GAUGE, lastCycleDurationNanos, nanos -> nanos.get() / 1e9)
+                .description("Time the last walk of the route catalog took")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!propertyConfiguration.getEnabled()) {
+            return;
+        }
+        crawling = Mono.delay(Duration.ofMillis(propertyConfiguration.getInitialDelayMs()))
+                .thenMany(crawl()
+                        .doOnNext(cycle -> log.info("Timetable crawl finished in {} - {} of {} schedules refreshed, {} failed",
+                                cycle.duration(), cycle.refreshedSchedules(), cycle.plannedSchedules(), cycle.failedSchedules()))
+                        .onErrorResume(throwable -> {
+                            log.warn("Timetable crawl could not load the route catalog - {}", throwable.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(Mono.delay(Duration.ofMillis(propertyConfiguration.getCyclePauseMs())))
+                        .repeat())
+                .subscribe();
+    }
+
+    /**
+     * Stops crawling before the application shuts down, reloads in flight are cancelled.
+     */
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(crawling)) {
+            crawling.dispose();
+        }
+    }
+
+    @Override
+    public Mono<CrawlCycle> crawl() {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            Instant refreshBefore = Instant.now().minusSeconds(propertyConfiguration.getRefreshAfterSeconds());
+            emptySchedules.values().removeIf(emptyAt -> emptyAt.isBefore(refreshBefore));
+            return backendAPIService.getRouteCatalog()
+                    .map(this::planSchedules)
+                    .flatMap(scheduleKeys -> loadSchedules(scheduleKeys, startNanos));
+        });
+    }
+
+    /**
+     * Plans the monthly schedules of the walk, every month of the popular legs first and the other legs after them.
+     *
+     * @param routeCatalogSnapshot The route catalog to walk.
+     * @return The distinct schedule keys in load order.
+     */
+    private Set<ScheduleCacheKey> planSchedules(RouteCatalogSnapshot routeCatalogSnapshot) {
+        Set<Leg> catalogLegs = new LinkedHashSet<>();
+        routeCatalogSnapshot.getRoutes().forEach(route -> catalogLegs.add(Leg.of(route)));
+        Set<Leg> legs = new LinkedHashSet<>();
+        scheduleCache.findPopularKeys(propertyConfiguration.getPopularLegs() * propertyConfiguration.getMonthsAhead())
+                .stream()
+                .map(scheduleKey -> new Leg(scheduleKey.departure(), scheduleKey.arrival()))
+                .filter(catalogLegs::contains)
+                .distinct()
+                .limit(propertyConfiguration.getPopularLegs())
+                .forEach(legs::add);
+        legs.addAll(catalogLegs);
+
+        List<YearMonth> months = Stream.iterate(YearMonth.now(), month -> month.plusMonths(1))
+                .limit(propertyConfiguration.getMonthsAhead())
+                .toList();
+        Set<ScheduleCacheKey> scheduleKeys = new LinkedHashSet<>();
+        for (Leg leg : legs) {
+            for (YearMonth month : months) {
+                scheduleKeys.add(new ScheduleCacheKey(leg.departure(), leg.arrival(), month.getYear(), month.getMonthValue()));
+            }
+        }
+        return scheduleKeys;
+    }
+
+    /**
+     * Reloads the planned schedules which are due, started at the configured rate with bounded concurrency.
+     *
+     * @return A Mono emitting the summary of the walk once every reload has finished.
+     */
+    private Mono<CrawlCycle> loadSchedules(Set<ScheduleCacheKey> scheduleKeys, long startNanos) {
+        AtomicInteger refreshedSchedules = new AtomicInteger();
+        AtomicInteger failedSchedules = new AtomicInteger();
+        Duration requestInterval = Duration.ofNanos((long) (1e9 / propertyConfiguration.getRequestsPerSecond()));
+        return Flux.fromIterable(scheduleKeys)
+                .filter(this::isDue)
+                .delayElements(requestInterval)
+                .flatMap(scheduleKey -> backendAPIService.refreshSchedules(scheduleKey.toRequestModel())
+                                .doOnSuccess(monthlyTimetable -> {
+                                    if (Objects.isNull(monthlyTimetable)) {
+                                        emptySchedules.put(scheduleKey, Instant.now());
+                                    } else {
+                                        emptySchedules.remove(scheduleKey);
+                                    }
+                                    refreshedSchedules.incrementAndGet();
+                                    refreshedCounter.increment();
+                                })
+                                .onErrorResume(throwable -> {
+                                    failedSchedules.incrementAndGet();
+                                    failedCounter.increment();
+                                    log.debug("Timetable crawl failed to load {} - {}", scheduleKey, throwable.getMessage());
+                                    return Mono.empty();
+                                }),
+                        propertyConfiguration.getConcurrency())
+                .then(Mono.fromSupplier(() -> {
+                    Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+                    lastCycleDurationNanos.set(duration.toNanos());
+                    return new CrawlCycle(scheduleKeys.size(), refreshedSchedules.get(), failedSchedules.get(), duration);
+                }));
+    }
+
+    private boolean isDue(ScheduleCacheKey scheduleKey) {
+        Instant refreshBefore = Instant.now().minusSeconds(propertyConfiguration.getRefreshAfterSeconds());
+        Instant emptyAt = emptySchedules.get(scheduleKey);
+        if (Objects.nonNull(emptyAt) && emptyAt.isAfter(refreshBefore)) {
+            return false;
+        }
+        return scheduleCache.findFetchedAt(scheduleKey)
+                .map(fetchedAt -> fetchedAt.isBefore(refreshBefore))
+                .orElse(true);
+    }
+
+    private record Leg(String departure, String arrival) {
+
+        private static Leg of(RouteAPIResponseModel route) {
+            return new Leg(route.getAirportFrom(), route.getAirportTo());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.ryanair.flight.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.io.Serial;
@@ -11,7 +12,7 @@ import java.io.Serializable;
  * Date: 3/31/24
  * Time: 3:35 PM
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,4 +24,10 @@ public class AbstractResponse implements Serializable {
     private String message;
     private String messageDescription;
     private Object data;
+    // latency breakdown of the search, only present when the caller opted in to the search trace
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private SearchDebugDto debug;
+    // only present when the response was answered from stale schedules during a backend incident
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private StalenessDto staleness;
 }
@@ -0,0 +1,31 @@
+package org.ryanair.flight.api.dto;
+
+import lombok.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:25 PM
+ */
+
+/**
+ * One query of a batch search, with the same parameters as a single search.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSearchQueryDto {
+    private String departure;
+    private String arrival;
+    private String departureDateTime;
+    private String arrivalDateTime;
+    // optional, the default of a single search applies if absent
+    private Integer maxStops;
+    // optional, the route join applies if absent
+    private String engine;
+    // optional, the profile query of the connection scan engine applies if absent
+    private String scan;
+}
@@ -0,0 +1,26 @@
+package org.ryanair.flight.api.dto;
+
+import lombok.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:25 PM
+ */
+
+/**
+ * The result of one query of a batch search, results are streamed in completion order.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSearchResultDto {
+    // position of the query in the batch request
+    private int index;
+    private String departure;
+    private String arrival;
+    private AbstractResponse result;
+}
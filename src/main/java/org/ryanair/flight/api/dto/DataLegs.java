@@ -1,6 +1,9 @@
 package org.ryanair.flight.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
+import org.ryanair.flight.api.util.EpochMinutes;
 
 import java.util.Objects;
 
@@ -8,7 +11,7 @@ import java.util.Objects;
  * Author: Gayan Sanjeewa
  * User: gayan
  * Date: 3/28/24
- * Time: 11:37 PM
+ * Time: 11:37 PM
  */
 @Getter
 @Setter
@@ -18,21 +21,40 @@ import java.util.Objects;
 public class DataLegs {
     private String departureAirport;
     private String arrivalAirport;
-    private String departureDateTime;
-    private String arrivalDateTime;
+    @JsonIgnore
+    private int departureEpochMinute;
+    @JsonIgnore
+    private int arrivalEpochMinute;
+
+    /**
+     * @return The departure time in the ISO local date time form, formatted when the response is serialized.
+     */
+    @JsonProperty("departureDateTime")
+    public String getDepartureDateTime() {
+        return EpochMinutes.format(departureEpochMinute);
+    }
+
+    /**
+     * @return The arrival time in the ISO local date time form, formatted when the response is serialized.
+     */
+    @JsonProperty("arrivalDateTime")
+    public String getArrivalDateTime() {
+        return EpochMinutes.format(arrivalEpochMinute);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         DataLegs dataLegs = (DataLegs) obj;
-        return Objects.equals(departureAirport, dataLegs.departureAirport) &&
-                Objects.equals(arrivalAirport, dataLegs.arrivalAirport) &&
-                Objects.equals(departureDateTime, dataLegs.departureDateTime) &&
-                Objects.equals(arrivalDateTime, dataLegs.arrivalDateTime);
+        return departureEpochMinute == dataLegs.departureEpochMinute &&
+                arrivalEpochMinute == dataLegs.arrivalEpochMinute &&
+                Objects.equals(departureAirport, dataLegs.departureAirport) &&
+                Objects.equals(arrivalAirport, dataLegs.arrivalAirport);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(departureAirport, arrivalAirport, departureDateTime, arrivalDateTime);
+        return Objects.hash(departureAirport, arrivalAirport, departureEpochMinute, arrivalEpochMinute);
     }
 }
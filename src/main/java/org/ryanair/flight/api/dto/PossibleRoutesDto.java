@@ -21,5 +21,6 @@ public class PossibleRoutesDto {
 
     private String type;
     private RouteAPIResponseModel directRoute;
+    // the legs of a one-stop or multi-stop route, departing leg first
     private List<RouteAPIResponseModel> interConnectedRoute;
 }
@@ -1,6 +1,7 @@
 package org.ryanair.flight.api.dto;
 
 import lombok.*;
+import org.ryanair.flight.api.util.Constant;
 
 import java.time.LocalDateTime;
 
@@ -20,4 +21,12 @@ public class RequestDataDto {
     private String departure;
     private LocalDateTime departureDateTime;
     private LocalDateTime arrivalDateTime;
+    @Builder.Default
+    private int maxStops = Constant.DEFAULT_MAX_STOPS;
+    // the engine building the itineraries, the route join unless the connection scan is requested
+    @Builder.Default
+    private String engine = Constant.ENGINE_JOIN;
+    // the query of the connection scan engine, every Pareto optimal itinerary unless the earliest arrival is requested
+    @Builder.Default
+    private String scan = Constant.SCAN_PROFILE;
 }
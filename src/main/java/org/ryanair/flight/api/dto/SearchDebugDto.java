@@ -0,0 +1,31 @@
+package org.ryanair.flight.api.dto;
+
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:20 PM
+ */
+
+/**
+ * Latency breakdown of one search, returned when the caller opted in to the search trace.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SearchDebugDto implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 6172290384451873021L;
+    // stage durations in milliseconds, in the order the stages were first recorded
+    private Map<String, Double> timingsMillis;
+    private int backendCalls;
+    private int cacheHits;
+}
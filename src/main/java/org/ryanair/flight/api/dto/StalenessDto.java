@@ -0,0 +1,34 @@
+package org.ryanair.flight.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 12:35 AM
+ */
+
+/**
+ * Staleness indicator of a response answered from schedules the backend could not revalidate,
+ * or from a route catalog it could not refresh.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StalenessDto implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3918273645120938475L;
+    // fetch time of the oldest schedule or route catalog the response is based on
+    private String dataAsOf;
+    private long ageSeconds;
+    // only present when the route catalog the response is based on was stale
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String routeCatalogAsOf;
+}
@@ -0,0 +1,24 @@
+package org.ryanair.flight.api.dto;
+
+import lombok.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 10:50 AM
+ */
+
+/**
+ * One NDJSON line of a streamed search, named like the matching SSE event so clients tell the lines apart.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StreamEventDto {
+    // itinerary, summary or error
+    private String event;
+    private Object data;
+}
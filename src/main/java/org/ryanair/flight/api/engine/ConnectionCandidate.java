@@ -0,0 +1,19 @@
+package org.ryanair.flight.api.engine;
+
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 3:20 PM
+ */
+
+/**
+ * A departing flight into the hub together with the earliest flight leaving the hub it can connect to.
+ *
+ * @param departingFlight  The first leg, departure airport to hub.
+ * @param connectingFlight The second leg, hub to arrival airport.
+ */
+public record ConnectionCandidate(ScheduledFlight departingFlight, ScheduledFlight connectingFlight) {
+}
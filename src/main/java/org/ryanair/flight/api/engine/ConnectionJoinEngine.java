@@ -0,0 +1,28 @@
+package org.ryanair.flight.api.engine;
+
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 3:22 PM
+ */
+
+/**
+ * Join engine interface defines behaviour methods for matching first leg flights into a hub with second leg flights out of it.
+ */
+public interface ConnectionJoinEngine {
+
+    /**
+     * Finds for every departing flight the earliest connecting flight which leaves the hub at least the minimum
+     * connection time after the departing flight arrived.
+     *
+     * @param departingFlights  Flights from the departure airport to the hub.
+     * @param connectingFlights Flights from the hub to the arrival airport.
+     * @return Connection candidates in the order of the departing flights, departing flights without a connection are skipped.
+     */
+    List<ConnectionCandidate> join(List<ScheduledFlight> departingFlights, List<ScheduledFlight> connectingFlights);
+}
@@ -0,0 +1,46 @@
+package org.ryanair.flight.api.engine;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 2:50 AM
+ */
+
+/**
+ * Connection scan engine interface defines behaviour methods for finding itineraries with a single scan
+ * over a connection timetable. Consecutive flights of an itinerary are at least the minimum connection time apart.
+ */
+public interface ConnectionScanEngine {
+
+    /**
+     * Finds the itinerary arriving first at the arrival airport, the one with the fewest flights among equally early ones.
+     *
+     * @param timetable            The connection timetable.
+     * @param departure            The IATA code of the departure airport.
+     * @param arrival              The IATA code of the arrival airport.
+     * @param departAfter          The epoch-minute the first flight must depart after.
+     * @param minConnectionMinutes The minimum time between the arrival of a flight and the departure of the next one.
+     * @param maxLegs              The maximum number of flights of the itinerary.
+     * @return The flights of the itinerary in order, empty if the arrival airport cannot be reached.
+     */
+    Optional<List<FlightConnection>> findEarliestArrival(ConnectionTimetable timetable, String departure, String arrival,
+                                                         int departAfter, int minConnectionMinutes, int maxLegs);
+
+    /**
+     * Finds every Pareto-optimal itinerary of the timetable, no other itinerary departing at the same time or later
+     * arrives at the same time or earlier with at most as many flights.
+     *
+     * @param timetable            The connection timetable.
+     * @param departure            The IATA code of the departure airport.
+     * @param arrival              The IATA code of the arrival airport.
+     * @param minConnectionMinutes The minimum time between the arrival of a flight and the departure of the next one.
+     * @param maxLegs              The maximum number of flights of an itinerary.
+     * @return The flights of every itinerary in order, itineraries ordered by departure and then by their number of flights.
+     */
+    List<List<FlightConnection>> findProfile(ConnectionTimetable timetable, String departure, String arrival,
+                                             int minConnectionMinutes, int maxLegs);
+}
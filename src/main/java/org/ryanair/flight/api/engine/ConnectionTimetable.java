@@ -0,0 +1,117 @@
+package org.ryanair.flight.api.engine;
+
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+import java.util.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 2:45 AM
+ */
+
+/**
+ * Immutable array of flight connections sorted by departure epoch-minute, the input of the connection scan engine.
+ * Airports are numbered and the connections are kept in parallel primitive arrays, so a scan reads them sequentially
+ * without touching the flight objects.
+ */
+public final class ConnectionTimetable {
+
+    private final FlightConnection[] connections;
+    private final int[] departureAirports;
+    private final int[] arrivalAirports;
+    private final int[] departureMinutes;
+    private final int[] arrivalMinutes;
+    private final Map<String, Integer> airportIndexes;
+
+    private ConnectionTimetable(FlightConnection[] connections, Map<String, Integer> airportIndexes) {
+        this.connections = connections;
+        this.airportIndexes = airportIndexes;
+        this.departureAirports = new int[connections.length];
+        this.arrivalAirports = new int[connections.length];
+        this.departureMinutes = new int[connections.length];
+        this.arrivalMinutes = new int[connections.length];
+        for (int i = 0; i < connections.length; i++) {
+            ScheduledFlight flight = connections[i].flight();
+            departureAirports[i] = airportIndexes.get(connections[i].departureAirport());
+            arrivalAirports[i] = airportIndexes.get(connections[i].arrivalAirport());
+            departureMinutes[i] = flight.getDepartureEpochMinute();
+            arrivalMinutes[i] = flight.getArrivalEpochMinute();
+        }
+    }
+
+    /**
+     * Builds the timetable of the given connections.
+     *
+     * @param connections The connections in any order.
+     * @return The ConnectionTimetable with the connections sorted by departure, ties keep their given order.
+     */
+    public static ConnectionTimetable of(Collection<FlightConnection> connections) {
+        FlightConnection[] sortedConnections = connections.toArray(FlightConnection[]::new);
+        Arrays.sort(sortedConnections, Comparator.comparingInt(connection -> connection.flight().getDepartureEpochMinute()));
+        Map<String, Integer> airportIndexes = new HashMap<>();
+        for (FlightConnection connection : sortedConnections) {
+            airportIndexes.putIfAbsent(connection.departureAirport(), airportIndexes.size());
+            airportIndexes.putIfAbsent(connection.arrivalAirport(), airportIndexes.size());
+        }
+        return new ConnectionTimetable(sortedConnections, airportIndexes);
+    }
+
+    public int size() {
+        return connections.length;
+    }
+
+    public int getAirportCount() {
+        return airportIndexes.size();
+    }
+
+    /**
+     * @param airport The IATA code of the airport.
+     * @return The number of the airport, empty if no connection departs or arrives there.
+     */
+    public OptionalInt findAirportIndex(String airport) {
+        Integer airportIndex = airportIndexes.get(airport);
+        return Objects.isNull(airportIndex) ? OptionalInt.empty() : OptionalInt.of(airportIndex);
+    }
+
+    public FlightConnection getConnection(int index) {
+        return connections[index];
+    }
+
+    public int getDepartureAirport(int index) {
+        return departureAirports[index];
+    }
+
+    public int getArrivalAirport(int index) {
+        return arrivalAirports[index];
+    }
+
+    public int getDepartureMinute(int index) {
+        return departureMinutes[index];
+    }
+
+    public int getArrivalMinute(int index) {
+        return arrivalMinutes[index];
+    }
+
+    /**
+     * Finds the first connection departing after the given epoch-minute.
+     *
+     * @param epochMinute The epoch-minute.
+     * @return The index of the first connection departing strictly after it, the size if there is none.
+     */
+    public int firstDepartureAfter(int epochMinute) {
+        int low = 0;
+        int high = departureMinutes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (departureMinutes[mid] <= epochMinute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,20 @@
+package org.ryanair.flight.api.engine;
+
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 2:40 AM
+ */
+
+/**
+ * A flight of the connection timetable together with the airports it flies between.
+ *
+ * @param departureAirport The IATA code of the departure airport.
+ * @param arrivalAirport   The IATA code of the arrival airport.
+ * @param flight           The flight.
+ */
+public record FlightConnection(String departureAirport, String arrivalAirport, ScheduledFlight flight) {
+}
@@ -0,0 +1,218 @@
+package org.ryanair.flight.api.engine.impl;
+
+import org.ryanair.flight.api.engine.ConnectionScanEngine;
+import org.ryanair.flight.api.engine.ConnectionTimetable;
+import org.ryanair.flight.api.engine.FlightConnection;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 3:00 AM
+ */
+
+/**
+ * Implementation of the ConnectionScanEngine interface keeping one layer of state per number of flights.
+ * The earliest arrival query scans the connections forward once from the departure time, tracking the earliest arrival
+ * at every airport with exactly k flights, and stops at the first connection departing after the best arrival found.
+ * The profile query scans the connections backward once, keeping for every airport and k the Pareto set of departure
+ * and arrival times of the itineraries to the arrival airport with exactly k flights. A connection extends the earliest
+ * arriving itinerary of layer k - 1 it can still catch, found by binary search since the sets are built in departure order.
+ * So a query costs O(n k) or O(n k log n) for n connections and at most k flights, whatever the number of routes.
+ * Connections into the departure airport or out of the arrival airport never improve an itinerary and are skipped.
+ */
+@Component
+public class LayeredConnectionScanEngine implements ConnectionScanEngine {
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    @Override
+    public Optional<List<FlightConnection>> findEarliestArrival(ConnectionTimetable timetable, String departure, String arrival,
+                                                                int departAfter, int minConnectionMinutes, int maxLegs) {
+        OptionalInt sourceIndex = timetable.findAirportIndex(departure);
+        OptionalInt targetIndex = timetable.findAirportIndex(arrival);
+        if (sourceIndex.isEmpty() || targetIndex.isEmpty() || maxLegs < 1) {
+            return Optional.empty();
+        }
+        int source = sourceIndex.getAsInt();
+        int target = targetIndex.getAsInt();
+
+        // arrivals[k][airport] is the earliest arrival with exactly k flights, set by the connection arrivingBy[k][airport]
+        int[][] arrivals = new int[maxLegs + 1][timetable.getAirportCount()];
+        int[][] arrivingBy = new int[maxLegs + 1][timetable.getAirportCount()];
+        for (int[] layer : arrivals) {
+            Arrays.fill(layer, UNREACHED);
+        }
+        int bestArrival = UNREACHED;
+        for (int i = timetable.firstDepartureAfter(departAfter); i < timetable.size(); i++) {
+            int departureMinute = timetable.getDepartureMinute(i);
+            if (departureMinute >= bestArrival) {
+                // flights arrive after they depart, so no later connection arrives earlier
+                break;
+            }
+            int from = timetable.getDepartureAirport(i);
+            int to = timetable.getArrivalAirport(i);
+            if (to == source || from == target) {
+                continue;
+            }
+            int arrivalMinute = timetable.getArrivalMinute(i);
+            for (int legs = 1; legs <= maxLegs; legs++) {
+                boolean reachable = legs == 1
+                        ? from == source
+                        : arrivals[legs - 1][from] != UNREACHED && arrivals[legs - 1][from] + minConnectionMinutes <= departureMinute;
+                if (reachable && arrivalMinute < arrivals[legs][to]) {
+                    arrivals[legs][to] = arrivalMinute;
+                    arrivingBy[legs][to] = i;
+                    if (to == target) {
+                        bestArrival = Math.min(bestArrival, arrivalMinute);
+                    }
+                }
+            }
+        }
+        if (bestArrival == UNREACHED) {
+            return Optional.empty();
+        }
+
+        int legs = 1;
+        while (arrivals[legs][target] != bestArrival) {
+            legs++;
+        }
+        // the arrival a connection was reached with never changes after the connection was scanned,
+        // an earlier arrival at its departure airport would have to depart after it
+        FlightConnection[] itinerary = new FlightConnection[legs];
+        int airport = target;
+        for (int leg = legs; leg >= 1; leg--) {
+            int connection = arrivingBy[leg][airport];
+            itinerary[leg - 1] = timetable.getConnection(connection);
+            airport = timetable.getDepartureAirport(connection);
+        }
+        return Optional.of(List.of(itinerary));
+    }
+
+    @Override
+    public List<List<FlightConnection>> findProfile(ConnectionTimetable timetable, String departure, String arrival,
+                                                    int minConnectionMinutes, int maxLegs) {
+        OptionalInt sourceIndex = timetable.findAirportIndex(departure);
+        OptionalInt targetIndex = timetable.findAirportIndex(arrival);
+        if (sourceIndex.isEmpty() || targetIndex.isEmpty() || maxLegs < 1) {
+            return Collections.emptyList();
+        }
+        int source = sourceIndex.getAsInt();
+        int target = targetIndex.getAsInt();
+
+        // profiles[k][airport] holds the Pareto set of itineraries to the target with exactly k flights, latest departure first
+        @SuppressWarnings("unchecked")
+        List<ProfileEntry>[][] profiles = new List[maxLegs + 1][timetable.getAirportCount()];
+        for (int i = timetable.size() - 1; i >= 0; i--) {
+            int from = timetable.getDepartureAirport(i);
+            int to = timetable.getArrivalAirport(i);
+            if (to == source || from == target) {
+                continue;
+            }
+            int departureMinute = timetable.getDepartureMinute(i);
+            int arrivalMinute = timetable.getArrivalMinute(i);
+            for (int legs = 1; legs <= maxLegs; legs++) {
+                ProfileEntry entry;
+                if (legs == 1) {
+                    entry = to == target ? new ProfileEntry(departureMinute, arrivalMinute, i, null, 1) : null;
+                } else {
+                    ProfileEntry next = findFirstCatchable(profiles[legs - 1][to], arrivalMinute + minConnectionMinutes);
+                    entry = Objects.nonNull(next) ? new ProfileEntry(departureMinute, next.arrival, i, next, legs) : null;
+                }
+                if (Objects.nonNull(entry)) {
+                    if (Objects.isNull(profiles[legs][from])) {
+                        profiles[legs][from] = new ArrayList<>();
+                    }
+                    addIfNotDominated(profiles[legs][from], entry);
+                }
+            }
+        }
+
+        // an itinerary is kept unless one with fewer flights departs no earlier and arrives no later
+        List<ProfileEntry> itineraries = new ArrayList<>();
+        for (int legs = 1; legs <= maxLegs; legs++) {
+            int fewerLegsItineraries = itineraries.size();
+            for (ProfileEntry entry : Objects.requireNonNullElse(profiles[legs][source], List.<ProfileEntry>of())) {
+                boolean dominated = false;
+                for (int j = 0; j < fewerLegsItineraries && !dominated; j++) {
+                    ProfileEntry other = itineraries.get(j);
+                    dominated = other.departure >= entry.departure && other.arrival <= entry.arrival;
+                }
+                if (!dominated) {
+                    itineraries.add(entry);
+                }
+            }
+        }
+        itineraries.sort(Comparator.comparingInt((ProfileEntry entry) -> entry.departure).thenComparingInt(entry -> entry.legs));
+
+        List<List<FlightConnection>> result = new ArrayList<>(itineraries.size());
+        for (ProfileEntry itinerary : itineraries) {
+            List<FlightConnection> flights = new ArrayList<>(itinerary.legs);
+            for (ProfileEntry entry = itinerary; Objects.nonNull(entry); entry = entry.next) {
+                flights.add(timetable.getConnection(entry.connection));
+            }
+            result.add(flights);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the itinerary departing first at or after the given epoch-minute, which is also the earliest arriving one.
+     *
+     * @param profile           The Pareto set, departures and arrivals strictly decreasing.
+     * @param earliestDeparture The earliest epoch-minute the itinerary may depart.
+     * @return The entry, null if none departs late enough.
+     */
+    private static ProfileEntry findFirstCatchable(List<ProfileEntry> profile, int earliestDeparture) {
+        if (Objects.isNull(profile)) {
+            return null;
+        }
+        int low = 0;
+        int high = profile.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (profile.get(mid).departure >= earliestDeparture) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low == 0 ? null : profile.get(low - 1);
+    }
+
+    /**
+     * Appends an entry departing no later than the last one of the set, unless the last one arrives no later.
+     * Entries departing at the same minute and arriving later are replaced.
+     */
+    private static void addIfNotDominated(List<ProfileEntry> profile, ProfileEntry entry) {
+        if (!profile.isEmpty() && profile.getLast().arrival <= entry.arrival) {
+            return;
+        }
+        while (!profile.isEmpty() && profile.getLast().departure == entry.departure) {
+            profile.removeLast();
+        }
+        profile.add(entry);
+    }
+
+    /**
+     * An itinerary of a profile, its first connection and the rest of it to the arrival airport.
+     */
+    private static final class ProfileEntry {
+        private final int departure;
+        private final int arrival;
+        private final int connection;
+        private final ProfileEntry next;
+        private final int legs;
+
+        private ProfileEntry(int departure, int arrival, int connection, ProfileEntry next, int legs) {
+            this.departure = departure;
+            this.arrival = arrival;
+            this.connection = connection;
+            this.next = next;
+            this.legs = legs;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.ryanair.flight.api.engine.impl;
+
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.engine.ConnectionCandidate;
+import org.ryanair.flight.api.engine.ConnectionJoinEngine;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 3:30 PM
+ */
+
+/**
+ * Implementation of the ConnectionJoinEngine interface using a sorted array of second leg departures.
+ * The hub's second leg flights are sorted once by departure epoch-minute and every departing flight finds its earliest
+ * connection by binary search, so a hub costs O((d + a) log a) instead of rescanning all second leg flights per first leg.
+ */
+@Component
+public class SortedConnectionJoinEngine implements ConnectionJoinEngine {
+
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
+
+    @Autowired
+    public SortedConnectionJoinEngine(FlightSearchPropertyConfiguration propertyConfiguration) {
+        this.propertyConfiguration = propertyConfiguration;
+    }
+
+    @Override
+    public List<ConnectionCandidate> join(List<ScheduledFlight> departingFlights, List<ScheduledFlight> connectingFlights) {
+        if (CollectionUtils.isEmpty(departingFlights) || CollectionUtils.isEmpty(connectingFlights)) {
+            return Collections.emptyList();
+        }
+        int minConnectionMinutes = propertyConfiguration.getMinConnectionMinutes();
+
+        // the stable sort keeps the original order between flights departing at the same minute
+        List<ScheduledFlight> sortedConnectingFlights = new ArrayList<>(connectingFlights);
+        sortedConnectingFlights.sort(Comparator.comparingInt(ScheduledFlight::getDepartureEpochMinute));
+        int[] departureMinutes = new int[sortedConnectingFlights.size()];
+        for (int i = 0; i < departureMinutes.length; i++) {
+            departureMinutes[i] = sortedConnectingFlights.get(i).getDepartureEpochMinute();
+        }
+
+        List<ConnectionCandidate> candidates = new ArrayList<>(departingFlights.size());
+        for (ScheduledFlight departingFlight : departingFlights) {
+            int index = lowerBound(departureMinutes, departingFlight.getArrivalEpochMinute() + minConnectionMinutes);
+            if (index < departureMinutes.length) {
+                candidates.add(new ConnectionCandidate(departingFlight, sortedConnectingFlights.get(index)));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Finds the first index whose value is greater than or equal to the given key.
+     *
+     * @param sortedValues Values sorted in ascending order.
+     * @param key          The key to search for.
+     * @return The first matching index, or the array length if every value is smaller than the key.
+     */
+    private static int lowerBound(int[] sortedValues, int key) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
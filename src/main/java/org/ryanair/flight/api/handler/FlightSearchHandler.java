@@ -1,20 +1,39 @@
 package org.ryanair.flight.api.handler;
 
 import lombok.RequiredArgsConstructor;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.client.CallerPartition;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
 import org.ryanair.flight.api.dto.AbstractResponse;
+import org.ryanair.flight.api.dto.BatchSearchQueryDto;
+import org.ryanair.flight.api.dto.BatchSearchResultDto;
 import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.dto.StreamEventDto;
 import org.ryanair.flight.api.helper.ResponseGenerator;
+import org.ryanair.flight.api.metrics.SearchTrace;
+import org.ryanair.flight.api.service.frontend.BatchSearchService;
 import org.ryanair.flight.api.service.frontend.FlightSearchService;
+import org.ryanair.flight.api.util.Constant;
 import org.ryanair.flight.api.util.ResponseMessage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Author: Gayan Sanjeewa
@@ -31,10 +50,18 @@ import java.time.LocalDateTime;
 public class FlightSearchHandler {
 
     private final FlightSearchService flightSearchService;
+    private final BatchSearchService batchSearchService;
     private final ResponseGenerator responseGenerator;
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
 
     /**
      * Handles the request to find available flights based on the provided criteria.
+     * An Accept header of application/x-ndjson or text/event-stream selects the streaming response.
+     * A debug=true query parameter opts in to the search trace, see {@link #createSearchTrace(ServerRequest)}.
+     * An optional maxStops query parameter bounds the stops of the itineraries, one stop by default.
+     * An optional engine query parameter selects the route join (join, the default) or the connection scan (csa).
+     * With the connection scan an optional scan query parameter selects every Pareto optimal itinerary (profile,
+     * the default) or only the earliest arriving one (earliest).
      * @param request The incoming server request.
      * @return A Mono representing the server response.
      */
@@ -43,17 +70,30 @@ public class FlightSearchHandler {
                 .flatMap(departure -> request.queryParam("arrival")
                         .flatMap(arrival -> request.queryParam("departureDateTime")
                                 .flatMap(departureDateTime -> request.queryParam("arrivalDateTime")
-                                        .map(arrivalDateTime -> buildRequestDataDto(departure, arrival, departureDateTime, arrivalDateTime))
+                                        .map(arrivalDateTime -> buildRequestDataDto(departure, arrival, departureDateTime, arrivalDateTime,
+                                                request.queryParam(Constant.QUERY_PARAM_MAX_STOPS), request.queryParam(Constant.QUERY_PARAM_ENGINE),
+                                                request.queryParam(Constant.QUERY_PARAM_SCAN)))
                                 )
                         )
                 )
-                .map(requestDataDto -> flightSearchService.findFlights(requestDataDto)
-                        .flatMap(finalFlightResponseDtoList -> ServerResponse.ok().bodyValue(responseGenerator.processSuccessResponse(finalFlightResponseDtoList)))
-                        .onErrorResume(throwable -> {
-                            AbstractResponse abstractResponse = responseGenerator.processExceptionResponse(throwable);
-                            return ServerResponse.status(abstractResponse.getResponseCode()).bodyValue(abstractResponse);
-                        })
-                )
+                .map(requestDataDto -> {
+                    Optional<SearchTrace> searchTrace = createSearchTrace(request);
+                    CallerPartition callerPartition = createCallerPartition(request);
+                    ScheduleStaleness scheduleStaleness = new ScheduleStaleness();
+                    return findStreamingMediaType(request)
+                            .map(streamingMediaType -> streamAvailableFlights(requestDataDto, streamingMediaType, searchTrace, callerPartition, scheduleStaleness))
+                            .orElseGet(() -> flightSearchService.findFlights(requestDataDto)
+                                    .contextWrite(context -> searchTrace.map(trace -> trace.writeTo(context)).orElse(context))
+                                    .contextWrite(callerPartition::writeTo)
+                                    .contextWrite(scheduleStaleness::writeTo)
+                                    .flatMap(finalFlightResponseDtoList -> createResponse(ServerResponse.ok(), responseGenerator.processStaleness(
+                                            responseGenerator.processSuccessResponse(finalFlightResponseDtoList), scheduleStaleness), searchTrace, request))
+                                    .onErrorResume(throwable -> {
+                                        AbstractResponse abstractResponse = responseGenerator.processExceptionResponse(throwable);
+                                        return createResponse(ServerResponse.status(abstractResponse.getResponseCode()), abstractResponse, searchTrace, request);
+                                    })
+                            );
+                })
                 .orElseGet(() ->
                         ServerResponse.badRequest()
                                 .bodyValue(
@@ -68,6 +108,156 @@ public class FlightSearchHandler {
                 );
     }
 
+    /**
+     * Handles a batch of searches posted as a JSON array of queries with the parameters of a single search.
+     * The result of every query is streamed as its own NDJSON line as soon as the query completes,
+     * carrying the position of the query in the batch. The whole batch is rejected if a query is invalid.
+     * @param request The incoming server request.
+     * @return A Mono representing the streaming server response.
+     */
+    public Mono<ServerResponse> findAvailableFlightsBatch(ServerRequest request) {
+        return request.bodyToFlux(BatchSearchQueryDto.class)
+                .collectList()
+                .flatMap(batchSearchQueryDtoList -> {
+                    List<RequestDataDto> requestDataDtoList = batchSearchQueryDtoList.stream()
+                            .map(query -> buildRequestDataDto(query.getDeparture(), query.getArrival(),
+                                    query.getDepartureDateTime(), query.getArrivalDateTime(),
+                                    Optional.ofNullable(query.getMaxStops()).map(String::valueOf), Optional.ofNullable(query.getEngine()),
+                                    Optional.ofNullable(query.getScan())))
+                            .toList();
+                    if (requestDataDtoList.isEmpty() || requestDataDtoList.size() > propertyConfiguration.getBatchMaxQueries()
+                            || requestDataDtoList.stream().anyMatch(Objects::isNull)) {
+                        return createBatchBadRequestResponse();
+                    }
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .body(batchSearchService.searchBatch(requestDataDtoList).contextWrite(createCallerPartition(request)::writeTo),
+                                    BatchSearchResultDto.class);
+                })
+                // a body which is not a JSON array of queries
+                .onErrorResume(ServerWebInputException.class, throwable -> createBatchBadRequestResponse());
+    }
+
+    private Mono<ServerResponse> createBatchBadRequestResponse() {
+        return ServerResponse.badRequest()
+                .bodyValue(responseGenerator.processErrorResponse(HttpStatus.BAD_REQUEST, ResponseMessage.RESPONSE_MESSAGE_FAILED,
+                        String.format(ResponseMessage.ERR_INVALID_BATCH_QUERIES, propertyConfiguration.getBatchMaxQueries())));
+    }
+
+    /**
+     * Streams the available flights as they are found, each itinerary is written as its own NDJSON line or SSE event.
+     * The summary counts follow in a trailing event. NDJSON lines wrap the data of the event with its name, as the
+     * event field of a StreamEventDto. Since the status line is sent with the first itinerary,
+     * a failure is reported as a trailing error event instead of an error status.
+     * For the same reason the search trace is only reported in the debug section of the summary event, not as a header.
+     *
+     * @param requestDataDto     The request data.
+     * @param streamingMediaType The requested streaming media type.
+     * @param searchTrace        The trace of the search, empty if the caller did not opt in.
+     * @param callerPartition    The partition the backend calls of the search are queued in.
+     * @param scheduleStaleness  The staleness of the search, reported in the summary event.
+     * @return A Mono representing the streaming server response.
+     */
+    private Mono<ServerResponse> streamAvailableFlights(RequestDataDto requestDataDto, MediaType streamingMediaType, Optional<SearchTrace> searchTrace,
+                                                        CallerPartition callerPartition, ScheduleStaleness scheduleStaleness) {
+        Flux<ServerSentEvent<Object>> events = Flux.defer(() -> {
+            AtomicLong directFlightCount = new AtomicLong();
+            AtomicLong interConnectedFlightCount = new AtomicLong();
+            return flightSearchService.streamFlights(requestDataDto)
+                    .doOnNext(finalFlightResponseDto ->
+                            (finalFlightResponseDto.getStops() == 0 ? directFlightCount : interConnectedFlightCount).incrementAndGet())
+                    .map(finalFlightResponseDto -> createEvent(Constant.STREAM_EVENT_ITINERARY, finalFlightResponseDto))
+                    .concatWith(Mono.fromSupplier(() -> createEvent(Constant.STREAM_EVENT_SUMMARY, withDebug(responseGenerator.processStaleness(
+                            responseGenerator.processStreamSummaryResponse(directFlightCount.get(), interConnectedFlightCount.get()), scheduleStaleness), searchTrace))))
+                    .onErrorResume(throwable ->
+                            Mono.just(createEvent(Constant.STREAM_EVENT_ERROR, withDebug(responseGenerator.processExceptionResponse(throwable), searchTrace))));
+        }).contextWrite(context -> searchTrace.map(trace -> trace.writeTo(context)).orElse(context))
+                .contextWrite(callerPartition::writeTo)
+                .contextWrite(scheduleStaleness::writeTo);
+
+        if (streamingMediaType.equalsTypeAndSubtype(MediaType.TEXT_EVENT_STREAM)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(events, new ParameterizedTypeReference<ServerSentEvent<Object>>() {
+                    });
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(events.map(event -> StreamEventDto.builder().event(event.event()).data(event.data()).build()), StreamEventDto.class);
+    }
+
+    /**
+     * Finds the streaming media type requested by the Accept header, wildcards do not select a streaming mode.
+     *
+     * @param request The incoming server request.
+     * @return The requested application/x-ndjson or text/event-stream media type, empty for a regular JSON response.
+     */
+    private Optional<MediaType> findStreamingMediaType(ServerRequest request) {
+        return request.headers().accept()
+                .stream()
+                .filter(mediaType -> mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON) ||
+                        mediaType.equalsTypeAndSubtype(MediaType.TEXT_EVENT_STREAM))
+                .findFirst();
+    }
+
+    /**
+     * Creates the partition the backend calls of a request are queued in by the concurrency limiter.
+     *
+     * @param request The incoming server request.
+     * @return The CallerPartition identified by the request id.
+     */
+    private static CallerPartition createCallerPartition(ServerRequest request) {
+        return new CallerPartition(request.exchange().getRequest().getId());
+    }
+
+    /**
+     * Creates the search trace of the request when the caller opted in with the debug query parameter.
+     * The trace is carried in the Reactor context of the search, so concurrent requests never share one.
+     *
+     * @param request The incoming server request.
+     * @return A new SearchTrace, empty if the caller did not opt in.
+     */
+    private Optional<SearchTrace> createSearchTrace(ServerRequest request) {
+        return request.queryParam(Constant.QUERY_PARAM_DEBUG)
+                .filter(Boolean::parseBoolean)
+                .map(debug -> new SearchTrace());
+    }
+
+    /**
+     * Creates the JSON response, with the debug section and the Server-Timing header when the search was traced.
+     * The header is set right before the response is committed, after the body was serialized,
+     * so it also carries the serialization of the body which the debug section cannot.
+     *
+     * @param bodyBuilder      The response builder with the status set.
+     * @param abstractResponse The response body.
+     * @param searchTrace      The trace of the search, empty if the caller did not opt in.
+     * @param request          The incoming server request.
+     * @return A Mono representing the server response.
+     */
+    private Mono<ServerResponse> createResponse(ServerResponse.BodyBuilder bodyBuilder, AbstractResponse abstractResponse,
+                                                Optional<SearchTrace> searchTrace, ServerRequest request) {
+        if (searchTrace.isEmpty()) {
+            return bodyBuilder.bodyValue(abstractResponse);
+        }
+        SearchTrace trace = searchTrace.get();
+        ServerHttpResponse response = request.exchange().getResponse();
+        response.beforeCommit(() -> Mono.fromRunnable(() ->
+                response.getHeaders().set(Constant.HEADER_SERVER_TIMING, trace.toServerTiming())));
+        return bodyBuilder
+                .hints(hints -> hints.put(SearchTrace.ENCODE_HINT, trace))
+                .bodyValue(withDebug(abstractResponse, searchTrace));
+    }
+
+    private static AbstractResponse withDebug(AbstractResponse abstractResponse, Optional<SearchTrace> searchTrace) {
+        return searchTrace
+                .map(trace -> abstractResponse.toBuilder().debug(trace.toDebugDto()).build())
+                .orElse(abstractResponse);
+    }
+
+    private static ServerSentEvent<Object> createEvent(String eventName, Object data) {
+        return ServerSentEvent.builder(data).event(eventName).build();
+    }
+
     /**
      * Builds RequestDataDto object from the provided parameters.
      *
@@ -75,13 +265,57 @@ public class FlightSearchHandler {
      * @param arrival           Arrival location.
      * @param departureDateTime Departure date and time.
      * @param arrivalDateTime   Arrival date and time.
-     * @return RequestDataDto object.
+     * @param maxStops          Maximum number of stops, the default applies if absent.
+     * @param engine            The engine building the itineraries, the route join applies if absent.
+     * @param scan              The query of the connection scan engine, the profile applies if absent.
+     * @return RequestDataDto object, null if a parameter is invalid.
      */
-    private RequestDataDto buildRequestDataDto(String departure, String arrival, String departureDateTime, String arrivalDateTime) {
+    private RequestDataDto buildRequestDataDto(String departure, String arrival, String departureDateTime, String arrivalDateTime,
+                                               Optional<String> maxStops, Optional<String> engine, Optional<String> scan) {
         if (!validate(departure, arrival, departureDateTime, arrivalDateTime)) {
             return null;
         }
-        return new RequestDataDto(arrival, departure, LocalDateTime.parse(departureDateTime), LocalDateTime.parse(arrivalDateTime));
+        int parsedMaxStops = maxStops.map(this::parseMaxStops).orElse(Constant.DEFAULT_MAX_STOPS);
+        String selectedEngine = engine.orElse(Constant.ENGINE_JOIN);
+        if (parsedMaxStops < 0 || !isSupportedEngine(selectedEngine) || !isSupportedScan(selectedEngine, scan)) {
+            return null;
+        }
+        return RequestDataDto.builder()
+                .arrival(arrival)
+                .departure(departure)
+                .departureDateTime(LocalDateTime.parse(departureDateTime))
+                .arrivalDateTime(LocalDateTime.parse(arrivalDateTime))
+                .maxStops(parsedMaxStops)
+                .engine(selectedEngine)
+                .scan(scan.orElse(Constant.SCAN_PROFILE))
+                .build();
+    }
+
+    private static boolean isSupportedEngine(String engine) {
+        return Constant.ENGINE_JOIN.equals(engine) || Constant.ENGINE_CONNECTION_SCAN.equals(engine);
+    }
+
+    /**
+     * @return true if no scan is given, or a known scan is given for the connection scan engine.
+     */
+    private static boolean isSupportedScan(String engine, Optional<String> scan) {
+        return scan.isEmpty() || (Constant.ENGINE_CONNECTION_SCAN.equals(engine)
+                && (Constant.SCAN_PROFILE.equals(scan.get()) || Constant.SCAN_EARLIEST_ARRIVAL.equals(scan.get())));
+    }
+
+    /**
+     * Parses the maxStops query parameter.
+     *
+     * @param maxStops The query parameter value.
+     * @return The number of stops, -1 if it is not a number between zero and the configured limit.
+     */
+    private int parseMaxStops(String maxStops) {
+        try {
+            int parsedMaxStops = Integer.parseInt(maxStops);
+            return parsedMaxStops <= propertyConfiguration.getMaxStopsLimit() ? parsedMaxStops : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.ryanair.flight.api.helper;
 
+import org.ryanair.flight.api.cache.ScheduleStaleness;
 import org.ryanair.flight.api.dto.AbstractResponse;
 import org.ryanair.flight.api.dto.FinalFlightResponseDto;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,15 @@ public interface ResponseGenerator {
      */
     AbstractResponse processSuccessResponse(List<FinalFlightResponseDto> finalResponse);
 
+    /**
+     * Processes the trailing summary of a streamed response based on the number of streamed flights.
+     *
+     * @param directFlightCount         The number of streamed direct flights.
+     * @param interConnectedFlightCount The number of streamed interconnected flights.
+     * @return AbstractResponse representing the processed summary without data.
+     */
+    AbstractResponse processStreamSummaryResponse(long directFlightCount, long interConnectedFlightCount);
+
     /**
      * Processes an exception response based on the thrown throwable.
      *
@@ -39,5 +49,15 @@ public interface ResponseGenerator {
      * @return AbstractResponse representing the processed error response.
      */
     AbstractResponse processErrorResponse(HttpStatus httpResponseCode, String errMessage , String errMessageDescription);
+
+    /**
+     * Processes the staleness of a response, adding the staleness indicator when stale schedules or a stale route
+     * catalog were served.
+     *
+     * @param abstractResponse  The response.
+     * @param scheduleStaleness The staleness recorded by the search.
+     * @return AbstractResponse with the staleness indicator, the given response if all data was fresh.
+     */
+    AbstractResponse processStaleness(AbstractResponse abstractResponse, ScheduleStaleness scheduleStaleness);
 }
 
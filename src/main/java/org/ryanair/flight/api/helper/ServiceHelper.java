@@ -1,12 +1,8 @@
 package org.ryanair.flight.api.helper;
 
-import org.ryanair.flight.api.dto.InterConnectedFlightData;
 import org.ryanair.flight.api.dto.RequestDataDto;
 import org.ryanair.flight.api.dto.YearMonthDataDto;
-import org.ryanair.flight.api.model.Flight;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -22,14 +18,6 @@ import java.util.List;
  */
 public interface ServiceHelper {
 
-    /**
-     * Finds the flight occurring two hours after the closest flight to the given date and time.
-     * @param dateTime The reference date and time.
-     * @param flightList The list of flights to search within.
-     * @return The flight occurring two hours after the closest flight, or null if none is found.
-     */
-    Flight findTwoHourAfterClosestFlightByGivenDateTime(LocalDateTime dateTime, List<Flight> flightList);
-
     /**
      * Calculates the number of months for the provided date range.
      * @param requestDataDto The request data specifying the date range.
@@ -37,13 +25,5 @@ public interface ServiceHelper {
      */
     List<YearMonthDataDto> calculateNoOfMonthForTheProvidedDateRange(RequestDataDto requestDataDto);
 
-    /**
-     * Linearizes and organizes the data of interconnected flights into maps.
-     * @param departFlightDataMap The map to store departing flight data.
-     * @param arriveFlightDataMap The map to store arriving flight data.
-     * @param interConnectedFlightData The list of interconnected flight data.
-     */
-    void linearizingDepartingAndArrivingInterconnectedFlights(HashMap<String, List<Flight>> departFlightDataMap, HashMap<String, List<Flight>> arriveFlightDataMap, List<InterConnectedFlightData> interConnectedFlightData);
-
 }
 
@@ -1,7 +1,9 @@
 package org.ryanair.flight.api.helper.impl;
 
+import org.ryanair.flight.api.cache.ScheduleStaleness;
 import org.ryanair.flight.api.dto.AbstractResponse;
 import org.ryanair.flight.api.dto.FinalFlightResponseDto;
+import org.ryanair.flight.api.dto.StalenessDto;
 import org.ryanair.flight.api.exception.BackendInvocationException;
 import org.ryanair.flight.api.exception.DataProcessingCommonServiceException;
 import org.ryanair.flight.api.exception.DataValidationException;
@@ -11,9 +13,15 @@ import org.ryanair.flight.api.util.ResponseMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Author: Gayan Sanjeewa
@@ -39,6 +47,22 @@ public class ResponseGeneratorImpl implements ResponseGenerator {
             return createAbstractResponse(finalResponse,HttpStatus.NO_CONTENT , ResponseMessage.RESPONSE_MESSAGE_NO_CONTENT,ResponseMessage.RESPONSE_MESSAGE_NO_CONTENT);
         }
     }
+
+    /**
+     * Processes the trailing summary of a streamed response, the flights themselves were already streamed.
+     *
+     * @param directFlightCount         The number of streamed direct flights.
+     * @param interConnectedFlightCount The number of streamed interconnected flights.
+     * @return AbstractResponse representing the processed summary without data.
+     */
+    @Override
+    public AbstractResponse processStreamSummaryResponse(long directFlightCount, long interConnectedFlightCount) {
+        if (directFlightCount + interConnectedFlightCount > 0) {
+            return createAbstractResponse(null, HttpStatus.OK, ResponseMessage.RESPONSE_MESSAGE_SUCCESS, ResponseMessage.RESPONSE_MESSAGE_SUCCESS + String.format(ResponseMessage.RESPONSE_DESCRIPTION_INFO, directFlightCount, interConnectedFlightCount));
+        } else {
+            return createAbstractResponse(null, HttpStatus.NO_CONTENT, ResponseMessage.RESPONSE_MESSAGE_NO_CONTENT, ResponseMessage.RESPONSE_MESSAGE_NO_CONTENT);
+        }
+    }
     /**
      * Processes the error response based on the thrown exception.
      *
@@ -76,6 +100,34 @@ public class ResponseGeneratorImpl implements ResponseGenerator {
         return processErrorResponseInternal(httpResponseCode,errMessage,errMessageDescription);
     }
 
+    /**
+     * Adds the staleness indicator with the fetch time and age of the oldest stale schedule or route catalog the search
+     * was answered from, and the load time of the route catalog when it was stale.
+     *
+     * @param abstractResponse  The response.
+     * @param scheduleStaleness The staleness recorded by the search.
+     * @return AbstractResponse with the staleness indicator, the given response if all data was fresh.
+     */
+    @Override
+    public AbstractResponse processStaleness(AbstractResponse abstractResponse, ScheduleStaleness scheduleStaleness) {
+        Optional<Instant> routeCatalogLoadedAt = scheduleStaleness.getRouteCatalogLoadedAt();
+        return Stream.of(scheduleStaleness.getOldestFetchedAt(), routeCatalogLoadedAt)
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder())
+                .map(oldestFetchedAt -> abstractResponse.toBuilder()
+                        .staleness(StalenessDto.builder()
+                                .dataAsOf(formatInstant(oldestFetchedAt))
+                                .ageSeconds(Duration.between(oldestFetchedAt, Instant.now()).toSeconds())
+                                .routeCatalogAsOf(routeCatalogLoadedAt.map(ResponseGeneratorImpl::formatInstant).orElse(null))
+                                .build())
+                        .build())
+                .orElse(abstractResponse);
+    }
+
+    private static String formatInstant(Instant instant) {
+        return DateTimeFormatter.ofPattern(Constant.DATE_FORMAT_ISO).format(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
     private AbstractResponse processErrorResponseInternal(HttpStatus httpResponseCode, String errMessage, String errMessageDescription) {
         return AbstractResponse.builder()
                 .responseCode(httpResponseCode.value())
@@ -1,17 +1,11 @@
 package org.ryanair.flight.api.helper.impl;
 
-import org.ryanair.flight.api.dto.InterConnectedFlightData;
 import org.ryanair.flight.api.dto.RequestDataDto;
 import org.ryanair.flight.api.dto.YearMonthDataDto;
 import org.ryanair.flight.api.helper.ServiceHelper;
-import org.ryanair.flight.api.model.Flight;
-import org.ryanair.flight.api.util.Constant;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
@@ -27,27 +21,6 @@ import java.util.*;
  */
 @Component
 public class ServiceHelperImpl implements ServiceHelper {
-    @Override
-    public Flight findTwoHourAfterClosestFlightByGivenDateTime(LocalDateTime dateTime, List<Flight> flightList) {
-        long minDifference = Long.MIN_VALUE;
-        int index = -1;
-        for (int i = 0; i < flightList.size(); i++) {
-            Flight flight = flightList.get(i);
-            LocalDateTime departLocalDateTime = LocalDateTime.parse(flight.getDepartureTime(), DateTimeFormatter.ofPattern(Constant.DATE_FORMAT_ISO));
-            LocalDateTime plus2LocalDateTime = dateTime.plusHours(2);
-            long diff = departLocalDateTime.until(plus2LocalDateTime, java.time.temporal.ChronoUnit.SECONDS);
-
-            if (diff <= 0 && (diff > minDifference)) {
-                    minDifference = diff;
-                    index = i;
-
-            }
-        }
-        if (index == -1) {
-            return null;
-        }
-        return flightList.get(index);
-    }
 
     @Override
     public List<YearMonthDataDto> calculateNoOfMonthForTheProvidedDateRange(RequestDataDto requestDataDto) {
@@ -81,30 +54,4 @@ public class ServiceHelperImpl implements ServiceHelper {
         return yearAndMonth;
     }
 
-    @Override
-    public void linearizingDepartingAndArrivingInterconnectedFlights(HashMap<String, List<Flight>> departFlightDataMap, HashMap<String, List<Flight>> arriveFlightDataMap, List<InterConnectedFlightData> interConnectedFlightData) {
-        for (InterConnectedFlightData connectedFlightData : interConnectedFlightData) {
-
-            String departSection = connectedFlightData.getDepartSection();
-            String arrivingSection = connectedFlightData.getArrivingSection();
-            if(StringUtils.hasText(departSection) && StringUtils.hasText(arrivingSection)) {
-                List<Flight> arriveFlightData = connectedFlightData.getArriveFlightData();
-                List<Flight> departureFlightData = connectedFlightData.getDepartureFlightData();
-
-                List<Flight> arFlights = arriveFlightDataMap.get(arrivingSection);
-                if (CollectionUtils.isEmpty(arFlights)) {
-                    arriveFlightDataMap.put(arrivingSection, arriveFlightData);
-                } else {
-                    arriveFlightDataMap.get(arrivingSection).addAll(arriveFlightData);
-                }
-
-                List<Flight> drFlights = departFlightDataMap.get(departSection);
-                if (CollectionUtils.isEmpty(drFlights)) {
-                    departFlightDataMap.put(departSection, departureFlightData);
-                } else {
-                    departFlightDataMap.get(departSection).addAll(departureFlightData);
-                }
-            }
-        }
-    }
 }
@@ -0,0 +1,45 @@
+package org.ryanair.flight.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:55 PM
+ */
+
+/**
+ * Jackson encoder of the server responses recording the serialization stage and the response payload size.
+ * Single value bodies and server-sent event data are encoded value by value and metered here,
+ * NDJSON lines are written by the streaming path of the Jackson encoder and are not.
+ * The serialization is also added to the SearchTrace passed in the encoding hints of the response.
+ */
+public class MeteredJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    private final SearchMetrics searchMetrics;
+
+    public MeteredJackson2JsonEncoder(ObjectMapper objectMapper, SearchMetrics searchMetrics) {
+        super(objectMapper);
+        this.searchMetrics = searchMetrics;
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        long start = System.nanoTime();
+        DataBuffer dataBuffer = super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        long durationNanos = System.nanoTime() - start;
+        searchMetrics.recordStage(SearchMetrics.STAGE_SERIALIZATION, durationNanos);
+        SearchTrace.find(hints).ifPresent(searchTrace -> searchTrace.addDuration(SearchMetrics.STAGE_SERIALIZATION, durationNanos));
+        searchMetrics.recordPayloadSize(SearchMetrics.PAYLOAD_RESPONSE, dataBuffer.readableByteCount());
+        return dataBuffer;
+    }
+}
@@ -0,0 +1,256 @@
+package org.ryanair.flight.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:40 PM
+ */
+
+/**
+ * Micrometer meters of the search pipeline, exposed through the Prometheus actuator endpoint.
+ * Stage timers split a query into route discovery, schedule fetch, filtering, joining and serialization,
+ * the per request summaries record the schedule fan-out and the itineraries produced.
+ * The fan-out of a request is counted through a counter carried in the Reactor context of the search,
+ * stages and schedule lookups are also added to the SearchTrace of the search when the caller opted in to one.
+ */
+@Component
+public class SearchMetrics {
+
+    public static final String STAGE_ROUTE_DISCOVERY = "route_discovery";
+    public static final String STAGE_DIRECT_SCHEDULES = "schedules_direct";
+    public static final String STAGE_INTERCONNECTED_SCHEDULES = "schedules_interconnected";
+    public static final String STAGE_MULTI_STOP_SCHEDULES = "schedules_multi_stop";
+    public static final String STAGE_TIMETABLE_SCHEDULES = "schedules_timetable";
+    public static final String STAGE_CONNECTION_SCAN = "connection_scan";
+    public static final String STAGE_RESULT_CACHE = "result_cache";
+    public static final String STAGE_FILTER = "filter";
+    public static final String STAGE_JOIN = "join";
+    public static final String STAGE_SERIALIZATION = "serialization";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_EMPTY = "empty";
+    public static final String OUTCOME_ERROR = "error";
+
+    public static final String PAYLOAD_SCHEDULES = "backend_schedules";
+    public static final String PAYLOAD_RESPONSE = "response";
+
+    private static final String STAGE_TIMER = "flight.search.stage";
+    private static final String SCHEDULE_FETCH_TIMER = "flight.search.schedule.fetch";
+    private static final String FAN_OUT_SUMMARY = "flight.search.fanout";
+    private static final String ITINERARIES_SUMMARY = "flight.search.itineraries";
+    private static final String PAYLOAD_SIZE_SUMMARY = "flight.search.payload.size";
+    private static final String BATCH_QUERIES_SUMMARY = "flight.search.batch.queries";
+    private static final String BATCH_SCHEDULES_SUMMARY = "flight.search.batch.schedules";
+
+    private static final Object FAN_OUT_CONTEXT_KEY = SearchMetrics.class.getName() + ".fanOut";
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary fanOutSummary;
+    private final DistributionSummary itinerariesSummary;
+    private final DistributionSummary batchQueriesSummary;
+    private final DistributionSummary batchSchedulesSummary;
+
+    @Autowired
+    public SearchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.fanOutSummary = DistributionSummary.builder(FAN_OUT_SUMMARY)
+                .description("Schedule lookups issued by one search request")
+                .register(meterRegistry);
+        this.itinerariesSummary = DistributionSummary.builder(ITINERARIES_SUMMARY)
+                .description("Itineraries produced by one search request")
+                .register(meterRegistry);
+        this.batchQueriesSummary = DistributionSummary.builder(BATCH_QUERIES_SUMMARY)
+                .description("Queries of one batch search request")
+                .register(meterRegistry);
+        this.batchSchedulesSummary = DistributionSummary.builder(BATCH_SCHEDULES_SUMMARY)
+                .description("Distinct schedules looked up by one batch search request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Times a synchronous stage of a search.
+     *
+     * @param stage    The stage name.
+     * @param supplier The stage work.
+     * @return A Mono emitting the result of the stage, empty if the stage returned null.
+     */
+    public <T> Mono<T> computeStage(String stage, Supplier<T> supplier) {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            T result = supplier.get();
+            recordStage(context, stage, System.nanoTime() - start);
+            return Mono.justOrEmpty(result);
+        });
+    }
+
+    /**
+     * Times an asynchronous stage from subscription until it completes, fails or is cancelled.
+     * The stage is recorded before its value is passed on, so the downstream work is not part of it.
+     *
+     * @param stage The stage name.
+     * @param mono  The stage work.
+     * @return The timed Mono.
+     */
+    public <T> Mono<T> timeStage(String stage, Mono<T> mono) {
+        return Mono.deferContextual(context -> {
+            Runnable record = stageRecorder(context, stage);
+            return mono
+                    .doOnSuccess(value -> record.run())
+                    .doOnError(throwable -> record.run())
+                    .doOnCancel(record);
+        });
+    }
+
+    /**
+     * Times an asynchronous stage from subscription until it completes, fails or is cancelled.
+     * The stage is recorded before the completion is passed on, so it is part of the trace once the search completes.
+     *
+     * @param stage The stage name.
+     * @param flux  The stage work.
+     * @return The timed Flux.
+     */
+    public <T> Flux<T> timeStage(String stage, Flux<T> flux) {
+        return Flux.deferContextual(context -> {
+            Runnable record = stageRecorder(context, stage);
+            return flux
+                    .doOnComplete(record)
+                    .doOnError(throwable -> record.run())
+                    .doOnCancel(record);
+        });
+    }
+
+    public void recordStage(String stage, long durationNanos) {
+        stageTimer(stage).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records one schedule lookup.
+     *
+     * @param durationNanos The lookup duration.
+     * @param outcome       The lookup outcome, success, empty or error.
+     * @param cacheHit      Whether the lookup was served by the schedule cache instead of a backend call of its own.
+     * @param retries       The backend retries of the lookup, 0 for a cache hit.
+     */
+    public void recordScheduleFetch(long durationNanos, String outcome, boolean cacheHit, int retries) {
+        Timer.builder(SCHEDULE_FETCH_TIMER)
+                .description("Monthly schedule lookups by outcome, cache hit and retry count")
+                .tag("outcome", outcome)
+                .tag("cache", cacheHit ? "hit" : "miss")
+                .tag("retries", String.valueOf(retries))
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a schedule lookup of a search, a lookup served without invoking the cache loader is recorded
+     * as a schedule fetch cache hit. Both outcomes are counted on the trace of the search.
+     *
+     * @param context       The Reactor context of the search.
+     * @param durationNanos The lookup duration.
+     * @param loaded        Whether the lookup invoked the cache loader.
+     */
+    public void recordScheduleLookup(ContextView context, long durationNanos, boolean loaded) {
+        if (!loaded) {
+            recordScheduleFetch(durationNanos, OUTCOME_SUCCESS, true, 0);
+        }
+        SearchTrace.find(context).ifPresent(searchTrace -> searchTrace.countScheduleLookup(loaded));
+    }
+
+    /**
+     * Records a completed batch search, the per query fan-out is recorded by every query on its own.
+     *
+     * @param queries   The queries of the batch.
+     * @param schedules The distinct schedules the batch looked up.
+     */
+    public void recordBatch(int queries, int schedules) {
+        batchQueriesSummary.record(queries);
+        batchSchedulesSummary.record(schedules);
+    }
+
+    public void recordPayloadSize(String payload, long bytes) {
+        DistributionSummary.builder(PAYLOAD_SIZE_SUMMARY)
+                .description("Payload sizes of backend responses and search responses")
+                .baseUnit("bytes")
+                .tag("payload", payload)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Records the fan-out and the itineraries of a search once it terminates.
+     *
+     * @param search The itineraries of one search request.
+     * @return The search with its per request summaries recorded.
+     */
+    public <T> Flux<T> recordSearch(Flux<T> search) {
+        return Flux.defer(() -> {
+            AtomicInteger fanOut = new AtomicInteger();
+            AtomicInteger itineraries = new AtomicInteger();
+            return search
+                    .doOnNext(itinerary -> itineraries.incrementAndGet())
+                    .doFinally(signalType -> {
+                        fanOutSummary.record(fanOut.get());
+                        itinerariesSummary.record(itineraries.get());
+                    })
+                    .contextWrite(context -> context.put(FAN_OUT_CONTEXT_KEY, fanOut));
+        });
+    }
+
+    /**
+     * Counts a schedule lookup towards the fan-out of the search it belongs to.
+     *
+     * @param scheduleLookup The schedule lookup.
+     * @return The lookup, counted when it is subscribed.
+     */
+    public <T> Mono<T> countScheduleLookup(Mono<T> scheduleLookup) {
+        return Mono.deferContextual(context -> {
+            findFanOut(context).ifPresent(AtomicInteger::incrementAndGet);
+            return scheduleLookup;
+        });
+    }
+
+    /**
+     * @return A recorder of the stage started now, recording the stage on its first run only.
+     */
+    private Runnable stageRecorder(ContextView context, String stage) {
+        long start = System.nanoTime();
+        AtomicBoolean recorded = new AtomicBoolean();
+        return () -> {
+            if (recorded.compareAndSet(false, true)) {
+                recordStage(context, stage, System.nanoTime() - start);
+            }
+        };
+    }
+
+    private void recordStage(ContextView context, String stage, long durationNanos) {
+        recordStage(stage, durationNanos);
+        SearchTrace.find(context).ifPresent(searchTrace -> searchTrace.addDuration(stage, durationNanos));
+    }
+
+    private static Optional<AtomicInteger> findFanOut(ContextView context) {
+        return context.getOrEmpty(FAN_OUT_CONTEXT_KEY);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Duration of the search stages")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package org.ryanair.flight.api.metrics;
+
+import org.ryanair.flight.api.dto.SearchDebugDto;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:15 PM
+ */
+
+/**
+ * Latency breakdown of a single search request, collected when the caller opted in.
+ * The trace travels in the Reactor context of the search, so concurrent requests record into their own trace,
+ * and in the encoding hints of the response for the serialization stage.
+ * Durations of a stage entered more than once, the join of every hub for example, are summed up.
+ */
+public final class SearchTrace {
+
+    public static final String ENCODE_HINT = SearchTrace.class.getName();
+
+    private static final Object CONTEXT_KEY = SearchTrace.class;
+    private static final String SERVER_TIMING_BACKEND_CALLS = "backend_calls";
+    private static final String SERVER_TIMING_CACHE_HITS = "cache_hits";
+
+    private final Map<String, Long> durationNanos = new LinkedHashMap<>();
+    private int backendCalls;
+    private int cacheHits;
+
+    /**
+     * @param context The Reactor context of a search.
+     * @return The trace of the search, empty if the caller did not opt in.
+     */
+    public static Optional<SearchTrace> find(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * @param hints The encoding hints of a response.
+     * @return The trace of the search the response belongs to, empty if the caller did not opt in.
+     */
+    public static Optional<SearchTrace> find(Map<String, Object> hints) {
+        return Optional.ofNullable(hints)
+                .map(encodeHints -> encodeHints.get(ENCODE_HINT))
+                .filter(SearchTrace.class::isInstance)
+                .map(SearchTrace.class::cast);
+    }
+
+    /**
+     * @return The context with this trace added.
+     */
+    public Context writeTo(Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    public synchronized void addDuration(String stage, long nanos) {
+        durationNanos.merge(stage, nanos, Long::sum);
+    }
+
+    public synchronized void countScheduleLookup(boolean backendCall) {
+        if (backendCall) {
+            backendCalls++;
+        } else {
+            cacheHits++;
+        }
+    }
+
+    /**
+     * @return The trace as a Server-Timing header value, durations in milliseconds and the counters as descriptions.
+     */
+    public synchronized String toServerTiming() {
+        StringJoiner serverTiming = new StringJoiner(", ");
+        durationNanos.forEach((stage, nanos) -> serverTiming.add(stage + ";dur=" + toMillis(nanos)));
+        serverTiming.add(SERVER_TIMING_BACKEND_CALLS + ";desc=" + backendCalls);
+        serverTiming.add(SERVER_TIMING_CACHE_HITS + ";desc=" + cacheHits);
+        return serverTiming.toString();
+    }
+
+    /**
+     * @return The trace as the debug section of a response.
+     */
+    public synchronized SearchDebugDto toDebugDto() {
+        Map<String, Double> timingsMillis = new LinkedHashMap<>();
+        durationNanos.forEach((stage, nanos) -> timingsMillis.put(stage, toMillis(nanos)));
+        return SearchDebugDto.builder()
+                .timingsMillis(timingsMillis)
+                .backendCalls(backendCalls)
+                .cacheHits(cacheHits)
+                .build();
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,120 @@
+package org.ryanair.flight.api.model;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.ryanair.flight.api.util.EpochMinutes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 5:10 PM
+ */
+
+/**
+ * Compact monthly schedule of one leg, the flights of the whole month sorted by departure epoch-minute.
+ * The sort order lets a request window be located by binary search instead of scanning every day of the month.
+ */
+@Getter
+@ToString
+public final class MonthlyTimetable {
+    private final int year;
+    private final int month;
+    private final List<ScheduledFlight> flights;
+
+    private MonthlyTimetable(int year, int month, List<ScheduledFlight> flights) {
+        this.year = year;
+        this.month = month;
+        this.flights = flights;
+    }
+
+    /**
+     * Creates a timetable from the given flights, the flights are sorted by departure keeping the order of equal departures.
+     *
+     * @param year    The schedule year.
+     * @param month   The schedule month.
+     * @param flights The flights of the month in any order.
+     * @return The MonthlyTimetable of the month.
+     */
+    public static MonthlyTimetable of(int year, int month, List<ScheduledFlight> flights) {
+        List<ScheduledFlight> sortedFlights = new ArrayList<>(flights);
+        sortedFlights.sort(Comparator.comparingInt(ScheduledFlight::getDepartureEpochMinute));
+        return new MonthlyTimetable(year, month, Collections.unmodifiableList(sortedFlights));
+    }
+
+    /**
+     * Creates a timetable from an already materialized schedules API response.
+     * Arrival times are placed on the departure day, as the schedules API only reports the time of day.
+     *
+     * @param scheduleAPIResponseModel The schedules API response.
+     * @param year                     The schedule year, which the schedules API response does not carry.
+     * @return The MonthlyTimetable of the month.
+     */
+    public static MonthlyTimetable from(ScheduleAPIResponseModel scheduleAPIResponseModel, int year) {
+        List<ScheduledFlight> flights = new ArrayList<>();
+        long firstEpochDayOfMonth = LocalDate.of(year, scheduleAPIResponseModel.getMonth(), 1).toEpochDay();
+        if (Objects.nonNull(scheduleAPIResponseModel.getDays())) {
+            for (Day day : scheduleAPIResponseModel.getDays()) {
+                long epochDay = firstEpochDayOfMonth + day.getDay() - 1;
+                for (Flight flight : day.getFlights()) {
+                    flights.add(new ScheduledFlight(
+                            flight.getCarrierCode(),
+                            flight.getNumber(),
+                            EpochMinutes.of(epochDay, EpochMinutes.parseMinuteOfDay(flight.getDepartureTime())),
+                            EpochMinutes.of(epochDay, EpochMinutes.parseMinuteOfDay(flight.getArrivalTime()))));
+                }
+            }
+        }
+        return of(year, scheduleAPIResponseModel.getMonth(), flights);
+    }
+
+    /**
+     * Finds the flights departing and arriving strictly inside the given window.
+     * The first candidate is located by binary search and the scan stops at the first departure past the window.
+     *
+     * @param windowStart The exclusive window start epoch-minute.
+     * @param windowEnd   The exclusive window end epoch-minute.
+     * @return The flights within the window in departure order.
+     */
+    public List<ScheduledFlight> findFlightsWithin(int windowStart, int windowEnd) {
+        List<ScheduledFlight> selectedFlights = new ArrayList<>();
+        for (int i = firstDepartureAfter(windowStart); i < flights.size(); i++) {
+            ScheduledFlight flight = flights.get(i);
+            if (flight.getDepartureEpochMinute() >= windowEnd) {
+                break;
+            }
+            if (flight.getArrivalEpochMinute() < windowEnd && flight.getArrivalEpochMinute() > windowStart) {
+                selectedFlights.add(flight);
+            }
+        }
+        return selectedFlights;
+    }
+
+    /**
+     * @return The number of flights of the month.
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    private int firstDepartureAfter(int epochMinute) {
+        int low = 0;
+        int high = flights.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (flights.get(mid).getDepartureEpochMinute() <= epochMinute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
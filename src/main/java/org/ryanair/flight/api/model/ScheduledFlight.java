@@ -0,0 +1,49 @@
+package org.ryanair.flight.api.model;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.ryanair.flight.api.util.EpochMinutes;
+
+import java.util.Objects;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 4:40 PM
+ */
+
+/**
+ * Compact internal representation of a scheduled flight.
+ * Times are stored as epoch-minutes and carrier code and flight number are interned, so filtering and joining
+ * compare ints and flights of the same schedule share their strings. Times are only formatted when a response is written.
+ */
+@Getter
+@ToString
+public final class ScheduledFlight {
+    private final String carrierCode;
+    private final String number;
+    private final int departureEpochMinute;
+    private final int arrivalEpochMinute;
+
+    public ScheduledFlight(String carrierCode, String number, int departureEpochMinute, int arrivalEpochMinute) {
+        this.carrierCode = Objects.isNull(carrierCode) ? null : carrierCode.intern();
+        this.number = Objects.isNull(number) ? null : number.intern();
+        this.departureEpochMinute = departureEpochMinute;
+        this.arrivalEpochMinute = arrivalEpochMinute;
+    }
+
+    /**
+     * @return The departure time in the ISO local date time form.
+     */
+    public String getDepartureTime() {
+        return EpochMinutes.format(departureEpochMinute);
+    }
+
+    /**
+     * @return The arrival time in the ISO local date time form.
+     */
+    public String getArrivalTime() {
+        return EpochMinutes.format(arrivalEpochMinute);
+    }
+}
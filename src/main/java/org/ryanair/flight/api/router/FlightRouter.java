@@ -23,12 +23,15 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 public class FlightRouter {
 
     /**
-     * Defines the routing function for flight interconnection endpoints.
+     * Defines the routing function for flight interconnection endpoints, the single search and the batch search.
      * @param handler The handler responsible for processing flight search requests.
      * @return The router function mapping incoming requests to the appropriate handler methods.
      */
     @Bean
     public RouterFunction<ServerResponse> flightInterConnectRoutes(FlightSearchHandler handler) {
-        return RouterFunctions.route().GET(Endpoint.END_POINT_INTERCONNECT, handler::findAvailableFlights).build();
+        return RouterFunctions.route()
+                .GET(Endpoint.END_POINT_INTERCONNECT, handler::findAvailableFlights)
+                .POST(Endpoint.END_POINT_INTERCONNECT_BATCH, handler::findAvailableFlightsBatch)
+                .build();
     }
 }
@@ -1,9 +1,11 @@
 package org.ryanair.flight.api.service.backend;
 
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
 import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
-import org.ryanair.flight.api.model.ScheduleAPIResponseModel;
+import org.ryanair.flight.api.snapshot.TimetableSnapshot;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -23,13 +25,46 @@ public interface BackendAPIService {
      */
      Mono<List<RouteAPIResponseModel>> getRoutes(String arrivalIATACode , String departureIATACode) throws BackendInvocationException;
 
+    /**
+     * Retrieves the current route catalog snapshot including its airport adjacency index.
+     *
+     * @return A Mono emitting the current RouteCatalogSnapshot.
+     * @throws BackendInvocationException if there's an error invoking the backend API.
+     */
+     Mono<RouteCatalogSnapshot> getRouteCatalog() throws BackendInvocationException;
+
 
      /**
      * Retrieves schedules based on the provided ScheduleAPIRequestModel.
      *
      * @param scheduleAPIRequestModel The request model containing schedule parameters.
-     * @return A Mono emitting a ScheduleAPIResponseModel object.
+     * @return A Mono emitting the MonthlyTimetable of the requested leg and month.
      * @throws BackendInvocationException if there's an error invoking the backend API.
      */
-     Mono<ScheduleAPIResponseModel> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException;
+     Mono<MonthlyTimetable> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException;
+
+    /**
+     * Reloads the schedules of the provided ScheduleAPIRequestModel from the backend into the schedule cache,
+     * whether or not they are cached. A failed reload keeps the cached schedules.
+     *
+     * @param scheduleAPIRequestModel The request model containing schedule parameters.
+     * @return A Mono emitting the reloaded MonthlyTimetable.
+     * @throws BackendInvocationException if there's an error invoking the backend API.
+     */
+     Mono<MonthlyTimetable> refreshSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException;
+
+    /**
+     * Captures the route catalog and the cached monthly timetables held in memory, nothing is loaded from the backend.
+     *
+     * @return The TimetableSnapshot of the data held in memory.
+     */
+     TimetableSnapshot captureSnapshot();
+
+    /**
+     * Restores a persisted snapshot into the route catalog and the schedule cache.
+     * Data loaded from the backend in the meantime is kept, restored timetables are refreshed on their first use.
+     *
+     * @param timetableSnapshot The persisted snapshot.
+     */
+     void restoreSnapshot(TimetableSnapshot timetableSnapshot);
 }
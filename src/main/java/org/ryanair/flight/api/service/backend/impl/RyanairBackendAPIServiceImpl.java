@@ -1,20 +1,28 @@
 package org.ryanair.flight.api.service.backend.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.ryanair.flight.api.cache.BatchScheduleMemo;
+import org.ryanair.flight.api.cache.ScheduleCache;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.catalog.RouteCatalog;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
 import org.ryanair.flight.api.client.APIClient;
+import org.ryanair.flight.api.client.CallerPartition;
 import org.ryanair.flight.api.exception.BackendInvocationException;
-import org.ryanair.flight.api.exception.DataValidationException;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.MonthlyTimetable;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
-import org.ryanair.flight.api.model.ScheduleAPIResponseModel;
 import org.ryanair.flight.api.service.backend.BackendAPIService;
-import org.ryanair.flight.api.util.Constant;
-import org.ryanair.flight.api.util.ResponseMessage;
+import org.ryanair.flight.api.snapshot.TimetableSnapshot;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
-import java.util.*;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation of the BackendAPIService interface responsible for interacting with the backend API.
@@ -26,9 +34,13 @@ import java.util.*;
 public class RyanairBackendAPIServiceImpl implements BackendAPIService {
 
     private final APIClient apiClient;
+    private final RouteCatalog routeCatalog;
+    private final ScheduleCache scheduleCache;
+    private final SearchMetrics searchMetrics;
 
     /**
      * Retrieves the routes between the given arrival and departure IATA codes.
+     * Routes are served from the in-memory route catalog instead of downloading the full catalog per request.
      *
      * @param arrivalIATACode   The IATA code of the arrival airport.
      * @param departureIATACode The IATA code of the departure airport.
@@ -37,55 +49,85 @@ public class RyanairBackendAPIServiceImpl implements BackendAPIService {
      */
     @Override
     public Mono<List<RouteAPIResponseModel>> getRoutes(String arrivalIATACode , String departureIATACode) throws BackendInvocationException {
-        return apiClient.getRoutes().flatMap(this::filterAndGetValidRoutes);
+        return routeCatalog.getSnapshot().map(RouteCatalogSnapshot::getRoutes);
+    }
+
+    /**
+     * Retrieves the current route catalog snapshot from the in-memory route catalog.
+     *
+     * @return A Mono emitting the current RouteCatalogSnapshot.
+     * @throws BackendInvocationException if the catalog was never loaded and the backend invocation fails.
+     */
+    @Override
+    public Mono<RouteCatalogSnapshot> getRouteCatalog() throws BackendInvocationException {
+        return routeCatalog.getSnapshot();
     }
 
     /**
      * Retrieves the flight schedules based on the provided ScheduleAPIRequestModel.
+     * Monthly schedules are served from the schedule cache and only loaded from the backend on a miss.
+     * Lookups served without invoking the loader are recorded as schedule fetch cache hits here,
+     * misses are recorded by the API client together with their retries. Both are counted on the search trace.
+     * Within a batch search the lookup goes through the memo of the batch, so the batch looks up every schedule once.
      *
      * @param scheduleAPIRequestModel The request model containing schedule parameters.
-     * @return A Mono emitting a ScheduleAPIResponseModel object.
+     * @return A Mono emitting the MonthlyTimetable of the requested leg and month.
      * @throws BackendInvocationException if an error occurs during backend invocation.
      */
     @Override
-    public Mono<ScheduleAPIResponseModel> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException {
-        return apiClient.getSchedules(scheduleAPIRequestModel);
+    public Mono<MonthlyTimetable> getSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException {
+        return Mono.deferContextual(context -> BatchScheduleMemo.find(context)
+                .map(batchScheduleMemo -> batchScheduleMemo.get(ScheduleCacheKey.of(scheduleAPIRequestModel),
+                        scheduleCacheKey -> lookupSchedules(scheduleAPIRequestModel, context)))
+                .orElseGet(() -> lookupSchedules(scheduleAPIRequestModel, context)));
     }
 
+    private Mono<MonthlyTimetable> lookupSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel, ContextView context) {
+        long start = System.nanoTime();
+        AtomicBoolean loaded = new AtomicBoolean();
+        return scheduleCache.get(ScheduleCacheKey.of(scheduleAPIRequestModel), scheduleCacheKey -> {
+                    loaded.set(true);
+                    // the cache subscribes the loader outside of the caller's context, the limiter queues by its partition
+                    return apiClient.getSchedules(scheduleAPIRequestModel)
+                            .contextWrite(loaderContext -> CallerPartition.find(context)
+                                    .map(callerPartition -> callerPartition.writeTo(loaderContext))
+                                    .orElse(loaderContext));
+                })
+                .doOnSuccess(monthlyTimetable ->
+                        searchMetrics.recordScheduleLookup(context, System.nanoTime() - start, loaded.get()));
+    }
 
     /**
-     * Filters and retrieves valid routes from the list of RouteAPIResponseModel objects.
+     * Reloads the flight schedules of the provided ScheduleAPIRequestModel into the schedule cache.
+     * The reload is not a lookup of a search, so it is neither recorded on a search trace nor queued under a caller partition.
      *
-     * @param routeList The list of RouteAPIResponseModel objects to filter.
-     * @return A Mono emitting a list of valid RouteAPIResponseModel objects.
+     * @param scheduleAPIRequestModel The request model containing schedule parameters.
+     * @return A Mono emitting the reloaded MonthlyTimetable.
+     * @throws BackendInvocationException if an error occurs during backend invocation.
      */
-    private Mono<List<RouteAPIResponseModel>> filterAndGetValidRoutes(List<RouteAPIResponseModel> routeList){
-        List<RouteAPIResponseModel> list = routeList.stream()
-                .filter(
-                        this::checkRouteValidityAndFilter
-                ).toList();
-        if(list.isEmpty()){
-            return Mono.error(new DataValidationException(ResponseMessage.ERR_MSG_NO_VALID_ROUTE_FOUND));
-        }else {
-            return Mono.just(list);
-        }
+    @Override
+    public Mono<MonthlyTimetable> refreshSchedules(ScheduleAPIRequestModel scheduleAPIRequestModel) throws BackendInvocationException {
+        return scheduleCache.refresh(ScheduleCacheKey.of(scheduleAPIRequestModel), scheduleCacheKey -> apiClient.getSchedules(scheduleAPIRequestModel));
     }
 
     /**
-     * Checks the validity of a route and filters it based on certain conditions.
+     * Captures the current route catalog and the loaded schedule cache entries.
      *
-     * @param routeAPIResponseModel The RouteAPIResponseModel object to check.
-     * @return True if the route is valid, false otherwise.
+     * @return The TimetableSnapshot of the data held in memory.
      */
-    private boolean checkRouteValidityAndFilter(RouteAPIResponseModel routeAPIResponseModel){
-        if(
-                        Objects.isNull(routeAPIResponseModel.getConnectingAirport()) &&
-                        routeAPIResponseModel.getOperator().equals(Constant.PROVIDER)
-        ){
-                return Boolean.TRUE;
+    @Override
+    public TimetableSnapshot captureSnapshot() {
+        return new TimetableSnapshot(Instant.now(), routeCatalog.getCurrentSnapshot().orElse(null), scheduleCache.entries());
+    }
 
-        }else {
-            return Boolean.FALSE;
-        }
+    /**
+     * Restores the persisted route catalog and schedule cache entries, keeping anything already loaded from the backend.
+     *
+     * @param timetableSnapshot The persisted snapshot.
+     */
+    @Override
+    public void restoreSnapshot(TimetableSnapshot timetableSnapshot) {
+        timetableSnapshot.findRouteCatalog().ifPresent(routeCatalog::restore);
+        timetableSnapshot.scheduleEntries().forEach(scheduleCache::restore);
     }
 }
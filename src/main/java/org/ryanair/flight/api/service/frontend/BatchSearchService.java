@@ -0,0 +1,28 @@
+package org.ryanair.flight.api.service.frontend;
+
+import org.ryanair.flight.api.dto.BatchSearchResultDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:30 PM
+ */
+
+/**
+ * This interface defines methods behaviors to search many queries at once, sharing the schedules they have in common.
+ */
+public interface BatchSearchService {
+
+    /**
+     * Searches all queries of a batch.
+     *
+     * @param requestDataDtoList The queries of the batch.
+     * @return A Flux emitting the result of every query as soon as the query completes.
+     */
+    Flux<BatchSearchResultDto> searchBatch(List<RequestDataDto> requestDataDtoList);
+}
@@ -0,0 +1,27 @@
+package org.ryanair.flight.api.service.frontend;
+
+import org.ryanair.flight.api.dto.FinalFlightResponseDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import reactor.core.publisher.Flux;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 3:20 AM
+ */
+
+/**
+ * This interface defines methods behaviors to find itineraries with the connection scan engine.
+ */
+public interface ConnectionScanSearchService {
+
+    /**
+     * Streams the itineraries of the request found by scanning the timetable of its candidate legs,
+     * every Pareto optimal itinerary or only the earliest arriving one as the request selects.
+     *
+     * @param requestDataDto The request data containing departure and arrival details.
+     * @return A Flux emitting FinalFlightResponseDto objects ordered by departure, then by stops.
+     */
+    Flux<FinalFlightResponseDto> streamFlights(RequestDataDto requestDataDto);
+}
@@ -2,6 +2,7 @@ package org.ryanair.flight.api.service.frontend;
 
 import org.ryanair.flight.api.dto.FinalFlightResponseDto;
 import org.ryanair.flight.api.dto.RequestDataDto;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -25,4 +26,13 @@ public interface FlightSearchService {
      * @return A Mono emitting a list of FinalFlightResponseDto objects representing available flights.
      */
     Mono<List<FinalFlightResponseDto>> findFlights(RequestDataDto requestDataDto);
+
+    /**
+     * Streams all available flights based on the provided request data.
+     * Itineraries are emitted as soon as they are found, direct flights first.
+     *
+     * @param requestDataDto The request data containing flight search parameters.
+     * @return A Flux emitting FinalFlightResponseDto objects representing available flights.
+     */
+    Flux<FinalFlightResponseDto> streamFlights(RequestDataDto requestDataDto);
 }
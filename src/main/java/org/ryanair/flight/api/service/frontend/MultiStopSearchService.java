@@ -0,0 +1,32 @@
+package org.ryanair.flight.api.service.frontend;
+
+import org.ryanair.flight.api.dto.FinalFlightResponseDto;
+import org.ryanair.flight.api.dto.PossibleRoutesDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.dto.YearMonthDataDto;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:40 PM
+ */
+
+/**
+ * This interface defines methods behaviors to find itineraries with two or more stops.
+ */
+public interface MultiStopSearchService {
+
+    /**
+     * Streams the itineraries of the given multi-stop routes.
+     *
+     * @param requestDataDto    The request data containing departure and arrival details.
+     * @param multiStopRoutes   The multi-stop routes, as found by the route service.
+     * @param noOfMonthWithYear The months covered by the request window.
+     * @return A Flux emitting FinalFlightResponseDto objects as they are found.
+     */
+    Flux<FinalFlightResponseDto> streamMultiStopFlights(RequestDataDto requestDataDto, List<PossibleRoutesDto> multiStopRoutes, List<YearMonthDataDto> noOfMonthWithYear);
+}
@@ -25,4 +25,14 @@ public interface RouteService {
      * @return A Mono emitting a list of PossibleRoutesDto representing all possible routes between the given airports.
      */
     Mono<List<PossibleRoutesDto>> findAllPossibleRoutes(String departure , String arrival);
+
+    /**
+     * Finds the routes with two or more stops between the specified departure and arrival airports.
+     *
+     * @param departure The IATA code of the departure airport.
+     * @param arrival   The IATA code of the arrival airport.
+     * @param maxStops  The maximum number of stops of a route.
+     * @return A Mono emitting a list of multi-stop PossibleRoutesDto, routes with fewer stops first.
+     */
+    Mono<List<PossibleRoutesDto>> findMultiStopRoutes(String departure, String arrival, int maxStops);
 }
@@ -1,7 +1,7 @@
 package org.ryanair.flight.api.service.frontend;
 
 import org.ryanair.flight.api.dto.ScheduledServiceDto;
-import org.ryanair.flight.api.model.Flight;
+import org.ryanair.flight.api.model.ScheduledFlight;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -23,23 +23,23 @@ public interface ScheduleService {
      * Retrieves scheduled departing flight data based on the provided ScheduledServiceDto.
      *
      * @param scheduledServiceDto The DTO containing information for scheduling departing flights.
-     * @return A Mono emitting FlightDataDto containing scheduled departing flight data.
+     * @return A Mono emitting the compact ScheduledFlight list containing scheduled departing flight data.
      */
-    Mono<List<Flight>>  getScheduledDepartingFlightData(ScheduledServiceDto scheduledServiceDto);
+    Mono<List<ScheduledFlight>> getScheduledDepartingFlightData(ScheduledServiceDto scheduledServiceDto);
 
     /**
      * Retrieves scheduled arriving flight data based on the provided ScheduledServiceDto.
      *
      * @param scheduledServiceDto The DTO containing information for scheduling arriving flights.
-     * @return A Mono emitting FlightDataDto containing scheduled arriving flight data.
+     * @return A Mono emitting the compact ScheduledFlight list containing scheduled arriving flight data.
      */
-    Mono<List<Flight>> getScheduledArrivingFlightData(ScheduledServiceDto scheduledServiceDto);
+    Mono<List<ScheduledFlight>> getScheduledArrivingFlightData(ScheduledServiceDto scheduledServiceDto);
 
     /**
      * Retrieves scheduled direct flight data based on the provided ScheduledServiceDto.
      *
      * @param scheduledServiceDto The DTO containing information for scheduling direct flights.
-     * @return A Mono emitting FlightDataDto containing scheduled direct flight data.
+     * @return A Mono emitting the compact ScheduledFlight list containing scheduled direct flight data.
      */
-    Mono<List<Flight>> getScheduledDirectFlightData(ScheduledServiceDto scheduledServiceDto);
+    Mono<List<ScheduledFlight>> getScheduledDirectFlightData(ScheduledServiceDto scheduledServiceDto);
 }
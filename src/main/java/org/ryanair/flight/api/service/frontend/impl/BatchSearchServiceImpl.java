@@ -0,0 +1,168 @@
+package org.ryanair.flight.api.service.frontend.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.BatchScheduleMemo;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.*;
+import org.ryanair.flight.api.helper.ResponseGenerator;
+import org.ryanair.flight.api.helper.ServiceHelper;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+import org.ryanair.flight.api.service.frontend.BatchSearchService;
+import org.ryanair.flight.api.service.frontend.FlightSearchService;
+import org.ryanair.flight.api.service.frontend.RouteService;
+import org.ryanair.flight.api.util.Constant;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:35 PM
+ */
+
+/**
+ * Implementation of BatchSearchService that plans the schedules of all queries of a batch before searching them.
+ * The direct and one-stop legs of every query are resolved from the route catalog, and the union of their monthly
+ * schedules is fetched once with bounded concurrency. A query is searched as soon as the last of its schedules is
+ * fetched, the search itself then reads them from the memo of the batch. Legs of routes with more stops are only
+ * fetched while searching, as most of them are pruned, but they go through the same memo.
+ * Every query tracks its own staleness, a stale schedule shared through the memo only marks the queries reading it.
+ */
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class BatchSearchServiceImpl implements BatchSearchService {
+
+    private final RouteService routeService;
+    private final ServiceHelper serviceHelper;
+    private final BackendAPIService backendAPIService;
+    private final FlightSearchService flightSearchService;
+    private final ResponseGenerator responseGenerator;
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
+    private final SearchMetrics searchMetrics;
+
+    /**
+     * Searches all queries of a batch, sharing the schedules they have in common.
+     * A failing query is reported in its own result and does not fail the batch.
+     *
+     * @param requestDataDtoList The queries of the batch.
+     * @return A Flux emitting the result of every query as soon as the query completes.
+     */
+    @Override
+    public Flux<BatchSearchResultDto> searchBatch(List<RequestDataDto> requestDataDtoList) {
+        BatchScheduleMemo batchScheduleMemo = new BatchScheduleMemo();
+        return Flux.fromIterable(requestDataDtoList)
+                .concatMap(this::planSchedules)
+                .collectList()
+                .flatMapMany(plannedSchedules -> {
+                    log.debug("Batch of {} queries planned", requestDataDtoList.size());
+                    return findReadyQueries(plannedSchedules)
+                            .flatMap(index -> searchQuery(index, requestDataDtoList.get(index)),
+                                    propertyConfiguration.getBatchQueryConcurrency());
+                })
+                .doOnComplete(() -> searchMetrics.recordBatch(requestDataDtoList.size(), batchScheduleMemo.size()))
+                .contextWrite(batchScheduleMemo::writeTo);
+    }
+
+    /**
+     * Fetches the union of the planned schedules once and emits every query as soon as all its schedules are fetched.
+     * A failed fetch also counts as fetched, the failure is replayed from the memo to the queries needing it.
+     *
+     * @param plannedSchedules The planned schedules of every query, in query order.
+     * @return A Flux emitting the index of every query once it is ready to be searched.
+     */
+    private Flux<Integer> findReadyQueries(List<Set<ScheduleCacheKey>> plannedSchedules) {
+        return Flux.defer(() -> {
+            Map<ScheduleCacheKey, List<Integer>> queriesBySchedule = new LinkedHashMap<>();
+            int[] pendingSchedules = new int[plannedSchedules.size()];
+            List<Integer> queriesWithoutSchedules = new ArrayList<>();
+            for (int index = 0; index < plannedSchedules.size(); index++) {
+                pendingSchedules[index] = plannedSchedules.get(index).size();
+                if (pendingSchedules[index] == 0) {
+                    queriesWithoutSchedules.add(index);
+                }
+                for (ScheduleCacheKey scheduleCacheKey : plannedSchedules.get(index)) {
+                    queriesBySchedule.computeIfAbsent(scheduleCacheKey, key -> new ArrayList<>()).add(index);
+                }
+            }
+            log.debug("Batch fetching {} distinct schedules", queriesBySchedule.size());
+
+            Flux<Integer> queriesWithFetchedSchedules = Flux.fromIterable(queriesBySchedule.keySet())
+                    .flatMap(scheduleCacheKey -> backendAPIService.getSchedules(scheduleCacheKey.toRequestModel())
+                                    .onErrorResume(throwable -> {
+                                        log.debug("Batch failed to fetch {} - {}", scheduleCacheKey, throwable.getMessage());
+                                        return Mono.empty();
+                                    })
+                                    .thenReturn(scheduleCacheKey),
+                            propertyConfiguration.getBatchFetchConcurrency())
+                    .concatMapIterable(scheduleCacheKey -> {
+                        List<Integer> readyQueries = new ArrayList<>();
+                        for (int index : queriesBySchedule.get(scheduleCacheKey)) {
+                            if (--pendingSchedules[index] == 0) {
+                                readyQueries.add(index);
+                            }
+                        }
+                        return readyQueries;
+                    });
+            return Flux.fromIterable(queriesWithoutSchedules).concatWith(queriesWithFetchedSchedules);
+        });
+    }
+
+    /**
+     * Plans the monthly schedules of the direct and one-stop legs of a query.
+     *
+     * @param requestDataDto The query.
+     * @return A Mono emitting the distinct schedules of the query, empty set if its routes could not be resolved.
+     */
+    private Mono<Set<ScheduleCacheKey>> planSchedules(RequestDataDto requestDataDto) {
+        List<YearMonthDataDto> noOfMonthWithYear = serviceHelper.calculateNoOfMonthForTheProvidedDateRange(requestDataDto);
+        return routeService.findAllPossibleRoutes(requestDataDto.getDeparture(), requestDataDto.getArrival())
+                .map(possibleRoutes -> {
+                    Set<ScheduleCacheKey> scheduleCacheKeys = new LinkedHashSet<>();
+                    for (PossibleRoutesDto possibleRoutesDto : possibleRoutes) {
+                        List<RouteAPIResponseModel> legs = Constant.ROUTE_TYPE_DIRECT.equals(possibleRoutesDto.getType())
+                                ? Collections.singletonList(possibleRoutesDto.getDirectRoute())
+                                : requestDataDto.getMaxStops() > 0 ? possibleRoutesDto.getInterConnectedRoute() : Collections.emptyList();
+                        for (YearMonthDataDto yearMonthDataDto : noOfMonthWithYear) {
+                            legs.forEach(leg -> scheduleCacheKeys.add(new ScheduleCacheKey(leg.getAirportFrom(), leg.getAirportTo(),
+                                    yearMonthDataDto.getYear(), yearMonthDataDto.getMonth())));
+                        }
+                    }
+                    return scheduleCacheKeys;
+                })
+                // the query reports the failure itself when it is searched
+                .onErrorResume(throwable -> Mono.just(Collections.emptySet()));
+    }
+
+    /**
+     * Searches one query of the batch, marked stale only by the stale schedules the query itself read.
+     *
+     * @param index          The position of the query in the batch.
+     * @param requestDataDto The query.
+     * @return A Mono emitting the result of the query, a failure is mapped to an error result.
+     */
+    private Mono<BatchSearchResultDto> searchQuery(int index, RequestDataDto requestDataDto) {
+        ScheduleStaleness scheduleStaleness = new ScheduleStaleness();
+        return flightSearchService.findFlights(requestDataDto)
+                .contextWrite(scheduleStaleness::writeTo)
+                .map(finalFlightResponseDtoList -> responseGenerator.processStaleness(
+                        responseGenerator.processSuccessResponse(finalFlightResponseDtoList), scheduleStaleness))
+                .onErrorResume(throwable -> Mono.just(responseGenerator.processExceptionResponse(throwable)))
+                .map(abstractResponse -> BatchSearchResultDto.builder()
+                        .index(index)
+                        .departure(requestDataDto.getDeparture())
+                        .arrival(requestDataDto.getArrival())
+                        .result(abstractResponse)
+                        .build());
+    }
+}
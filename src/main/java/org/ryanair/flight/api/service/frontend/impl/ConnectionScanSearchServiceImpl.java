@@ -0,0 +1,161 @@
+package org.ryanair.flight.api.service.frontend.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.*;
+import org.ryanair.flight.api.engine.ConnectionScanEngine;
+import org.ryanair.flight.api.engine.ConnectionTimetable;
+import org.ryanair.flight.api.engine.FlightConnection;
+import org.ryanair.flight.api.helper.ServiceHelper;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.service.frontend.ConnectionScanSearchService;
+import org.ryanair.flight.api.service.frontend.RouteService;
+import org.ryanair.flight.api.service.frontend.ScheduleService;
+import org.ryanair.flight.api.util.Constant;
+import org.ryanair.flight.api.util.EpochMinutes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 3:25 AM
+ */
+
+/**
+ * Implementation of ConnectionScanSearchService building one connection timetable per query.
+ * The candidate legs are those of the routes the route service finds for the request, so the scan answers over the
+ * same routes as the route join. Their schedules are fetched through the schedule service, cache first, and every
+ * flight within the request window becomes a connection of the timetable. The profile query of the engine then
+ * returns the Pareto optimal itineraries with at most maxStops + 1 flights: no other itinerary departs later and
+ * arrives earlier, or as late and as early with fewer flights. The earliest arrival query instead returns the single
+ * itinerary departing within the window and arriving first.
+ */
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class ConnectionScanSearchServiceImpl implements ConnectionScanSearchService {
+
+    private final ServiceHelper serviceHelper;
+    private final RouteService routeService;
+    private final ScheduleService scheduleService;
+    private final ConnectionScanEngine connectionScanEngine;
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
+    private final SearchMetrics searchMetrics;
+
+    /**
+     * Streams the itineraries of the request found by scanning the timetable of its candidate legs,
+     * every Pareto optimal itinerary or only the earliest arriving one as the request selects.
+     * Only direct routes are scanned when the request allows no stops.
+     *
+     * @param requestDataDto The request data containing departure and arrival details.
+     * @return A Flux emitting FinalFlightResponseDto objects ordered by departure, then by stops.
+     */
+    @Override
+    public Flux<FinalFlightResponseDto> streamFlights(RequestDataDto requestDataDto) {
+        String departure = requestDataDto.getDeparture();
+        String arrival = requestDataDto.getArrival();
+        Mono<List<PossibleRoutesDto>> multiStopRoutesMono = requestDataDto.getMaxStops() > 1
+                ? routeService.findMultiStopRoutes(departure, arrival, requestDataDto.getMaxStops())
+                : Mono.just(Collections.emptyList());
+        List<YearMonthDataDto> noOfMonthWithYear = serviceHelper.calculateNoOfMonthForTheProvidedDateRange(requestDataDto);
+        return searchMetrics.timeStage(SearchMetrics.STAGE_ROUTE_DISCOVERY, routeService.findAllPossibleRoutes(departure, arrival)
+                        .zipWith(multiStopRoutesMono))
+                .map(possibleRoutes -> collectLegs(possibleRoutes.getT1(), possibleRoutes.getT2(), requestDataDto))
+                .flatMap(legs -> searchMetrics.timeStage(SearchMetrics.STAGE_TIMETABLE_SCHEDULES,
+                        getConnections(legs, noOfMonthWithYear, requestDataDto)))
+                .flatMap(connections -> searchMetrics.computeStage(SearchMetrics.STAGE_CONNECTION_SCAN, () ->
+                        scan(ConnectionTimetable.of(connections), requestDataDto)))
+                .flatMapIterable(itineraries -> itineraries)
+                .map(this::createResponse);
+    }
+
+    /**
+     * Runs the query of the request over the timetable.
+     *
+     * @param timetable      The connections within the request window.
+     * @param requestDataDto The request data.
+     * @return The itineraries of the profile query, or the single itinerary of the earliest arrival query if any.
+     */
+    private List<List<FlightConnection>> scan(ConnectionTimetable timetable, RequestDataDto requestDataDto) {
+        int minConnectionMinutes = propertyConfiguration.getMinConnectionMinutes();
+        int maxLegs = requestDataDto.getMaxStops() + 1;
+        if (Constant.SCAN_EARLIEST_ARRIVAL.equals(requestDataDto.getScan())) {
+            return connectionScanEngine.findEarliestArrival(timetable, requestDataDto.getDeparture(), requestDataDto.getArrival(),
+                            EpochMinutes.ofWindowStart(requestDataDto.getDepartureDateTime()), minConnectionMinutes, maxLegs)
+                    .map(Collections::singletonList)
+                    .orElse(Collections.emptyList());
+        }
+        return connectionScanEngine.findProfile(timetable, requestDataDto.getDeparture(), requestDataDto.getArrival(), minConnectionMinutes, maxLegs);
+    }
+
+    /**
+     * Collects the distinct legs of the given routes, the legs of one-stop routes only when the request allows stops.
+     *
+     * @param allPossibleRoute The direct and one-stop routes.
+     * @param multiStopRoutes  The routes with two or more stops, empty unless the request allows them.
+     * @param requestDataDto   The request data.
+     * @return The legs keyed by both airports.
+     */
+    private Collection<RouteAPIResponseModel> collectLegs(List<PossibleRoutesDto> allPossibleRoute, List<PossibleRoutesDto> multiStopRoutes, RequestDataDto requestDataDto) {
+        Map<String, RouteAPIResponseModel> legs = new LinkedHashMap<>();
+        for (PossibleRoutesDto possibleRoutesDto : allPossibleRoute) {
+            if (possibleRoutesDto.getType().equals(Constant.ROUTE_TYPE_DIRECT)) {
+                RouteAPIResponseModel directRoute = possibleRoutesDto.getDirectRoute();
+                legs.putIfAbsent(directRoute.getAirportFrom() + directRoute.getAirportTo(), directRoute);
+            } else if (requestDataDto.getMaxStops() > 0) {
+                possibleRoutesDto.getInterConnectedRoute().forEach(leg -> legs.putIfAbsent(leg.getAirportFrom() + leg.getAirportTo(), leg));
+            }
+        }
+        multiStopRoutes.forEach(multiStopRoute -> multiStopRoute.getInterConnectedRoute()
+                .forEach(leg -> legs.putIfAbsent(leg.getAirportFrom() + leg.getAirportTo(), leg)));
+        log.debug("Scanning {} legs for {} to {}", legs.size(), requestDataDto.getDeparture(), requestDataDto.getArrival());
+        return legs.values();
+    }
+
+    /**
+     * Retrieves the flights of every leg over all months of the request as connections.
+     *
+     * @param legs              The distinct legs.
+     * @param noOfMonthWithYear The months covered by the request window.
+     * @param requestDataDto    The request data.
+     * @return Mono emitting the connections within the request window, in no particular order.
+     */
+    private Mono<List<FlightConnection>> getConnections(Collection<RouteAPIResponseModel> legs, List<YearMonthDataDto> noOfMonthWithYear, RequestDataDto requestDataDto) {
+        return Flux.fromIterable(legs)
+                .flatMap(leg -> Flux.fromIterable(noOfMonthWithYear)
+                        .flatMap(yearMonthDataDto -> scheduleService.getScheduledDirectFlightData(ScheduledServiceDto.builder()
+                                .directRouteData(leg)
+                                .requestData(requestDataDto)
+                                .yearMonthData(yearMonthDataDto)
+                                .build()))
+                        .flatMapIterable(flightList -> flightList)
+                        .map(flight -> new FlightConnection(leg.getAirportFrom(), leg.getAirportTo(), flight)))
+                .collectList();
+    }
+
+    /**
+     * Maps one itinerary of the scan to a final flight response.
+     *
+     * @param itinerary The flights of the itinerary in order.
+     * @return The FinalFlightResponseDto of the itinerary.
+     */
+    private FinalFlightResponseDto createResponse(List<FlightConnection> itinerary) {
+        List<DataLegs> legs = itinerary.stream()
+                .map(connection -> DataLegs.builder()
+                        .departureAirport(connection.departureAirport())
+                        .arrivalAirport(connection.arrivalAirport())
+                        .departureEpochMinute(connection.flight().getDepartureEpochMinute())
+                        .arrivalEpochMinute(connection.flight().getArrivalEpochMinute())
+                        .build())
+                .toList();
+        return FinalFlightResponseDto.builder().stops(legs.size() - 1).legs(legs).build();
+    }
+}
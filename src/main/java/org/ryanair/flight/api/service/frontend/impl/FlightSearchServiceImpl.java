@@ -2,27 +2,32 @@ package org.ryanair.flight.api.service.frontend.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.cache.SearchResultCache;
+import org.ryanair.flight.api.cache.SearchResultCacheKey;
+import org.ryanair.flight.api.cache.SearchWindowResult;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
 import org.ryanair.flight.api.dto.*;
+import org.ryanair.flight.api.engine.ConnectionCandidate;
+import org.ryanair.flight.api.engine.ConnectionJoinEngine;
 import org.ryanair.flight.api.exception.BackendInvocationException;
 import org.ryanair.flight.api.helper.ServiceHelper;
+import org.ryanair.flight.api.metrics.SearchMetrics;
 import org.ryanair.flight.api.model.*;
+import org.ryanair.flight.api.service.frontend.ConnectionScanSearchService;
 import org.ryanair.flight.api.service.frontend.FlightSearchService;
+import org.ryanair.flight.api.service.frontend.MultiStopSearchService;
 import org.ryanair.flight.api.service.frontend.RouteService;
 import org.ryanair.flight.api.service.frontend.ScheduleService;
 import org.ryanair.flight.api.util.Constant;
+import org.ryanair.flight.api.util.EpochMinutes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
-import static org.ryanair.flight.api.util.Constant.DATE_FORMAT_ISO;
-
 /**
  * Author: Gayan Sanjeewa
  * User: gayan
@@ -41,156 +46,178 @@ public class FlightSearchServiceImpl implements FlightSearchService {
     private final ServiceHelper serviceHelper;
     private final RouteService routeService;
     private final ScheduleService scheduleService;
+    private final ConnectionJoinEngine connectionJoinEngine;
+    private final MultiStopSearchService multiStopSearchService;
+    private final SearchMetrics searchMetrics;
+    private final SearchResultCache searchResultCache;
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
+    private final ConnectionScanSearchService connectionScanSearchService;
 
     /**
      * Finds all available flights based on the given request data.
+     * Searches of the route join with at most one stop are answered from the search result cache when it is enabled.
      * @param requestDataDto The request data containing departure and arrival details.
      * @return A Mono emitting a list of FinalFlightResponseDto objects.
      */
     @Override
     public Mono<List<FinalFlightResponseDto>> findFlights(RequestDataDto requestDataDto) {
-        String arrival = requestDataDto.getArrival();
-        String departure = requestDataDto.getDeparture();
-        log.debug("processing received request findFlights()");
-        return routeService.findAllPossibleRoutes(departure, arrival) //finding all possible routes
-                .flatMap(routeAPIResponseModels ->
-                        processAllAvailableInterconnectedAndDirectFlights(routeAPIResponseModels, requestDataDto)) // finding all available flights
-                .flatMap(availableFlightDto ->
-                        processCollectedFlightsToFinalResponse(availableFlightDto, requestDataDto)); //combining all available flights together
-
+        if (propertyConfiguration.getResultCacheEnabled() && requestDataDto.getMaxStops() <= 1
+                && Constant.ENGINE_JOIN.equals(requestDataDto.getEngine())) {
+            return findFlightsThroughResultCache(requestDataDto);
+        }
+        return streamFlights(requestDataDto).collectList();
     }
 
     /**
-     * Processes collected flights to generate final flight response.
-     * @param availableFlightDto The available flight data.
-     * @param requestDataDto The request data.
+     * Finds the flights of the request by slicing the cached result of its widened window.
+     * Direct flights come first, followed by the itineraries of every hub, as in a search without the cache.
+     * @param requestDataDto The request data containing departure and arrival details.
      * @return A Mono emitting a list of FinalFlightResponseDto objects.
      */
-    private Mono<List<FinalFlightResponseDto>> processCollectedFlightsToFinalResponse(AvailableFlightDto availableFlightDto, RequestDataDto requestDataDto) {
-        log.debug("Started generating final response");
-        List<FinalFlightResponseDto> finalFlightResponseDtoList = new ArrayList<>();
-
-        //generating final response for the direct flights
-        List<Flight> allAvailableDirectFlights = availableFlightDto.getDirectFlights();
-        generateAndAttachDirectFlightsToFinaResponse(finalFlightResponseDtoList, allAvailableDirectFlights,requestDataDto);
-
-        //generating final response for the interconnected flights with checking conditions
-        List<InterConnectedFlightData> allFoundedInterconnectedFlights = availableFlightDto.getInterconnectedFlights()
-                .stream().filter(interConnectedFlightData ->
-                        StringUtils.hasText(interConnectedFlightData.getDepartSection()) &&
-                                StringUtils.hasText(interConnectedFlightData.getArrivingSection())
-                ).toList();
-        generateAndAttachInterConnectedFlightsToFinaResponse(
-                finalFlightResponseDtoList, allFoundedInterconnectedFlights, requestDataDto);
+    private Mono<List<FinalFlightResponseDto>> findFlightsThroughResultCache(RequestDataDto requestDataDto) {
+        SearchResultCacheKey searchResultCacheKey = SearchResultCacheKey.of(requestDataDto, propertyConfiguration.getResultCacheBucketMinutes());
+        return searchResultCache.get(searchResultCacheKey, this::searchWindow)
+                .flatMapIterable(searchWindowResult -> sliceWindow(searchWindowResult, requestDataDto))
+                .transform(searchMetrics::recordSearch)
+                .collectList();
+    }
 
-        log.debug("finished generating final response");
+    /**
+     * Searches the direct and one-stop flights of a widened window, keeping the connections of every hub
+     * before legs are assigned to itineraries.
+     * @param searchResultCacheKey The pair and widened window.
+     * @return A Mono emitting the SearchWindowResult of the window.
+     * @throws BackendInvocationException if an error occurs during backend invocation.
+     */
+    private Mono<SearchWindowResult> searchWindow(SearchResultCacheKey searchResultCacheKey) throws BackendInvocationException {
+        RequestDataDto windowRequestDataDto = RequestDataDto.builder()
+                .departure(searchResultCacheKey.departure())
+                .arrival(searchResultCacheKey.arrival())
+                .departureDateTime(searchResultCacheKey.windowStart())
+                .arrivalDateTime(searchResultCacheKey.windowEnd())
+                .maxStops(1)
+                .build();
+        List<YearMonthDataDto> noOfMonthWithYear = serviceHelper.calculateNoOfMonthForTheProvidedDateRange(windowRequestDataDto);
+        return searchMetrics.timeStage(SearchMetrics.STAGE_ROUTE_DISCOVERY,
+                        routeService.findAllPossibleRoutes(searchResultCacheKey.departure(), searchResultCacheKey.arrival()))
+                .flatMap(allPossibleRoute -> {
+                    Set<ScheduleCacheKey> scheduleKeys = new HashSet<>();
+                    Mono<List<ScheduledFlight>> directFlightsMono = Mono.just(Collections.emptyList());
+                    for (PossibleRoutesDto possibleRoutesDto : allPossibleRoute) {
+                        if (possibleRoutesDto.getType().equals(Constant.ROUTE_TYPE_DIRECT)) {
+                            RouteAPIResponseModel directRoute = possibleRoutesDto.getDirectRoute();
+                            addScheduleKeys(scheduleKeys, directRoute, noOfMonthWithYear);
+                            directFlightsMono = searchMetrics.timeStage(SearchMetrics.STAGE_DIRECT_SCHEDULES,
+                                    getAvailableFlightForTheDirectRouteMono(directRoute, noOfMonthWithYear, windowRequestDataDto));
+                        } else if (possibleRoutesDto.getType().equals(Constant.ROUTE_TYPE_INTER_CONNECTED)) {
+                            possibleRoutesDto.getInterConnectedRoute().forEach(route -> addScheduleKeys(scheduleKeys, route, noOfMonthWithYear));
+                        }
+                    }
+                    Mono<List<SearchWindowResult.HubConnections>> hubConnectionsMono = searchMetrics.timeStage(SearchMetrics.STAGE_INTERCONNECTED_SCHEDULES,
+                            Flux.fromIterable(allPossibleRoute)
+                                    .filter(possibleRoutesDto -> possibleRoutesDto.getType().equals(Constant.ROUTE_TYPE_INTER_CONNECTED))
+                                    .flatMapSequential(possibleRoutesDto -> {
+                                        List<RouteAPIResponseModel> interConnectedRoute = possibleRoutesDto.getInterConnectedRoute();
+                                        return findConnectionsOfTheHub(windowRequestDataDto, interConnectedRoute, noOfMonthWithYear)
+                                                .map(connectionCandidates -> new SearchWindowResult.HubConnections(
+                                                        interConnectedRoute.getFirst().getAirportTo(), connectionCandidates));
+                                    })
+                                    .collectList());
+                    return directFlightsMono.zipWith(hubConnectionsMono, (directFlights, hubConnections) ->
+                            new SearchWindowResult(directFlights, hubConnections, scheduleKeys));
+                });
+    }
 
-        return Mono.just(finalFlightResponseDtoList);
+    /**
+     * Adds the monthly schedules of one leg to the given keys.
+     * @param scheduleKeys The keys to add to.
+     * @param route The leg.
+     * @param noOfMonthWithYear The list of YearMonthDataDto objects.
+     */
+    private void addScheduleKeys(Set<ScheduleCacheKey> scheduleKeys, RouteAPIResponseModel route, List<YearMonthDataDto> noOfMonthWithYear) {
+        noOfMonthWithYear.forEach(yearMonthDataDto -> scheduleKeys.add(new ScheduleCacheKey(
+                route.getAirportFrom(), route.getAirportTo(), yearMonthDataDto.getYear(), yearMonthDataDto.getMonth())));
     }
 
     /**
-     * Generates and attaches interconnected flights to the final flight response.
-     * @param finalFlightResponseDtoList The list to which final flight response DTOs are added.
-     * @param allFoundedInterconnectedFlights List of interconnected flight data.
+     * Slices the result of a widened window to the window of the request.
+     * Only flights and connections whose legs all depart and arrive within the window are kept, legs are then assigned
+     * to itineraries as in a search of that window. A connection is dropped when its connecting flight arrives after
+     * the window, even if a later departing connecting flight of the same hub would still arrive within it.
+     * @param searchWindowResult The result of the widened window.
      * @param requestDataDto The request data.
+     * @return The FinalFlightResponseDto objects of the request, direct flights first.
      */
-    private void generateAndAttachInterConnectedFlightsToFinaResponse(List<FinalFlightResponseDto> finalFlightResponseDtoList, List<InterConnectedFlightData> allFoundedInterconnectedFlights, RequestDataDto requestDataDto) {
-        if (!CollectionUtils.isEmpty(allFoundedInterconnectedFlights)) {
-            HashMap<String, List<Flight>> arrivingFlightsDataMap = new HashMap<>();
-            HashMap<String, List<Flight>> departingFlightsDataMap = new HashMap<>();
-
-            serviceHelper.linearizingDepartingAndArrivingInterconnectedFlights(
-                    departingFlightsDataMap, arrivingFlightsDataMap, allFoundedInterconnectedFlights);
-
-            findAndMapRelatedInterConnectedFlights(
-                    arrivingFlightsDataMap, departingFlightsDataMap, requestDataDto, finalFlightResponseDtoList);
+    private List<FinalFlightResponseDto> sliceWindow(SearchWindowResult searchWindowResult, RequestDataDto requestDataDto) {
+        int windowStart = EpochMinutes.ofWindowStart(requestDataDto.getDepartureDateTime());
+        int windowEnd = EpochMinutes.ofWindowEnd(requestDataDto.getArrivalDateTime());
+        List<FinalFlightResponseDto> finalFlightResponseDtoList = new ArrayList<>();
+        searchWindowResult.directFlights()
+                .stream()
+                .filter(directFlight -> isWithinWindow(directFlight, windowStart, windowEnd))
+                .forEach(directFlight -> finalFlightResponseDtoList.add(createDirectFlightResponse(directFlight, requestDataDto)));
+        if (requestDataDto.getMaxStops() > 0) {
+            searchWindowResult.hubConnections().forEach(hubConnections -> {
+                List<ConnectionCandidate> connectionCandidates = hubConnections.connectionCandidates()
+                        .stream()
+                        .filter(connectionCandidate -> isWithinWindow(connectionCandidate.departingFlight(), windowStart, windowEnd)
+                                && isWithinWindow(connectionCandidate.connectingFlight(), windowStart, windowEnd))
+                        .toList();
+                finalFlightResponseDtoList.addAll(findAndMapRelatedInterConnectedFlights(connectionCandidates, hubConnections.hubAirport(), requestDataDto));
+            });
         }
+        return finalFlightResponseDtoList;
     }
 
     /**
-     * Generates and attaches direct flights to the final flight response.
-     * @param finalFlightResponseDtoList The list to which final flight response DTOs are added.
-     * @param directFlights List of direct flight data.
+     * Checks a flight against the window the same way the monthly timetable selects the flights of a window.
      */
-    private void generateAndAttachDirectFlightsToFinaResponse(List<FinalFlightResponseDto> finalFlightResponseDtoList, List<Flight> directFlights, RequestDataDto requestDataDto) {
-        if (!CollectionUtils.isEmpty(directFlights)) {
-            directFlights.forEach(flight -> finalFlightResponseDtoList.add(
-                    FinalFlightResponseDto.builder()
-                            .stops(0)
-                            .legs(
-                                    Collections.singletonList(
-                                            DataLegs.builder()
-                                                    .departureDateTime(flight.getDepartureTime())
-                                                    .arrivalDateTime(flight.getArrivalTime())
-                                                    .departureAirport(requestDataDto.getDeparture())
-                                                    .arrivalAirport(requestDataDto.getArrival())
-                                                    .build()))
-                            .build()
-            ));
-        }
+    private static boolean isWithinWindow(ScheduledFlight flight, int windowStart, int windowEnd) {
+        return flight.getDepartureEpochMinute() > windowStart
+                && flight.getDepartureEpochMinute() < windowEnd
+                && flight.getArrivalEpochMinute() > windowStart
+                && flight.getArrivalEpochMinute() < windowEnd;
     }
 
-
     /**
-     * Finds and maps related interconnected flights to the final flight response.
-     * @param arrivingFlightsDataMap Map containing arriving flights data.
-     * @param departingFlightsDataMap Map containing departing flights data.
-     * @param requestDataDto The request data.
-     * @param finalFlightResponseDtoList The list to which final flight response DTOs are added.
+     * Streams all available flights based on the given request data.
+     * Direct flights are emitted first, the itineraries of every hub follow as soon as both legs of the hub are fetched.
+     * Routes with two or more stops are only discovered when the request allows more than one stop, and follow last.
+     * The schedule fan-out and the itineraries of the search are recorded once it terminates.
+     * Searches requesting the connection scan engine are handed to the connection scan search service instead.
+     * @param requestDataDto The request data containing departure and arrival details.
+     * @return A Flux emitting FinalFlightResponseDto objects as they are found.
      */
-    private void findAndMapRelatedInterConnectedFlights(HashMap<String, List<Flight>> arrivingFlightsDataMap, HashMap<String, List<Flight>> departingFlightsDataMap, RequestDataDto requestDataDto, List<FinalFlightResponseDto> finalFlightResponseDtoList) {
-        departingFlightsDataMap.forEach((key, departingFlights) -> {
-            String[] split = key.split("-");
-            String splitArrivingAirport = split[1];
-            departingFlights.forEach(departingFlight -> {
-                List<Flight> arrivingFlights = arrivingFlightsDataMap.get(split[1] + "-" + requestDataDto.getArrival());
-                arrivingFlights.forEach(arrivingFlight -> {
-
-                    LocalDateTime flightArrivingDateTime = LocalDateTime
-                            .parse(departingFlight.getArrivalTime(), DateTimeFormatter.ofPattern(DATE_FORMAT_ISO));
-
-                    Flight closestFoundedArrivingFlight = serviceHelper
-                            .findTwoHourAfterClosestFlightByGivenDateTime(flightArrivingDateTime, arrivingFlights);
-
-                    if (Objects.nonNull(closestFoundedArrivingFlight)) {
-                        DataLegs dataLegsDepart = DataLegs.builder()
-                                .departureAirport(requestDataDto.getDeparture())
-                                .arrivalAirport(splitArrivingAirport)
-                                .arrivalDateTime(departingFlight.getArrivalTime())
-                                .departureDateTime(departingFlight.getDepartureTime())
-                                .build();
-                        DataLegs dataLegsArrv = DataLegs.builder()
-                                .departureAirport(splitArrivingAirport)
-                                .arrivalAirport(requestDataDto.getArrival())
-                                .arrivalDateTime(closestFoundedArrivingFlight.getArrivalTime())
-                                .departureDateTime(closestFoundedArrivingFlight.getDepartureTime())
-                                .build();
-
-                       boolean areFlightsAlreadyChosen = finalFlightResponseDtoList
-                                .stream()
-                                .anyMatch(finalFlightResponseDto -> finalFlightResponseDto.getLegs().contains(dataLegsArrv) || finalFlightResponseDto.getLegs().contains(dataLegsDepart));
-
-                       if(!areFlightsAlreadyChosen) {
-                           List<DataLegs> legs = new ArrayList<>();
-                           legs.add(dataLegsDepart);
-                           legs.add(dataLegsArrv);
-                           finalFlightResponseDtoList.add(FinalFlightResponseDto.builder().stops(1).legs(legs).build());
-                       }
-                    }
-                });
-            });
-        });
+    @Override
+    public Flux<FinalFlightResponseDto> streamFlights(RequestDataDto requestDataDto) {
+        if (Constant.ENGINE_CONNECTION_SCAN.equals(requestDataDto.getEngine())) {
+            return connectionScanSearchService.streamFlights(requestDataDto)
+                    .transform(searchMetrics::recordSearch);
+        }
+        String arrival = requestDataDto.getArrival();
+        String departure = requestDataDto.getDeparture();
+        log.debug("processing received request streamFlights()");
+        Mono<List<PossibleRoutesDto>> multiStopRoutesMono = requestDataDto.getMaxStops() > 1
+                ? routeService.findMultiStopRoutes(departure, arrival, requestDataDto.getMaxStops())
+                : Mono.just(Collections.emptyList());
+        return searchMetrics.timeStage(SearchMetrics.STAGE_ROUTE_DISCOVERY, routeService.findAllPossibleRoutes(departure, arrival) //finding all possible routes
+                        .zipWith(multiStopRoutesMono))
+                .flatMapMany(possibleRoutes ->
+                        streamAllAvailableInterconnectedAndDirectFlights(possibleRoutes.getT1(), possibleRoutes.getT2(), requestDataDto)) // streaming all available flights
+                .transform(searchMetrics::recordSearch);
     }
 
-
     /**
-     * Process all available interconnected and direct flights based on the given possible routes and request data.
+     * Streams all available interconnected and direct flights based on the given possible routes and request data.
+     * All sources are subscribed eagerly, the hub itineraries are only buffered while direct flights are still being emitted.
+     * One-stop routes are skipped when the request allows no stops.
      * @param allPossibleRoute List of possible routes.
+     * @param multiStopRoutes List of routes with two or more stops, empty unless the request allows them.
      * @param requestDataDto The request data.
-     * @return A Mono emitting the available flight data.
+     * @return A Flux emitting FinalFlightResponseDto objects, direct flights first and multi-stop itineraries last.
      * @throws BackendInvocationException if an error occurs during backend invocation.
      */
-    private Mono<AvailableFlightDto> processAllAvailableInterconnectedAndDirectFlights(List<PossibleRoutesDto> allPossibleRoute, RequestDataDto requestDataDto) throws BackendInvocationException {
+    private Flux<FinalFlightResponseDto> streamAllAvailableInterconnectedAndDirectFlights(List<PossibleRoutesDto> allPossibleRoute, List<PossibleRoutesDto> multiStopRoutes, RequestDataDto requestDataDto) throws BackendInvocationException {
 
         //filtering and get direct route from the allPossibleRoute list
         Optional<PossibleRoutesDto> directRouteOptional = allPossibleRoute
@@ -199,8 +226,9 @@ public class FlightSearchServiceImpl implements FlightSearchService {
                         possibleRoutesDto.getType().equals(Constant.ROUTE_TYPE_DIRECT))
                 .findAny();
 
-        Flux<InterConnectedFlightData> selectedInterconnectedFLightDataFlux = Flux.empty();
-        Mono<List<Flight>> selectedDirectFlightListMono = Mono.empty();
+        Flux<FinalFlightResponseDto> directFlightFlux = Flux.empty();
+        Flux<FinalFlightResponseDto> interConnectedFlightFlux = Flux.empty();
+        Flux<FinalFlightResponseDto> multiStopFlightFlux = Flux.empty();
 
         List<YearMonthDataDto> noOfMonthWithYear = serviceHelper.calculateNoOfMonthForTheProvidedDateRange(requestDataDto);
 
@@ -209,7 +237,10 @@ public class FlightSearchServiceImpl implements FlightSearchService {
         if (directRouteOptional.isPresent()) {
             RouteAPIResponseModel directRoute = directRouteOptional.get().getDirectRoute();
             log.debug("direct route detected and process - {} to {} " , directRoute.getAirportFrom() , directRoute.getAirportTo());
-            selectedDirectFlightListMono = getAvailableFlightForTheDirectRouteMono(directRoute, noOfMonthWithYear, requestDataDto);
+            directFlightFlux = searchMetrics.timeStage(SearchMetrics.STAGE_DIRECT_SCHEDULES,
+                            getAvailableFlightForTheDirectRouteMono(directRoute, noOfMonthWithYear, requestDataDto))
+                    .flatMapIterable(directFlights -> directFlights)
+                    .map(directFlight -> createDirectFlightResponse(directFlight, requestDataDto));
         } else {
             log.debug("No direct route founded");
         }
@@ -222,84 +253,145 @@ public class FlightSearchServiceImpl implements FlightSearchService {
                 .filter(possibleRoutesDto ->
                         possibleRoutesDto.getType().equals(Constant.ROUTE_TYPE_INTER_CONNECTED))
                 .toList();
-        if (!list.isEmpty()) {
+        if (!list.isEmpty() && requestDataDto.getMaxStops() > 0) {
             log.debug("Interconnected routes detected and processing " );
-            selectedInterconnectedFLightDataFlux = getInterConnectedAvailableFlightFlux(requestDataDto, list, noOfMonthWithYear);
+            // timed until the legs of every hub are fetched and joined, the join itself is also timed on its own
+            interConnectedFlightFlux = searchMetrics.timeStage(SearchMetrics.STAGE_INTERCONNECTED_SCHEDULES, Flux.fromIterable(list)
+                    .flatMap(possibleRoutesDto ->
+                            getInterConnectedFlightsOfTheHubFlux(requestDataDto, possibleRoutesDto.getInterConnectedRoute(), noOfMonthWithYear)));
         } else {
             log.debug("No interconnected routes found");
         }
 
-        //combining direct flights and interconnected flights mono's together
-        return selectedDirectFlightListMono.defaultIfEmpty(Collections.emptyList())
-                .zipWith(selectedInterconnectedFLightDataFlux.collectList().defaultIfEmpty(Collections.emptyList()))
-                .map(tuple -> {
-            List<Flight> selectedDirectFlights = tuple.getT1();
-            List<InterConnectedFlightData> interConnectedFlightData = tuple.getT2();
-            // Create a new object to hold both types of data
-            AvailableFlightDto combinedDetails = new AvailableFlightDto();
-            combinedDetails.setDirectFlights(selectedDirectFlights);
-            combinedDetails.setInterconnectedFlights(interConnectedFlightData);
-            return combinedDetails;
-        });
+        if (!multiStopRoutes.isEmpty()) {
+            log.debug("Multi-stop routes detected and processing - {}", Constant.ROUTE_TYPE_MULTI_STOP);
+            multiStopFlightFlux = searchMetrics.timeStage(SearchMetrics.STAGE_MULTI_STOP_SCHEDULES,
+                    multiStopSearchService.streamMultiStopFlights(requestDataDto, multiStopRoutes, noOfMonthWithYear));
+        }
+
+        return Flux.mergeSequential(directFlightFlux, interConnectedFlightFlux, multiStopFlightFlux);
+    }
 
+    /**
+     * Creates the final flight response of a direct flight.
+     * @param flight The direct flight.
+     * @param requestDataDto The request data.
+     * @return The FinalFlightResponseDto with a single leg.
+     */
+    private FinalFlightResponseDto createDirectFlightResponse(ScheduledFlight flight, RequestDataDto requestDataDto) {
+        return FinalFlightResponseDto.builder()
+                .stops(0)
+                .legs(
+                        Collections.singletonList(
+                                DataLegs.builder()
+                                        .departureEpochMinute(flight.getDepartureEpochMinute())
+                                        .arrivalEpochMinute(flight.getArrivalEpochMinute())
+                                        .departureAirport(requestDataDto.getDeparture())
+                                        .arrivalAirport(requestDataDto.getArrival())
+                                        .build()))
+                .build();
     }
 
     /**
-     * Retrieves the flux of available interconnected flights.
+     * Retrieves the flux of interconnected flights through one hub.
      * @param requestDataDto The request data.
-     * @param interConnectedRoutes Details of interconnected routes.
+     * @param interConnectedRoute The departing and the arriving route of the hub.
      * @param noOfMonthWithYear The list of YearMonthDataDto objects.
-     * @return Flux emitting InterConnectedFlightData.
+     * @return Flux emitting the FinalFlightResponseDto objects of the hub.
      */
-    private Flux<InterConnectedFlightData> getInterConnectedAvailableFlightFlux(RequestDataDto requestDataDto, List<PossibleRoutesDto> interConnectedRoutes, List<YearMonthDataDto> noOfMonthWithYear) {
-
-        return Flux.fromIterable(interConnectedRoutes)
-                .flatMap(possibleRoutesDto -> Flux.fromIterable(noOfMonthWithYear)
-                        .flatMap(yearMonthDataDto -> {
-                            List<RouteAPIResponseModel> interConnectedRoute = possibleRoutesDto.getInterConnectedRoute();
-                            ScheduledServiceDto scheduledServiceDto = ScheduledServiceDto.builder()
-                                    .arrivingRouteData(interConnectedRoute.getLast()) // Arriving section
-                                    .departingRouteData(interConnectedRoute.getFirst()) // Departing section
-                                    .requestData(requestDataDto)
-                                    .yearMonthData(yearMonthDataDto)
-                                    .build();
-
-                            Mono<List<Flight>> scheduledDepartingFlightData = scheduleService
-                                    .getScheduledDepartingFlightData(scheduledServiceDto)
-                                    .switchIfEmpty(Mono.just(Collections.emptyList()));
-
-                            Mono<List<Flight>> scheduledArrivingFlightData = scheduleService
-                                    .getScheduledArrivingFlightData(scheduledServiceDto)
-                                    .switchIfEmpty(Mono.just(Collections.emptyList()));
-
-
-                            return scheduledDepartingFlightData.zipWith(scheduledArrivingFlightData)
-                                    .map(tuple -> {
-                                        List<Flight> departingFlights = tuple.getT1();
-                                        List<Flight> arrivingFlights = tuple.getT2();
-
-                                        if (departingFlights.isEmpty() || arrivingFlights.isEmpty()) {
-                                           return new InterConnectedFlightData();
-                                        }
-                                        return getInterConnectedFlightData(interConnectedRoute, departingFlights, arrivingFlights);
-
-                                    });
-
-                        })
-                );
+    private Flux<FinalFlightResponseDto> getInterConnectedFlightsOfTheHubFlux(RequestDataDto requestDataDto, List<RouteAPIResponseModel> interConnectedRoute, List<YearMonthDataDto> noOfMonthWithYear) {
+        return findConnectionsOfTheHub(requestDataDto, interConnectedRoute, noOfMonthWithYear)
+                .flatMapIterable(connectionCandidates -> findAndMapRelatedInterConnectedFlights(
+                        connectionCandidates, interConnectedRoute.getFirst().getAirportTo(), requestDataDto));
     }
 
-    private static InterConnectedFlightData getInterConnectedFlightData(List<RouteAPIResponseModel> interConnectedRoute, List<Flight> departingFlights, List<Flight> arrivingFlights) {
-        InterConnectedFlightData interConnectedFlightData = new InterConnectedFlightData();
-        RouteAPIResponseModel first = interConnectedRoute.getFirst();
-        RouteAPIResponseModel last = interConnectedRoute.getLast();
-        interConnectedFlightData.setDepartSection(first.getAirportFrom() + "-" + first.getAirportTo());
-        interConnectedFlightData.setArrivingSection(last.getAirportFrom() + "-" + last.getAirportTo());
-        interConnectedFlightData.setDepartureFlightData(departingFlights);
-        interConnectedFlightData.setArriveFlightData(arrivingFlights);
-        return interConnectedFlightData;
+    /**
+     * Finds the connections through one hub.
+     * The flights of both legs are collected over all months of the request before the hub is joined,
+     * so a connection may cross a month boundary. Months where one of the legs has no flights are skipped.
+     * The hub is joined once by the connection join engine, which picks the earliest connecting flight per departing flight.
+     * @param requestDataDto The request data.
+     * @param interConnectedRoute The departing and the arriving route of the hub.
+     * @param noOfMonthWithYear The list of YearMonthDataDto objects.
+     * @return Mono emitting the ConnectionCandidate objects of the hub.
+     */
+    private Mono<List<ConnectionCandidate>> findConnectionsOfTheHub(RequestDataDto requestDataDto, List<RouteAPIResponseModel> interConnectedRoute, List<YearMonthDataDto> noOfMonthWithYear) {
+        return Flux.fromIterable(noOfMonthWithYear)
+                .flatMap(yearMonthDataDto -> {
+                    ScheduledServiceDto scheduledServiceDto = ScheduledServiceDto.builder()
+                            .arrivingRouteData(interConnectedRoute.getLast()) // Arriving section
+                            .departingRouteData(interConnectedRoute.getFirst()) // Departing section
+                            .requestData(requestDataDto)
+                            .yearMonthData(yearMonthDataDto)
+                            .build();
+
+                    Mono<List<ScheduledFlight>> scheduledDepartingFlightData = scheduleService
+                            .getScheduledDepartingFlightData(scheduledServiceDto)
+                            .switchIfEmpty(Mono.just(Collections.emptyList()));
+
+                    Mono<List<ScheduledFlight>> scheduledArrivingFlightData = scheduleService
+                            .getScheduledArrivingFlightData(scheduledServiceDto)
+                            .switchIfEmpty(Mono.just(Collections.emptyList()));
+
+                    return scheduledDepartingFlightData.zipWith(scheduledArrivingFlightData);
+                })
+                .filter(tuple -> !tuple.getT1().isEmpty() && !tuple.getT2().isEmpty())
+                .collectList()
+                .flatMap(monthlyFlights -> {
+                    List<ScheduledFlight> departingFlights = new ArrayList<>();
+                    List<ScheduledFlight> arrivingFlights = new ArrayList<>();
+                    monthlyFlights.forEach(tuple -> {
+                        departingFlights.addAll(tuple.getT1());
+                        arrivingFlights.addAll(tuple.getT2());
+                    });
+                    return searchMetrics.computeStage(SearchMetrics.STAGE_JOIN, () -> connectionJoinEngine.join(departingFlights, arrivingFlights));
+                });
     }
 
+    /**
+     * Maps the connections of one hub to final flight responses.
+     * Already used legs are tracked in a hash set while the result is built instead of scanning the result list per candidate.
+     * Legs of different hubs and direct legs never share both airports, so the set only has to cover the hub itself.
+     * @param connectionCandidates The connections through the hub in the order of the departing flights.
+     * @param hubAirport The IATA code of the hub.
+     * @param requestDataDto The request data.
+     * @return The FinalFlightResponseDto objects of the hub.
+     */
+    private List<FinalFlightResponseDto> findAndMapRelatedInterConnectedFlights(List<ConnectionCandidate> connectionCandidates, String hubAirport, RequestDataDto requestDataDto) {
+        List<FinalFlightResponseDto> finalFlightResponseDtoList = new ArrayList<>();
+        // legs already used by an itinerary, a leg is never reused across itineraries
+        Set<DataLegs> chosenLegs = new HashSet<>();
+
+        connectionCandidates.forEach(connectionCandidate -> {
+            ScheduledFlight departingFlight = connectionCandidate.departingFlight();
+            ScheduledFlight closestFoundedArrivingFlight = connectionCandidate.connectingFlight();
+
+            DataLegs dataLegsDepart = DataLegs.builder()
+                    .departureAirport(requestDataDto.getDeparture())
+                    .arrivalAirport(hubAirport)
+                    .arrivalEpochMinute(departingFlight.getArrivalEpochMinute())
+                    .departureEpochMinute(departingFlight.getDepartureEpochMinute())
+                    .build();
+            DataLegs dataLegsArrv = DataLegs.builder()
+                    .departureAirport(hubAirport)
+                    .arrivalAirport(requestDataDto.getArrival())
+                    .arrivalEpochMinute(closestFoundedArrivingFlight.getArrivalEpochMinute())
+                    .departureEpochMinute(closestFoundedArrivingFlight.getDepartureEpochMinute())
+                    .build();
+
+            boolean areFlightsAlreadyChosen = chosenLegs.contains(dataLegsArrv) || chosenLegs.contains(dataLegsDepart);
+
+            if (!areFlightsAlreadyChosen) {
+                chosenLegs.add(dataLegsDepart);
+                chosenLegs.add(dataLegsArrv);
+                List<DataLegs> legs = new ArrayList<>();
+                legs.add(dataLegsDepart);
+                legs.add(dataLegsArrv);
+                finalFlightResponseDtoList.add(FinalFlightResponseDto.builder().stops(1).legs(legs).build());
+            }
+        });
+        return finalFlightResponseDtoList;
+    }
 
     /**
      * Retrieves the mono of available direct flights.
@@ -308,7 +400,7 @@ public class FlightSearchServiceImpl implements FlightSearchService {
      * @param requestDataDto The request data.
      * @return Mono emitting a list of FlightDataDto objects.
      */
-    private Mono<List<Flight>> getAvailableFlightForTheDirectRouteMono(
+    private Mono<List<ScheduledFlight>> getAvailableFlightForTheDirectRouteMono(
             RouteAPIResponseModel directRoute,
             List<YearMonthDataDto> noOfMonthWithYear,
             RequestDataDto requestDataDto) {
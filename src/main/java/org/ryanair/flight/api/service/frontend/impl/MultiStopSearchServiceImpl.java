@@ -0,0 +1,236 @@
+package org.ryanair.flight.api.service.frontend.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.*;
+import org.ryanair.flight.api.engine.ConnectionJoinEngine;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.service.frontend.MultiStopSearchService;
+import org.ryanair.flight.api.service.frontend.ScheduleService;
+import org.ryanair.flight.api.util.EpochMinutes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:45 PM
+ */
+
+/**
+ * Implementation of MultiStopSearchService that follows the multi-stop routes leg by leg.
+ * The routes are merged into a prefix tree, so a leg shared by several routes is fetched and joined once,
+ * and the legs of a query are memoized so the same leg on different branches is fetched once as well.
+ * The schedules of a leg are only fetched when the itineraries up to it are non empty and can still reach the
+ * arrival airport within the request window, assuming the minimum connection time at every hub and the configured
+ * minimum block time on every remaining leg.
+ */
+@Service
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class MultiStopSearchServiceImpl implements MultiStopSearchService {
+
+    private final ScheduleService scheduleService;
+    private final ConnectionJoinEngine connectionJoinEngine;
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
+    private final SearchMetrics searchMetrics;
+
+    /**
+     * Streams the itineraries of the given multi-stop routes.
+     * The itineraries of a route are emitted as soon as its last leg is joined.
+     *
+     * @param requestDataDto    The request data containing departure and arrival details.
+     * @param multiStopRoutes   The multi-stop routes, as found by the route service.
+     * @param noOfMonthWithYear The months covered by the request window.
+     * @return A Flux emitting FinalFlightResponseDto objects as they are found.
+     */
+    @Override
+    public Flux<FinalFlightResponseDto> streamMultiStopFlights(RequestDataDto requestDataDto, List<PossibleRoutesDto> multiStopRoutes, List<YearMonthDataDto> noOfMonthWithYear) {
+        if (multiStopRoutes.isEmpty()) {
+            return Flux.empty();
+        }
+        RouteNode routeTree = buildRouteTree(multiStopRoutes);
+        MultiStopSearch search = new MultiStopSearch(requestDataDto, noOfMonthWithYear,
+                EpochMinutes.ofWindowEnd(requestDataDto.getArrivalDateTime()), new ConcurrentHashMap<>());
+        log.debug("Processing {} multi-stop routes through {} first legs", multiStopRoutes.size(), routeTree.children.size());
+
+        return Flux.fromIterable(routeTree.children.values())
+                .flatMap(firstLeg -> getLegFlights(firstLeg.leg, search)
+                        .flatMapMany(flights -> followRoute(firstLeg,
+                                flights.stream().map(Collections::singletonList).toList(), search)));
+    }
+
+    /**
+     * Extends the itineraries arriving at the end of the given node along its children.
+     * Children which cannot reach the arrival airport within the window are pruned before their leg is fetched.
+     *
+     * @param node        The route node the itineraries have just flown.
+     * @param itineraries The flights of every itinerary so far, one itinerary per distinct last flight.
+     * @param search      The state of the query.
+     * @return A Flux emitting the FinalFlightResponseDto objects of the routes below the node.
+     */
+    private Flux<FinalFlightResponseDto> followRoute(RouteNode node, List<List<ScheduledFlight>> itineraries, MultiStopSearch search) {
+        if (itineraries.isEmpty()) {
+            return Flux.empty();
+        }
+        if (node.children.isEmpty()) {
+            return Flux.fromIterable(createResponses(node.path, itineraries));
+        }
+        int earliestArrival = itineraries.stream()
+                .mapToInt(itinerary -> itinerary.getLast().getArrivalEpochMinute())
+                .min()
+                .orElseThrow();
+        return Flux.fromIterable(node.children.values())
+                .filter(nextLeg -> canArriveWithinWindow(nextLeg, earliestArrival, search))
+                .flatMap(nextLeg -> getLegFlights(nextLeg.leg, search)
+                        .flatMap(flights -> searchMetrics.computeStage(SearchMetrics.STAGE_JOIN, () -> connect(itineraries, flights)))
+                        .flatMapMany(connectedItineraries -> followRoute(nextLeg, connectedItineraries, search)));
+    }
+
+    /**
+     * Checks the lower bound of the arrival time through the given node against the window end.
+     *
+     * @param node            The next route node.
+     * @param earliestArrival The earliest arrival of the itineraries at the departure of the node's leg.
+     * @param search          The state of the query.
+     * @return true if an itinerary through the node may still arrive before the window ends.
+     */
+    private boolean canArriveWithinWindow(RouteNode node, int earliestArrival, MultiStopSearch search) {
+        int minLegMinutes = propertyConfiguration.getMinConnectionMinutes() + propertyConfiguration.getMultiStopMinLegMinutes();
+        return earliestArrival + (long) node.legsToArrival * minLegMinutes < search.windowEnd();
+    }
+
+    /**
+     * Joins the last flights of the itineraries with the flights of the next leg.
+     * Itineraries sharing a last flight would connect to the same flight, so only the first of them is extended.
+     *
+     * @param itineraries The itineraries so far.
+     * @param flights     The flights of the next leg.
+     * @return The extended itineraries in the order of their last flights.
+     */
+    private List<List<ScheduledFlight>> connect(List<List<ScheduledFlight>> itineraries, List<ScheduledFlight> flights) {
+        // keyed by identity, every flight of a leg is a single instance within the query
+        Map<ScheduledFlight, List<ScheduledFlight>> itineraryByLastFlight = new LinkedHashMap<>();
+        itineraries.forEach(itinerary -> itineraryByLastFlight.putIfAbsent(itinerary.getLast(), itinerary));
+
+        List<List<ScheduledFlight>> connectedItineraries = new ArrayList<>();
+        connectionJoinEngine.join(new ArrayList<>(itineraryByLastFlight.keySet()), flights).forEach(connectionCandidate -> {
+            List<ScheduledFlight> itinerary = itineraryByLastFlight.get(connectionCandidate.departingFlight());
+            List<ScheduledFlight> connectedItinerary = new ArrayList<>(itinerary.size() + 1);
+            connectedItinerary.addAll(itinerary);
+            connectedItinerary.add(connectionCandidate.connectingFlight());
+            connectedItineraries.add(connectedItinerary);
+        });
+        return connectedItineraries;
+    }
+
+    /**
+     * Maps the complete itineraries of one route to final flight responses, a leg is never reused across itineraries.
+     *
+     * @param path        The legs of the route.
+     * @param itineraries The complete itineraries of the route.
+     * @return The FinalFlightResponseDto objects of the route.
+     */
+    private List<FinalFlightResponseDto> createResponses(List<RouteAPIResponseModel> path, List<List<ScheduledFlight>> itineraries) {
+        List<FinalFlightResponseDto> finalFlightResponseDtoList = new ArrayList<>();
+        Set<DataLegs> chosenLegs = new HashSet<>();
+        for (List<ScheduledFlight> itinerary : itineraries) {
+            List<DataLegs> legs = new ArrayList<>(itinerary.size());
+            for (int i = 0; i < itinerary.size(); i++) {
+                ScheduledFlight flight = itinerary.get(i);
+                legs.add(DataLegs.builder()
+                        .departureAirport(path.get(i).getAirportFrom())
+                        .arrivalAirport(path.get(i).getAirportTo())
+                        .departureEpochMinute(flight.getDepartureEpochMinute())
+                        .arrivalEpochMinute(flight.getArrivalEpochMinute())
+                        .build());
+            }
+            if (legs.stream().noneMatch(chosenLegs::contains)) {
+                chosenLegs.addAll(legs);
+                finalFlightResponseDtoList.add(FinalFlightResponseDto.builder().stops(legs.size() - 1).legs(legs).build());
+            }
+        }
+        return finalFlightResponseDtoList;
+    }
+
+    /**
+     * Retrieves the flights of one leg over all months of the request, memoized per query.
+     *
+     * @param leg    The route of the leg.
+     * @param search The state of the query.
+     * @return Mono emitting the flights of the leg within the request window.
+     */
+    private Mono<List<ScheduledFlight>> getLegFlights(RouteAPIResponseModel leg, MultiStopSearch search) {
+        return search.legFlights().computeIfAbsent(leg.getAirportFrom() + leg.getAirportTo(), key ->
+                Flux.fromIterable(search.noOfMonthWithYear())
+                        .flatMap(yearMonthDataDto -> scheduleService.getScheduledDirectFlightData(ScheduledServiceDto.builder()
+                                .directRouteData(leg)
+                                .requestData(search.requestDataDto())
+                                .yearMonthData(yearMonthDataDto)
+                                .build()))
+                        .flatMapIterable(flightList -> flightList)
+                        .collectList()
+                        .cache());
+    }
+
+    /**
+     * Merges the routes into a prefix tree keyed by the arrival airport of every leg.
+     *
+     * @param multiStopRoutes The multi-stop routes.
+     * @return The root node, its children are the first legs.
+     */
+    private static RouteNode buildRouteTree(List<PossibleRoutesDto> multiStopRoutes) {
+        RouteNode root = new RouteNode(null, Collections.emptyList());
+        for (PossibleRoutesDto multiStopRoute : multiStopRoutes) {
+            List<RouteAPIResponseModel> legs = multiStopRoute.getInterConnectedRoute();
+            RouteNode node = root;
+            for (int i = 0; i < legs.size(); i++) {
+                RouteAPIResponseModel leg = legs.get(i);
+                RouteNode parent = node;
+                node = parent.children.computeIfAbsent(leg.getAirportTo(), airport -> new RouteNode(leg, legs.subList(0, parent.path.size() + 1)));
+                node.legsToArrival = Math.min(node.legsToArrival, legs.size() - i);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * A leg of one or more routes sharing the same preceding legs.
+     */
+    private static final class RouteNode {
+        private final RouteAPIResponseModel leg;
+        // the legs from the departure airport up to and including this one
+        private final List<RouteAPIResponseModel> path;
+        private final Map<String, RouteNode> children = new LinkedHashMap<>();
+        // the fewest legs, this one included, to the arrival airport through this node
+        private int legsToArrival = Integer.MAX_VALUE;
+
+        private RouteNode(RouteAPIResponseModel leg, List<RouteAPIResponseModel> path) {
+            this.leg = leg;
+            this.path = path;
+        }
+    }
+
+    /**
+     * The state of one query.
+     *
+     * @param requestDataDto    The request data.
+     * @param noOfMonthWithYear The months covered by the request window.
+     * @param windowEnd         The window end epoch-minute.
+     * @param legFlights        The memoized flights of every leg fetched so far, keyed by both airports.
+     */
+    private record MultiStopSearch(RequestDataDto requestDataDto,
+                                   List<YearMonthDataDto> noOfMonthWithYear,
+                                   int windowEnd,
+                                   Map<String, Mono<List<ScheduledFlight>>> legFlights) {
+    }
+}
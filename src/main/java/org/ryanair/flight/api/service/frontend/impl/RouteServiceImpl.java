@@ -1,8 +1,9 @@
 package org.ryanair.flight.api.service.frontend.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.ryanair.flight.api.catalog.RouteIndex;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
 import org.ryanair.flight.api.dto.PossibleRoutesDto;
-import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.service.backend.BackendAPIService;
 import org.ryanair.flight.api.service.frontend.RouteService;
 import org.ryanair.flight.api.util.Constant;
@@ -10,7 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Author: Gayan Sanjeewa
@@ -26,6 +28,7 @@ import java.util.*;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class RouteServiceImpl implements RouteService {
     private final BackendAPIService backendAPIService;
+    private final FlightSearchPropertyConfiguration propertyConfiguration;
 
     /**
      * Finds all possible routes between the specified departure and arrival airports.
@@ -37,73 +40,60 @@ public class RouteServiceImpl implements RouteService {
     @Override
     public Mono<List<PossibleRoutesDto>> findAllPossibleRoutes(String departure , String arrival) {
         return backendAPIService
-                .getRoutes(arrival, departure)
-                .flatMap(routeAPIResponseModelList ->
-                        extractAllDirectAndInterConnectedRoutesFromTheResponse(
-                                routeAPIResponseModelList, departure, arrival)
+                .getRouteCatalog()
+                .map(routeCatalogSnapshot ->
+                        extractAllDirectAndInterConnectedRoutesFromTheIndex(
+                                routeCatalogSnapshot.getRouteIndex(), departure, arrival)
                 );
 
     }
 
     /**
-     * Extracts all direct and interconnected routes from the provided list of route data.
+     * Finds the routes with two up to the given number of stops from the route catalog adjacency index.
+     * The number of routes per query is capped, so a well connected airport pair cannot multiply the schedule fetches.
      *
-     * @param list             The list of route data.
-     * @param departureIATACode The IATA code of the departure airport.
-     * @param arrivalIATACode   The IATA code of the arrival airport.
-     * @return A Mono emitting a list of PossibleRoutesDto representing all direct and interconnected routes.
+     * @param departure The IATA code of the departure airport.
+     * @param arrival   The IATA code of the arrival airport.
+     * @param maxStops  The maximum number of stops of a route.
+     * @return A Mono emitting a list of multi-stop PossibleRoutesDto, routes with fewer stops first.
      */
-    private Mono<List<PossibleRoutesDto>> extractAllDirectAndInterConnectedRoutesFromTheResponse(List<RouteAPIResponseModel> list, String departureIATACode, String arrivalIATACode) {
-        List<PossibleRoutesDto> possibleRoutesDtoList = new ArrayList<>();
-        Optional<RouteAPIResponseModel> directRoute = findDirectRoute(list, departureIATACode, arrivalIATACode);
-        if (directRoute.isPresent()) {
-            PossibleRoutesDto possibleRoutesDto = new PossibleRoutesDto();
-            possibleRoutesDto.setType(Constant.ROUTE_TYPE_DIRECT);
-            possibleRoutesDto.setDirectRoute(directRoute.get());
-            possibleRoutesDtoList.add(possibleRoutesDto);
-        }
-
-        findAndAddOneStopRoutes(list, departureIATACode, arrivalIATACode, possibleRoutesDtoList);
-        return Mono.just(possibleRoutesDtoList);
+    @Override
+    public Mono<List<PossibleRoutesDto>> findMultiStopRoutes(String departure, String arrival, int maxStops) {
+        return backendAPIService
+                .getRouteCatalog()
+                .map(routeCatalogSnapshot -> routeCatalogSnapshot.getRouteIndex()
+                        .findMultiStopRoutes(departure, arrival, maxStops, propertyConfiguration.getMultiStopMaxRoutes())
+                        .stream()
+                        .map(multiStopRoute -> PossibleRoutesDto.builder()
+                                .type(Constant.ROUTE_TYPE_MULTI_STOP)
+                                .interConnectedRoute(multiStopRoute)
+                                .build())
+                        .toList());
     }
 
     /**
-     * Finds direct routes between the specified departure and arrival airports.
+     * Extracts all direct and interconnected routes from the route catalog adjacency index.
      *
-     * @param list             The list of route data.
+     * @param routeIndex        The adjacency index of the route catalog.
      * @param departureIATACode The IATA code of the departure airport.
      * @param arrivalIATACode   The IATA code of the arrival airport.
-     * @return A list of RouteAPIResponseModel representing all direct routes.
+     * @return A list of PossibleRoutesDto representing all direct and interconnected routes.
      */
-    private Optional<RouteAPIResponseModel> findDirectRoute(List<RouteAPIResponseModel> list, String departureIATACode, String arrivalIATACode) {
-        return list.stream()
-                .filter(routeAPIResponseModel ->
-                        routeAPIResponseModel.getAirportFrom().equals(departureIATACode) && routeAPIResponseModel.getAirportTo().equals(arrivalIATACode))
-                .findAny();
-    }
+    private List<PossibleRoutesDto> extractAllDirectAndInterConnectedRoutesFromTheIndex(RouteIndex routeIndex, String departureIATACode, String arrivalIATACode) {
+        List<PossibleRoutesDto> possibleRoutesDtoList = new ArrayList<>();
+        routeIndex.findDirectRoute(departureIATACode, arrivalIATACode).ifPresent(directRoute -> {
+            PossibleRoutesDto possibleRoutesDto = new PossibleRoutesDto();
+            possibleRoutesDto.setType(Constant.ROUTE_TYPE_DIRECT);
+            possibleRoutesDto.setDirectRoute(directRoute);
+            possibleRoutesDtoList.add(possibleRoutesDto);
+        });
 
-    /**
-     * Finds and adds one-stop routes between the specified departure and arrival airports.
-     *
-     * @param list                 The list of route data.
-     * @param departureIATACode     The IATA code of the departure airport.
-     * @param arrivalIATACode       The IATA code of the arrival airport.
-     * @param possibleRoutesDtoList The list to which the found routes will be added.
-     */
-    private void findAndAddOneStopRoutes(List<RouteAPIResponseModel> list, String departureIATACode, String arrivalIATACode, List<PossibleRoutesDto> possibleRoutesDtoList) {
-        for (int i = 0; i < list.size(); i++) {
-            RouteAPIResponseModel model = list.get(i);
-            String airportTo = model.getAirportTo();
-            if (departureIATACode.equals(model.getAirportFrom())) {
-                for (RouteAPIResponseModel mm : list) {
-                    if (airportTo.equals(mm.getAirportFrom()) && (mm.getAirportTo().equals(arrivalIATACode))) {
-                            PossibleRoutesDto possibleRoutesDto = new PossibleRoutesDto();
-                            possibleRoutesDto.setType(Constant.ROUTE_TYPE_INTER_CONNECTED);
-                            possibleRoutesDto.setInterConnectedRoute(Arrays.asList(model, mm));
-                            possibleRoutesDtoList.add(possibleRoutesDto);
-                    }
-                }
-            }
-        }
+        routeIndex.findOneStopRoutes(departureIATACode, arrivalIATACode).forEach(oneStopRoute -> {
+            PossibleRoutesDto possibleRoutesDto = new PossibleRoutesDto();
+            possibleRoutesDto.setType(Constant.ROUTE_TYPE_INTER_CONNECTED);
+            possibleRoutesDto.setInterConnectedRoute(oneStopRoute);
+            possibleRoutesDtoList.add(possibleRoutesDto);
+        });
+        return possibleRoutesDtoList;
     }
 }
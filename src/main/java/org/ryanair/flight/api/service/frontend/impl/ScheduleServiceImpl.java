@@ -3,21 +3,17 @@ package org.ryanair.flight.api.service.frontend.impl;
 import lombok.RequiredArgsConstructor;
 import org.ryanair.flight.api.dto.RequestDataDto;
 import org.ryanair.flight.api.dto.ScheduledServiceDto;
-import org.ryanair.flight.api.dto.YearMonthDataDto;
+import org.ryanair.flight.api.metrics.SearchMetrics;
 import org.ryanair.flight.api.model.*;
 import org.ryanair.flight.api.service.backend.BackendAPIService;
 import org.ryanair.flight.api.service.frontend.ScheduleService;
+import org.ryanair.flight.api.util.EpochMinutes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
-import static org.ryanair.flight.api.util.Constant.DATE_FORMAT_ISO;
-
 /**
  * Author: Gayan Sanjeewa
  * User: gayan
@@ -31,15 +27,16 @@ import static org.ryanair.flight.api.util.Constant.DATE_FORMAT_ISO;
 public class ScheduleServiceImpl implements ScheduleService {
 
     private final BackendAPIService backendAPIService;
+    private final SearchMetrics searchMetrics;
 
     /**
      * Retrieves scheduled departing flight data based on the provided ScheduledServiceDto.
      *
      * @param scheduledServiceDto The DTO containing information for scheduling departing flights.
-     * @return A Mono emitting FlightDataDto containing scheduled departing flight data.
+     * @return A Mono emitting the compact ScheduledFlight list containing scheduled departing flight data.
      */
     @Override
-    public Mono<List<Flight>> getScheduledDepartingFlightData(ScheduledServiceDto scheduledServiceDto) {
+    public Mono<List<ScheduledFlight>> getScheduledDepartingFlightData(ScheduledServiceDto scheduledServiceDto) {
 
         ScheduleAPIRequestModel departingBuild = ScheduleAPIRequestModel
                 .builder()
@@ -50,15 +47,14 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .build();
 
 
-        Mono<ScheduleAPIResponseModel> departingSchedulesMono = backendAPIService.getSchedules(departingBuild);
+        Mono<MonthlyTimetable> departingSchedulesMono = searchMetrics.countScheduleLookup(backendAPIService.getSchedules(departingBuild));
 
 
        return departingSchedulesMono
-                .flatMap(scheduleAPIResponseModel ->
+                .flatMap(monthlyTimetable ->
                         filterAllAvailableFlightsFromScheduleResponse(
                                 scheduledServiceDto.getRequestData(),
-                                scheduleAPIResponseModel,
-                                scheduledServiceDto.getYearMonthData()
+                                monthlyTimetable
                         )
                 );
 
@@ -68,10 +64,10 @@ public class ScheduleServiceImpl implements ScheduleService {
      * Retrieves scheduled arriving flight data based on the provided ScheduledServiceDto.
      *
      * @param scheduledServiceDto The DTO containing information for scheduling arriving flights.
-     * @return A Mono emitting FlightDataDto containing scheduled arriving flight data.
+     * @return A Mono emitting the compact ScheduledFlight list containing scheduled arriving flight data.
      */
     @Override
-    public Mono<List<Flight>> getScheduledArrivingFlightData(ScheduledServiceDto scheduledServiceDto) {
+    public Mono<List<ScheduledFlight>> getScheduledArrivingFlightData(ScheduledServiceDto scheduledServiceDto) {
 
         ScheduleAPIRequestModel arrivingBuild = ScheduleAPIRequestModel
                 .builder()
@@ -81,13 +77,12 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .month(scheduledServiceDto.getYearMonthData().getMonth())
                 .build();
 
-        Mono<ScheduleAPIResponseModel> arrivingSchedulesMono = backendAPIService.getSchedules(arrivingBuild);
+        Mono<MonthlyTimetable> arrivingSchedulesMono = searchMetrics.countScheduleLookup(backendAPIService.getSchedules(arrivingBuild));
 
-        return arrivingSchedulesMono.flatMap(scheduleAPIResponseModel ->
+        return arrivingSchedulesMono.flatMap(monthlyTimetable ->
                 filterAllAvailableFlightsFromScheduleResponse(
                         scheduledServiceDto.getRequestData(),
-                        scheduleAPIResponseModel,
-                        scheduledServiceDto.getYearMonthData()
+                        monthlyTimetable
                 )
         );
     }
@@ -96,10 +91,10 @@ public class ScheduleServiceImpl implements ScheduleService {
      * Retrieves scheduled direct flight data based on the provided ScheduledServiceDto.
      *
      * @param scheduledServiceDto The DTO containing information for scheduling direct flights.
-     * @return A Mono emitting FlightDataDto containing scheduled direct flight data.
+     * @return A Mono emitting the compact ScheduledFlight list containing scheduled direct flight data.
      */
     @Override
-    public Mono<List<Flight>> getScheduledDirectFlightData(ScheduledServiceDto scheduledServiceDto) {
+    public Mono<List<ScheduledFlight>> getScheduledDirectFlightData(ScheduledServiceDto scheduledServiceDto) {
 
             ScheduleAPIRequestModel scheduleAPIRequestModel = ScheduleAPIRequestModel
                     .builder()
@@ -109,48 +104,26 @@ public class ScheduleServiceImpl implements ScheduleService {
                     .month(scheduledServiceDto.getYearMonthData().getMonth())
                     .build();
 
-            Mono<ScheduleAPIResponseModel> schedules = backendAPIService.getSchedules(scheduleAPIRequestModel);
-            return schedules.flatMap(scheduleAPIResponseModel ->
+            Mono<MonthlyTimetable> schedules = searchMetrics.countScheduleLookup(backendAPIService.getSchedules(scheduleAPIRequestModel));
+            return schedules.flatMap(monthlyTimetable ->
                     filterAllAvailableFlightsFromScheduleResponse(
                             scheduledServiceDto.getRequestData(),
-                            scheduleAPIResponseModel,
-                            scheduledServiceDto.getYearMonthData()
+                            monthlyTimetable
                     )
             );
     }
 
     /**
-     * Filters available flights from the schedule response based on the provided criteria.
+     * Filters available flights from the monthly timetable based on the provided criteria.
+     * The timetable is sorted by departure, so only the flights around the request window are visited.
      *
      * @param requestDataDto    The DTO containing the request data.
-     * @param scheduleAPIResponseModel The response model containing schedule data.
-     * @param yearMonthDataDto  The DTO containing year and month data.
-     * @return A Mono emitting FlightDataDto containing filtered flight data.
+     * @param monthlyTimetable  The decoded timetable of the month.
+     * @return A Mono emitting the compact ScheduledFlight list containing filtered flight data.
      */
-    private Mono<List<Flight>> filterAllAvailableFlightsFromScheduleResponse(RequestDataDto requestDataDto, ScheduleAPIResponseModel scheduleAPIResponseModel, YearMonthDataDto yearMonthDataDto) {
-        List<Flight> selectedFlights = new ArrayList<>();
-        int month = scheduleAPIResponseModel.getMonth();
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(DATE_FORMAT_ISO);
-        ArrayList<Day> days = scheduleAPIResponseModel.getDays();
-        for (Day day : days) {
-            List<Flight> flights = day.getFlights();
-            for (Flight flight : flights) {
-                String baseDateString = String.valueOf(yearMonthDataDto.getYear()).concat("-").concat(String.format("%02d", month)).concat("-").concat(String.format("%02d", day.getDay())).concat("T");
-
-                String flightArrivalTimeString = baseDateString.concat(flight.getArrivalTime());
-                String flightDepartureTimeString = baseDateString.concat(flight.getDepartureTime());
-                LocalDateTime flightArrivalTime = LocalDateTime.parse(flightArrivalTimeString, dateTimeFormatter);
-                LocalDateTime flightDepartureTime = LocalDateTime.parse(flightDepartureTimeString, dateTimeFormatter);
-                if (
-                        (flightDepartureTime.isAfter(requestDataDto.getDepartureDateTime()) && flightDepartureTime.isBefore(requestDataDto.getArrivalDateTime())) &&
-                                (flightArrivalTime.isBefore(requestDataDto.getArrivalDateTime()) && flightArrivalTime.isAfter(requestDataDto.getDepartureDateTime()) )
-                ) {
-                    selectedFlights.add(
-                            new Flight(flight.getCarrierCode(), flight.getNumber(), flightDepartureTime.format(dateTimeFormatter), flightArrivalTime.format(dateTimeFormatter))
-                    );
-                }
-            }
-        }
-        return Mono.just(selectedFlights);
+    private Mono<List<ScheduledFlight>> filterAllAvailableFlightsFromScheduleResponse(RequestDataDto requestDataDto, MonthlyTimetable monthlyTimetable) {
+        int windowStart = EpochMinutes.ofWindowStart(requestDataDto.getDepartureDateTime());
+        int windowEnd = EpochMinutes.ofWindowEnd(requestDataDto.getArrivalDateTime());
+        return searchMetrics.computeStage(SearchMetrics.STAGE_FILTER, () -> monthlyTimetable.findFlightsWithin(windowStart, windowEnd));
     }
 }
@@ -0,0 +1,29 @@
+package org.ryanair.flight.api.snapshot;
+
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:00 PM
+ */
+
+/**
+ * Point in time copy of the backend data held in memory, the route catalog and the cached monthly timetables.
+ *
+ * @param createdAt       The time the snapshot was taken.
+ * @param routeCatalog    The route catalog, null if it was not loaded when the snapshot was taken.
+ * @param scheduleEntries The cached monthly timetables.
+ */
+public record TimetableSnapshot(Instant createdAt, RouteCatalogSnapshot routeCatalog, List<ScheduleCacheEntry> scheduleEntries) {
+
+    public Optional<RouteCatalogSnapshot> findRouteCatalog() {
+        return Optional.ofNullable(routeCatalog);
+    }
+}
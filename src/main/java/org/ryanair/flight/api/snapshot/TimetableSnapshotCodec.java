@@ -0,0 +1,224 @@
+package org.ryanair.flight.api.snapshot;
+
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:05 PM
+ */
+
+/**
+ * Binary encoding of a timetable snapshot.
+ * Every string, airports, carrier codes and flight numbers, is written once to a leading string table and referenced
+ * by its index, flights are written as fixed size records of four ints. All sections are length prefixed,
+ * so the file is read sequentially in one pass.
+ */
+public final class TimetableSnapshotCodec {
+
+    private static final int MAGIC = 0x5254534E;
+    private static final int VERSION = 1;
+    private static final int NULL_REFERENCE = -1;
+
+    private TimetableSnapshotCodec() {
+    }
+
+    /**
+     * Writes the snapshot to the given output.
+     *
+     * @param snapshot The snapshot to write.
+     * @param output   The output to write to.
+     * @throws IOException if writing to the output fails.
+     */
+    public static void write(TimetableSnapshot snapshot, DataOutput output) throws IOException {
+        Map<String, Integer> stringTable = buildStringTable(snapshot);
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(snapshot.createdAt().toEpochMilli());
+
+        output.writeInt(stringTable.size());
+        for (String value : stringTable.keySet()) {
+            output.writeUTF(value);
+        }
+
+        RouteCatalogSnapshot routeCatalog = snapshot.routeCatalog();
+        output.writeBoolean(Objects.nonNull(routeCatalog));
+        if (Objects.nonNull(routeCatalog)) {
+            output.writeLong(routeCatalog.getLoadedAt().toEpochMilli());
+            output.writeInt(routeCatalog.getRoutes().size());
+            for (RouteAPIResponseModel route : routeCatalog.getRoutes()) {
+                writeReference(output, stringTable, route.getAirportFrom());
+                writeReference(output, stringTable, route.getAirportTo());
+                output.writeBoolean(route.isNewRoute());
+                output.writeBoolean(route.isSeasonalRoute());
+                writeReference(output, stringTable, route.getOperator());
+                writeReference(output, stringTable, route.getCarrierCode());
+                writeReference(output, stringTable, route.getGroup());
+                writeReferences(output, stringTable, route.getSimilarArrivalAirportCodes());
+                writeReferences(output, stringTable, route.getTags());
+            }
+        }
+
+        output.writeInt(snapshot.scheduleEntries().size());
+        for (ScheduleCacheEntry entry : snapshot.scheduleEntries()) {
+            ScheduleCacheKey key = entry.key();
+            writeReference(output, stringTable, key.departure());
+            writeReference(output, stringTable, key.arrival());
+            output.writeInt(key.year());
+            output.writeInt(key.month());
+            output.writeLong(entry.fetchedAt().toEpochMilli());
+            output.writeInt(entry.timetable().size());
+            for (ScheduledFlight flight : entry.timetable().getFlights()) {
+                writeReference(output, stringTable, flight.getCarrierCode());
+                writeReference(output, stringTable, flight.getNumber());
+                output.writeInt(flight.getDepartureEpochMinute());
+                output.writeInt(flight.getArrivalEpochMinute());
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot from the given input.
+     *
+     * @param input The input to read from.
+     * @return The snapshot.
+     * @throws IOException if reading fails or the input is not a snapshot of a supported version.
+     */
+    public static TimetableSnapshot read(DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a timetable snapshot");
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported timetable snapshot version " + version);
+        }
+        Instant createdAt = Instant.ofEpochMilli(input.readLong());
+
+        String[] strings = new String[input.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = input.readUTF().intern();
+        }
+
+        RouteCatalogSnapshot routeCatalog = null;
+        if (input.readBoolean()) {
+            Instant loadedAt = Instant.ofEpochMilli(input.readLong());
+            int routeCount = input.readInt();
+            List<RouteAPIResponseModel> routes = new ArrayList<>(routeCount);
+            for (int i = 0; i < routeCount; i++) {
+                routes.add(RouteAPIResponseModel.builder()
+                        .airportFrom(readReference(input, strings))
+                        .airportTo(readReference(input, strings))
+                        .newRoute(input.readBoolean())
+                        .seasonalRoute(input.readBoolean())
+                        .operator(readReference(input, strings))
+                        .carrierCode(readReference(input, strings))
+                        .group(readReference(input, strings))
+                        .similarArrivalAirportCodes(readReferences(input, strings))
+                        .tags(readReferences(input, strings))
+                        .build());
+            }
+            routeCatalog = new RouteCatalogSnapshot(routes, loadedAt);
+        }
+
+        int entryCount = input.readInt();
+        List<ScheduleCacheEntry> scheduleEntries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            ScheduleCacheKey key = new ScheduleCacheKey(
+                    readReference(input, strings), readReference(input, strings), input.readInt(), input.readInt());
+            Instant fetchedAt = Instant.ofEpochMilli(input.readLong());
+            int flightCount = input.readInt();
+            List<ScheduledFlight> flights = new ArrayList<>(flightCount);
+            for (int j = 0; j < flightCount; j++) {
+                flights.add(new ScheduledFlight(
+                        readReference(input, strings), readReference(input, strings), input.readInt(), input.readInt()));
+            }
+            scheduleEntries.add(new ScheduleCacheEntry(key, MonthlyTimetable.of(key.year(), key.month(), flights), fetchedAt));
+        }
+        return new TimetableSnapshot(createdAt, routeCatalog, scheduleEntries);
+    }
+
+    private static Map<String, Integer> buildStringTable(TimetableSnapshot snapshot) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        snapshot.findRouteCatalog().ifPresent(routeCatalog -> routeCatalog.getRoutes().forEach(route -> {
+            addString(stringTable, route.getAirportFrom());
+            addString(stringTable, route.getAirportTo());
+            addString(stringTable, route.getOperator());
+            addString(stringTable, route.getCarrierCode());
+            addString(stringTable, route.getGroup());
+            addStrings(stringTable, route.getSimilarArrivalAirportCodes());
+            addStrings(stringTable, route.getTags());
+        }));
+        for (ScheduleCacheEntry entry : snapshot.scheduleEntries()) {
+            addString(stringTable, entry.key().departure());
+            addString(stringTable, entry.key().arrival());
+            for (ScheduledFlight flight : entry.timetable().getFlights()) {
+                addString(stringTable, flight.getCarrierCode());
+                addString(stringTable, flight.getNumber());
+            }
+        }
+        return stringTable;
+    }
+
+    private static void addString(Map<String, Integer> stringTable, String value) {
+        if (Objects.nonNull(value)) {
+            stringTable.putIfAbsent(value, stringTable.size());
+        }
+    }
+
+    private static void addStrings(Map<String, Integer> stringTable, String[] values) {
+        if (Objects.nonNull(values)) {
+            for (String value : values) {
+                addString(stringTable, value);
+            }
+        }
+    }
+
+    private static void writeReference(DataOutput output, Map<String, Integer> stringTable, String value) throws IOException {
+        output.writeInt(Objects.isNull(value) ? NULL_REFERENCE : stringTable.get(value));
+    }
+
+    private static void writeReferences(DataOutput output, Map<String, Integer> stringTable, String[] values) throws IOException {
+        if (Objects.isNull(values)) {
+            output.writeInt(NULL_REFERENCE);
+            return;
+        }
+        output.writeInt(values.length);
+        for (String value : values) {
+            writeReference(output, stringTable, value);
+        }
+    }
+
+    private static String readReference(DataInput input, String[] strings) throws IOException {
+        int reference = input.readInt();
+        return reference == NULL_REFERENCE ? null : strings[reference];
+    }
+
+    private static String[] readReferences(DataInput input, String[] strings) throws IOException {
+        int length = input.readInt();
+        if (length == NULL_REFERENCE) {
+            return null;
+        }
+        String[] values = new String[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readReference(input, strings);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,30 @@
+package org.ryanair.flight.api.snapshot;
+
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:02 PM
+ */
+
+/**
+ * Timetable snapshot store interface defines behaviour methods for persisting snapshots across restarts.
+ */
+public interface TimetableSnapshotStore {
+
+    /**
+     * Persists the snapshot, replacing the previously persisted one.
+     *
+     * @param snapshot The snapshot to persist.
+     */
+    void save(TimetableSnapshot snapshot);
+
+    /**
+     * Loads the last persisted snapshot.
+     *
+     * @return The persisted snapshot, empty if there is none or it cannot be read.
+     */
+    Optional<TimetableSnapshot> load();
+}
@@ -0,0 +1,76 @@
+package org.ryanair.flight.api.snapshot.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.config.property.TimetableSnapshotPropertyConfiguration;
+import org.ryanair.flight.api.snapshot.TimetableSnapshot;
+import org.ryanair.flight.api.snapshot.TimetableSnapshotCodec;
+import org.ryanair.flight.api.snapshot.TimetableSnapshotStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:25 PM
+ */
+
+/**
+ * Implementation of the TimetableSnapshotStore interface keeping the snapshot in a single local file.
+ * The snapshot is written to a temporary file next to the target and moved over it atomically,
+ * so a crash while writing never leaves a truncated snapshot behind.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class FileTimetableSnapshotStore implements TimetableSnapshotStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TimetableSnapshotPropertyConfiguration propertyConfiguration;
+
+    @Override
+    public void save(TimetableSnapshot snapshot) {
+        Path path = Path.of(propertyConfiguration.getPath());
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (Objects.nonNull(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath), BUFFER_SIZE))) {
+                TimetableSnapshotCodec.write(snapshot, output);
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Timetable snapshot with [{}] schedules written to [{}]", snapshot.scheduleEntries().size(), path);
+        } catch (IOException e) {
+            log.warn("Timetable snapshot could not be written to [{}] - {}", path, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<TimetableSnapshot> load() {
+        Path path = Path.of(propertyConfiguration.getPath());
+        if (!Files.isRegularFile(path)) {
+            log.info("No timetable snapshot found at [{}]", path);
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            return Optional.of(TimetableSnapshotCodec.read(input));
+        } catch (IOException e) {
+            log.warn("Timetable snapshot at [{}] could not be read - {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.ryanair.flight.api.snapshot.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.config.property.TimetableSnapshotPropertyConfiguration;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+import org.ryanair.flight.api.snapshot.TimetableSnapshot;
+import org.ryanair.flight.api.snapshot.TimetableSnapshotStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:30 PM
+ */
+
+/**
+ * Restores the persisted timetable snapshot at startup and persists the data held in memory periodically and at shutdown.
+ * The restore runs as an application runner, which completes before the application reports itself ready for traffic.
+ * Schedules fetched and a route catalog loaded longer ago than the configured max age are dropped on restore.
+ * Runs first among the application runners so the cache warm-up starts from the restored data.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class TimetableSnapshotScheduler implements ApplicationRunner {
+
+    private final BackendAPIService backendAPIService;
+    private final TimetableSnapshotStore timetableSnapshotStore;
+    private final TimetableSnapshotPropertyConfiguration propertyConfiguration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!propertyConfiguration.getEnabled()) {
+            return;
+        }
+        timetableSnapshotStore.load().ifPresent(snapshot -> {
+            Instant oldestFetchedAt = Instant.now().minus(Duration.ofHours(propertyConfiguration.getMaxAgeHours()));
+            List<ScheduleCacheEntry> freshEntries = snapshot.scheduleEntries()
+                    .stream()
+                    .filter(entry -> entry.fetchedAt().isAfter(oldestFetchedAt))
+                    .toList();
+            RouteCatalogSnapshot freshRouteCatalog = snapshot.findRouteCatalog()
+                    .filter(routeCatalog -> routeCatalog.getLoadedAt().isAfter(oldestFetchedAt))
+                    .orElse(null);
+            backendAPIService.restoreSnapshot(new TimetableSnapshot(snapshot.createdAt(), freshRouteCatalog, freshEntries));
+            log.info("Timetable snapshot taken at [{}] restored with [{}] of [{}] schedules, route catalog restored [{}]",
+                    snapshot.createdAt(), freshEntries.size(), snapshot.scheduleEntries().size(), Objects.nonNull(freshRouteCatalog));
+        });
+    }
+
+    /**
+     * Periodically persists the data held in memory.
+     */
+    @Scheduled(initialDelayString = "${backend.ryanair.snapshot.write-interval-ms}",
+            fixedDelayString = "${backend.ryanair.snapshot.write-interval-ms}")
+    public void scheduledSave() {
+        save();
+    }
+
+    /**
+     * Persists the data held in memory once more before the application shuts down.
+     */
+    @PreDestroy
+    public void saveOnShutdown() {
+        save();
+    }
+
+    private void save() {
+        if (!propertyConfiguration.getEnabled()) {
+            return;
+        }
+        TimetableSnapshot snapshot = backendAPIService.captureSnapshot();
+        if (snapshot.findRouteCatalog().isEmpty() && snapshot.scheduleEntries().isEmpty()) {
+            return;
+        }
+        timetableSnapshotStore.save(snapshot);
+    }
+}
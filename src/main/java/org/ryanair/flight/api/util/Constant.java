@@ -10,7 +10,21 @@ public record Constant() {
     public static final String DATE_FORMAT_ISO = "yyyy-MM-dd'T'HH:mm";
     public static final String ROUTE_TYPE_DIRECT = "DIRECT";
     public static final String ROUTE_TYPE_INTER_CONNECTED = "INTER_CONNECTED";
+    public static final String ROUTE_TYPE_MULTI_STOP = "MULTI_STOP";
+    public static final int DEFAULT_MAX_STOPS = 1;
     public static final String PROVIDER = "RYANAIR";
     public static final String DOWNSTREAM_SERVICE_NAME = "ryanair-api";
+    public static final String STREAM_EVENT_ITINERARY = "itinerary";
+    public static final String STREAM_EVENT_SUMMARY = "summary";
+    public static final String STREAM_EVENT_ERROR = "error";
+    public static final String QUERY_PARAM_DEBUG = "debug";
+    public static final String QUERY_PARAM_MAX_STOPS = "maxStops";
+    public static final String QUERY_PARAM_ENGINE = "engine";
+    public static final String ENGINE_JOIN = "join";
+    public static final String ENGINE_CONNECTION_SCAN = "csa";
+    public static final String QUERY_PARAM_SCAN = "scan";
+    public static final String SCAN_PROFILE = "profile";
+    public static final String SCAN_EARLIEST_ARRIVAL = "earliest";
+    public static final String HEADER_SERVER_TIMING = "Server-Timing";
 
 }
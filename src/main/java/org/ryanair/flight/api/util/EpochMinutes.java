@@ -0,0 +1,137 @@
+package org.ryanair.flight.api.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 4:30 PM
+ */
+
+/**
+ * Conversions between local date times and epoch-minutes, the number of minutes since 1970-01-01T00:00 of the local time line.
+ * Schedule times are airport local times without an offset, so no time zone is applied in either direction.
+ */
+public final class EpochMinutes {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private EpochMinutes() {
+    }
+
+    /**
+     * @param dateTime The local date time.
+     * @return The epoch-minute of the given local date time, seconds are truncated.
+     */
+    public static int of(LocalDateTime dateTime) {
+        return Math.toIntExact(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    /**
+     * Converts an exclusive window start, a minute is after the given date time exactly when it is after the returned one.
+     *
+     * @param dateTime The exclusive window start, possibly with seconds.
+     * @return The epoch-minute of the window start, seconds are truncated.
+     */
+    public static int ofWindowStart(LocalDateTime dateTime) {
+        return of(dateTime);
+    }
+
+    /**
+     * Converts an exclusive window end, a minute is before the given date time exactly when it is before the returned one.
+     * A flight arriving at 16:00 is thus still within a window ending at 16:00:30.
+     *
+     * @param dateTime The exclusive window end, possibly with seconds.
+     * @return The epoch-minute of the window end, rounded up to the next minute when it carries seconds.
+     */
+    public static int ofWindowEnd(LocalDateTime dateTime) {
+        return Math.toIntExact(Math.ceilDiv(dateTime.toEpochSecond(ZoneOffset.UTC) + (dateTime.getNano() > 0 ? 1 : 0), 60));
+    }
+
+    /**
+     * @param epochDay    The epoch day of the date.
+     * @param minuteOfDay The minute of the day.
+     * @return The epoch-minute of the given date and minute of day.
+     */
+    public static int of(long epochDay, int minuteOfDay) {
+        return Math.toIntExact(epochDay * MINUTES_PER_DAY + minuteOfDay);
+    }
+
+    /**
+     * @param epochMinute The epoch-minute.
+     * @return The local date time of the given epoch-minute.
+     */
+    public static LocalDateTime toLocalDateTime(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses a time of day in the HH:mm form used by the schedules API without going through a formatter.
+     * Other ISO local time forms are accepted through the regular parser.
+     *
+     * @param timeOfDay The time of day.
+     * @return The minute of the day.
+     */
+    public static int parseMinuteOfDay(String timeOfDay) {
+        return parseMinuteOfDay(timeOfDay.toCharArray(), 0, timeOfDay.length());
+    }
+
+    /**
+     * Parses a time of day in the HH:mm form from a character range, so a streaming parser can hand over
+     * its text buffer without creating a String. Other ISO local time forms are accepted through the regular parser.
+     *
+     * @param chars  The characters holding the time of day.
+     * @param offset The offset of the time of day.
+     * @param length The length of the time of day.
+     * @return The minute of the day.
+     */
+    public static int parseMinuteOfDay(char[] chars, int offset, int length) {
+        if (length == 5 && chars[offset + 2] == ':') {
+            int hour = digit(chars[offset]) * 10 + digit(chars[offset + 1]);
+            int minute = digit(chars[offset + 3]) * 10 + digit(chars[offset + 4]);
+            if (hour >= 0 && hour < 24 && minute >= 0 && minute < 60) {
+                return hour * 60 + minute;
+            }
+        }
+        LocalTime localTime = LocalTime.parse(new String(chars, offset, length));
+        return localTime.getHour() * 60 + localTime.getMinute();
+    }
+
+    /**
+     * Formats the epoch-minute in the {@link Constant#DATE_FORMAT_ISO} form.
+     *
+     * @param epochMinute The epoch-minute.
+     * @return The formatted local date time, for example 2024-04-02T07:40.
+     */
+    public static String format(int epochMinute) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY));
+        int minuteOfDay = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+        char[] chars = new char[16];
+        writeDigits(chars, 0, date.getYear(), 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, date.getMonthValue(), 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, date.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, minuteOfDay / 60, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, minuteOfDay % 60, 2);
+        return new String(chars);
+    }
+
+    private static int digit(char character) {
+        int digit = character - '0';
+        return (digit >= 0 && digit <= 9) ? digit : -100;
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
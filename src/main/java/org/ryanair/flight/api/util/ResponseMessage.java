@@ -9,8 +9,10 @@ package org.ryanair.flight.api.util;
 public record ResponseMessage() {
     public static final String ERR_MSG_NO_VALID_ROUTE_FOUND ="No Valid Route found for given IATA combination";
     public static final String ERR_INVALID_REQ_PARAMETERS ="Invalid request parameters";
+    public static final String ERR_INVALID_BATCH_QUERIES ="Invalid batch search, expected 1 to %s queries with valid parameters";
     public static final String ERR_INVALID_RESP_FROM_BACKEND ="Invalid Response from backend";
     public static final String ERR_SERVICE_UNAVAILABLE ="Service Unavailable";
+    public static final String ERR_BACKEND_CONCURRENCY_LIMIT ="Too many backend calls waiting for the concurrency limit";
 
 
     public static final String RESPONSE_MESSAGE_SUCCESS = "Data retrieved successfully";
@@ -0,0 +1,59 @@
+package org.ryanair.flight.api.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 2:30 PM
+ */
+
+/**
+ * Deduplicates concurrent executions of the same keyed call.
+ * Subscribers asking for a key which already has an outstanding call join that call instead of starting a new one.
+ * The shared call is cancelled only when every subscriber has cancelled, and once it terminates (value, error or cancel)
+ * the key is released so the next subscriber starts a fresh call.
+ *
+ * @param <K> The key type identifying identical calls.
+ * @param <V> The value type emitted by the call.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the call for the given key, or joins the outstanding call for the same key.
+     *
+     * @param key  The key identifying the call.
+     * @param call Supplier of the call, only invoked when no call for the key is outstanding.
+     * @return A Mono emitting the result of the shared call.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, inFlightKey -> share(inFlightKey, call.get())));
+    }
+
+    /**
+     * @return The number of calls currently outstanding.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> share(K key, Mono<V> call) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        Mono<V> shared = call
+                .doFinally(signalType -> inFlight.remove(key, self.get()))
+                .flux()
+                .publish()
+                .refCount(1)
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+}
@@ -0,0 +1,29 @@
+package org.ryanair.flight.api.warmup;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:12 PM
+ */
+
+/**
+ * Schedule warm-up interface defines behaviour methods for preloading the caches before traffic is accepted.
+ */
+public interface ScheduleWarmUp {
+
+    /**
+     * Loads the route catalog and prefetches the monthly schedules of the popular legs.
+     * Schedules which fail to load are counted and skipped, they do not fail the warm-up.
+     *
+     * @return A Mono emitting the final progress once the warm-up has finished.
+     */
+    Mono<WarmUpProgress> warmUp();
+
+    /**
+     * @return The current progress of the warm-up.
+     */
+    WarmUpProgress getProgress();
+}
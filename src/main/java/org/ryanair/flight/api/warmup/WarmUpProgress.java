@@ -0,0 +1,31 @@
+package org.ryanair.flight.api.warmup;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:10 PM
+ */
+
+/**
+ * Point in time progress of the schedule cache warm-up.
+ *
+ * @param status           The warm-up status.
+ * @param plannedSchedules The number of monthly schedules planned to be loaded.
+ * @param loadedSchedules  The number of monthly schedules loaded so far.
+ * @param failedSchedules  The number of monthly schedules which could not be loaded.
+ */
+public record WarmUpProgress(Status status, int plannedSchedules, int loadedSchedules, int failedSchedules) {
+
+    public enum Status {PENDING, LOADING_CATALOG, LOADING_SCHEDULES, COMPLETED, TIMED_OUT, FAILED, DISABLED}
+
+    /**
+     * @return True once the warm-up will not load anything more, whatever its outcome.
+     */
+    public boolean isFinished() {
+        return switch (status) {
+            case COMPLETED, TIMED_OUT, FAILED, DISABLED -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package org.ryanair.flight.api.warmup.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.catalog.RouteIndex;
+import org.ryanair.flight.api.config.property.WarmUpPropertyConfiguration;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+import org.ryanair.flight.api.warmup.ScheduleWarmUp;
+import org.ryanair.flight.api.warmup.WarmUpProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:15 PM
+ */
+
+/**
+ * Implementation of the ScheduleWarmUp interface planning the warm-up from the route catalog.
+ * The legs are the direct and one-stop legs of the configured city pairs, restricted to the configured hubs when any are set,
+ * plus the legs learned from the schedule cache restored at startup. Every leg is prefetched for the configured months ahead
+ * with bounded concurrency through the regular backend service, so the schedules land in the shared schedule cache.
+ * The warm-up starts as an application runner and the readiness group stays out of service until it has finished.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Slf4j
+public class CatalogScheduleWarmUp implements ScheduleWarmUp, ApplicationRunner {
+
+    private static final String PAIR_SEPARATOR = "-";
+
+    private final BackendAPIService backendAPIService;
+    private final WarmUpPropertyConfiguration propertyConfiguration;
+
+    private final AtomicReference<WarmUpProgress.Status> status = new AtomicReference<>(WarmUpProgress.Status.PENDING);
+    private final AtomicInteger plannedSchedules = new AtomicInteger();
+    private final AtomicInteger loadedSchedules = new AtomicInteger();
+    private final AtomicInteger failedSchedules = new AtomicInteger();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!propertyConfiguration.getEnabled()) {
+            status.set(WarmUpProgress.Status.DISABLED);
+            return;
+        }
+        warmUp().subscribe(progress -> log.info("Schedule warm-up finished with status [{}] - {} of {} schedules loaded, {} failed",
+                progress.status(), progress.loadedSchedules(), progress.plannedSchedules(), progress.failedSchedules()));
+    }
+
+    @Override
+    public Mono<WarmUpProgress> warmUp() {
+        return Mono.defer(() -> {
+            status.set(WarmUpProgress.Status.LOADING_CATALOG);
+            Set<Leg> learnedLegs = findLearnedLegs();
+            return backendAPIService.getRouteCatalog()
+                    .map(routeCatalogSnapshot -> planSchedules(routeCatalogSnapshot, learnedLegs))
+                    .flatMap(this::loadSchedules)
+                    .onErrorResume(throwable -> {
+                        log.warn("Schedule warm-up could not load the route catalog - {}", throwable.getMessage());
+                        status.set(WarmUpProgress.Status.FAILED);
+                        return Mono.just(getProgress());
+                    });
+        });
+    }
+
+    @Override
+    public WarmUpProgress getProgress() {
+        return new WarmUpProgress(status.get(), plannedSchedules.get(), loadedSchedules.get(), failedSchedules.get());
+    }
+
+    /**
+     * Plans the monthly schedules to load, the legs of the configured pairs first and the learned legs after them.
+     *
+     * @param routeCatalogSnapshot The route catalog used to resolve the legs of the configured pairs.
+     * @param learnedLegs          The legs learned from the restored schedule cache.
+     * @return The distinct schedule keys in load order.
+     */
+    private Set<ScheduleCacheKey> planSchedules(RouteCatalogSnapshot routeCatalogSnapshot, Set<Leg> learnedLegs) {
+        RouteIndex routeIndex = routeCatalogSnapshot.getRouteIndex();
+        Set<String> hubs = normalize(propertyConfiguration.getHubs());
+        Set<Leg> legs = new LinkedHashSet<>();
+        for (String pair : normalize(propertyConfiguration.getPairs())) {
+            String[] airports = pair.split(PAIR_SEPARATOR);
+            if (airports.length != 2) {
+                log.warn("Skipping warm-up pair [{}], expected DEPARTURE{}ARRIVAL", pair, PAIR_SEPARATOR);
+                continue;
+            }
+            routeIndex.findDirectRoute(airports[0], airports[1]).ifPresent(route -> legs.add(Leg.of(route)));
+            for (List<RouteAPIResponseModel> oneStopRoute : routeIndex.findOneStopRoutes(airports[0], airports[1])) {
+                if (hubs.isEmpty() || hubs.contains(oneStopRoute.get(0).getAirportTo())) {
+                    oneStopRoute.forEach(route -> legs.add(Leg.of(route)));
+                }
+            }
+        }
+        legs.addAll(learnedLegs);
+
+        List<YearMonth> months = Stream.iterate(YearMonth.now(), month -> month.plusMonths(1))
+                .limit(propertyConfiguration.getMonthsAhead())
+                .toList();
+        Set<ScheduleCacheKey> scheduleKeys = new LinkedHashSet<>();
+        for (YearMonth month : months) {
+            for (Leg leg : legs) {
+                scheduleKeys.add(new ScheduleCacheKey(leg.departure(), leg.arrival(), month.getYear(), month.getMonthValue()));
+            }
+        }
+        return scheduleKeys;
+    }
+
+    /**
+     * Loads the planned schedules with bounded concurrency, stopping once the configured max duration is reached.
+     * Schedules which are still loading at that point keep loading into the cache in the background.
+     */
+    private Mono<WarmUpProgress> loadSchedules(Set<ScheduleCacheKey> scheduleKeys) {
+        plannedSchedules.set(scheduleKeys.size());
+        status.set(WarmUpProgress.Status.LOADING_SCHEDULES);
+        log.info("Schedule warm-up loading [{}] monthly schedules", scheduleKeys.size());
+        return Flux.fromIterable(scheduleKeys)
+                .flatMap(scheduleKey -> backendAPIService.getSchedules(scheduleKey.toRequestModel())
+                                .doOnSuccess(monthlyTimetable -> loadedSchedules.incrementAndGet())
+                                .onErrorResume(throwable -> {
+                                    failedSchedules.incrementAndGet();
+                                    log.debug("Schedule warm-up failed to load {} - {}", scheduleKey, throwable.getMessage());
+                                    return Mono.empty();
+                                }),
+                        propertyConfiguration.getConcurrency())
+                .take(Duration.ofMillis(propertyConfiguration.getMaxDurationMs()))
+                .then(Mono.fromSupplier(() -> {
+                    boolean allAttempted = loadedSchedules.get() + failedSchedules.get() >= plannedSchedules.get();
+                    status.set(allAttempted ? WarmUpProgress.Status.COMPLETED : WarmUpProgress.Status.TIMED_OUT);
+                    return getProgress();
+                }));
+    }
+
+    /**
+     * Finds the legs which were served before the restart, taken from the schedule cache restored from the snapshot.
+     */
+    private Set<Leg> findLearnedLegs() {
+        if (!propertyConfiguration.getLearnedLegs()) {
+            return Set.of();
+        }
+        return backendAPIService.captureSnapshot().scheduleEntries()
+                .stream()
+                .map(ScheduleCacheEntry::key)
+                .map(scheduleKey -> new Leg(scheduleKey.departure(), scheduleKey.arrival()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Set<String> normalize(List<String> values) {
+        if (Objects.isNull(values)) {
+            return Set.of();
+        }
+        return values.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> value.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private record Leg(String departure, String arrival) {
+
+        private static Leg of(RouteAPIResponseModel route) {
+            return new Leg(route.getAirportFrom(), route.getAirportTo());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.ryanair.flight.api.warmup.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.ryanair.flight.api.warmup.ScheduleWarmUp;
+import org.ryanair.flight.api.warmup.WarmUpProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:25 PM
+ */
+
+/**
+ * Reports the schedule warm-up progress, out of service until the warm-up has finished.
+ * Included in the readiness group, so instances only receive traffic once their caches are warm.
+ * A failed or timed out warm-up reports up, a slow backend must not keep a rollout from completing.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final ScheduleWarmUp scheduleWarmUp;
+
+    @Override
+    public Health health() {
+        WarmUpProgress progress = scheduleWarmUp.getProgress();
+        return (progress.isFinished() ? Health.up() : Health.outOfService())
+                .withDetail("status", progress.status())
+                .withDetail("plannedSchedules", progress.plannedSchedules())
+                .withDetail("loadedSchedules", progress.loadedSchedules())
+                .withDetail("failedSchedules", progress.failedSchedules())
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.PossibleRoutesDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.helper.impl.ResponseGeneratorImpl;
+import org.ryanair.flight.api.helper.impl.ServiceHelperImpl;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.service.backend.impl.RyanairBackendAPIServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.BatchSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.FlightSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.RouteServiceImpl;
+import org.ryanair.flight.api.util.Constant;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:50 PM
+ */
+public class BatchSearchServiceTestContext {
+
+    @Mock
+    public RouteServiceImpl routeService;
+
+    @Spy
+    public ServiceHelperImpl serviceHelper;
+
+    @Mock
+    public RyanairBackendAPIServiceImpl backendAPIService;
+
+    @Mock
+    public FlightSearchServiceImpl flightSearchService;
+
+    @Spy
+    public ResponseGeneratorImpl responseGenerator;
+
+    @Spy
+    public FlightSearchPropertyConfiguration propertyConfiguration = createFlightSearchPropertyConfiguration();
+
+    public SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    public SearchMetrics searchMetrics = new SearchMetrics(meterRegistry);
+
+    @InjectMocks
+    public BatchSearchServiceImpl batchSearchService;
+
+    public static FlightSearchPropertyConfiguration createFlightSearchPropertyConfiguration() {
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setBatchMaxQueries(50);
+        propertyConfiguration.setBatchFetchConcurrency(4);
+        propertyConfiguration.setBatchQueryConcurrency(2);
+        return propertyConfiguration;
+    }
+
+    public RequestDataDto createMockRequestDto(String departure, String arrival) {
+        return RequestDataDto.builder()
+                .departure(departure)
+                .arrival(arrival)
+                .departureDateTime(LocalDateTime.parse("2024-04-02T00:00"))
+                .arrivalDateTime(LocalDateTime.parse("2024-04-02T23:59"))
+                .build();
+    }
+
+    /**
+     * The direct route DUB-WRO and the one-stop route through STN.
+     */
+    public List<PossibleRoutesDto> getDublinWroclawRoutes() {
+        return List.of(
+                PossibleRoutesDto.builder()
+                        .type(Constant.ROUTE_TYPE_DIRECT)
+                        .directRoute(RouteServiceTestContext.createRoute("DUB", "WRO"))
+                        .build(),
+                PossibleRoutesDto.builder()
+                        .type(Constant.ROUTE_TYPE_INTER_CONNECTED)
+                        .interConnectedRoute(List.of(RouteServiceTestContext.createRoute("DUB", "STN"), RouteServiceTestContext.createRoute("STN", "WRO")))
+                        .build());
+    }
+
+    /**
+     * The one-stop route DUB-STN-BGY, sharing its first leg with the DUB-WRO one-stop route.
+     */
+    public List<PossibleRoutesDto> getDublinBergamoRoutes() {
+        return List.of(PossibleRoutesDto.builder()
+                .type(Constant.ROUTE_TYPE_INTER_CONNECTED)
+                .interConnectedRoute(List.of(RouteServiceTestContext.createRoute("DUB", "STN"), RouteServiceTestContext.createRoute("STN", "BGY")))
+                .build());
+    }
+}
@@ -0,0 +1,51 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ryanair.flight.api.client.CallerPartition;
+import org.ryanair.flight.api.client.impl.AimdConcurrencyLimiter;
+import org.ryanair.flight.api.config.property.BackendConcurrencyLimitPropertyConfiguration;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:35 PM
+ */
+public class ConcurrencyLimiterTestContext {
+
+    public SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    public AimdConcurrencyLimiter createConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueueSize) {
+        BackendConcurrencyLimitPropertyConfiguration propertyConfiguration = new BackendConcurrencyLimitPropertyConfiguration();
+        propertyConfiguration.setEnabled(true);
+        propertyConfiguration.setInitialLimit(initialLimit);
+        propertyConfiguration.setMinLimit(minLimit);
+        propertyConfiguration.setMaxLimit(maxLimit);
+        propertyConfiguration.setBackoffRatio(0.5);
+        // latency never counts as overload, the tests drive the limit by the call outcomes
+        propertyConfiguration.setLatencyTolerance(Double.MAX_VALUE);
+        propertyConfiguration.setMaxQueueSize(maxQueueSize);
+        return new AimdConcurrencyLimiter(propertyConfiguration, meterRegistry);
+    }
+
+    /**
+     * Runs a call through the limiter on behalf of the given partition.
+     * The call records its name when it is subscribed and completes when the returned sink is completed.
+     */
+    public static Sinks.One<String> executeCall(AimdConcurrencyLimiter concurrencyLimiter, String partition, String name, List<String> startedCalls) {
+        Sinks.One<String> result = Sinks.one();
+        concurrencyLimiter.execute(Mono.defer(() -> {
+                    startedCalls.add(name);
+                    return result.asMono();
+                }))
+                .contextWrite(new CallerPartition(partition)::writeTo)
+                .subscribe(value -> {
+                }, throwable -> {
+                });
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.PossibleRoutesDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.engine.impl.LayeredConnectionScanEngine;
+import org.ryanair.flight.api.helper.impl.ServiceHelperImpl;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.service.frontend.impl.ConnectionScanSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.RouteServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
+import org.ryanair.flight.api.util.Constant;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 9:40 AM
+ */
+public class ConnectionScanSearchServiceTestContext {
+
+    @Mock
+    public RouteServiceImpl routeService;
+
+    @Mock
+    public ScheduleServiceImpl scheduleService;
+
+    @Spy
+    public ServiceHelperImpl serviceHelper;
+
+    @Spy
+    public LayeredConnectionScanEngine connectionScanEngine;
+
+    @Spy
+    public FlightSearchPropertyConfiguration propertyConfiguration = MultiStopSearchServiceTestContext.createFlightSearchPropertyConfiguration();
+
+    @Spy
+    public SearchMetrics searchMetrics = new SearchMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    public ConnectionScanSearchServiceImpl connectionScanSearchService;
+
+    public RequestDataDto createMockRequestDto(String scan) {
+        return RequestDataDto.builder()
+                .departure("DUB")
+                .arrival("WRO")
+                .departureDateTime(LocalDateTime.parse("2024-04-02T00:00"))
+                .arrivalDateTime(LocalDateTime.parse("2024-04-02T23:59"))
+                .maxStops(1)
+                .engine(Constant.ENGINE_CONNECTION_SCAN)
+                .scan(scan)
+                .build();
+    }
+
+    /**
+     * The direct route DUB-WRO and the one-stop route DUB-STN-WRO.
+     */
+    public List<PossibleRoutesDto> getPossibleRoutes() {
+        return List.of(
+                PossibleRoutesDto.builder()
+                        .type(Constant.ROUTE_TYPE_DIRECT)
+                        .directRoute(RouteServiceTestContext.createRoute("DUB", "WRO"))
+                        .build(),
+                PossibleRoutesDto.builder()
+                        .type(Constant.ROUTE_TYPE_INTER_CONNECTED)
+                        .interConnectedRoute(List.of(
+                                RouteServiceTestContext.createRoute("DUB", "STN"),
+                                RouteServiceTestContext.createRoute("STN", "WRO")))
+                        .build());
+    }
+}
@@ -1,17 +1,24 @@
 package org.ryanair.flight.api.context;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.ryanair.flight.api.cache.SearchResultCache;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
 import org.ryanair.flight.api.dto.PossibleRoutesDto;
 import org.ryanair.flight.api.dto.RequestDataDto;
 import org.ryanair.flight.api.dto.YearMonthDataDto;
+import org.ryanair.flight.api.engine.impl.SortedConnectionJoinEngine;
 import org.ryanair.flight.api.helper.impl.ServiceHelperImpl;
-import org.ryanair.flight.api.model.Flight;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.ScheduledFlight;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.service.frontend.impl.ConnectionScanSearchServiceImpl;
 import org.ryanair.flight.api.service.frontend.impl.FlightSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.MultiStopSearchServiceImpl;
 import org.ryanair.flight.api.service.frontend.impl.RouteServiceImpl;
 import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
 import org.ryanair.flight.api.context.util.TestUtil;
@@ -41,14 +48,32 @@ public class FlightSearchServiceTestContext {
     @Mock
     public ScheduleServiceImpl scheduleService;
 
+    @Spy
+    public SortedConnectionJoinEngine connectionJoinEngine = new SortedConnectionJoinEngine(createFlightSearchPropertyConfiguration());
+
+    @Mock
+    public MultiStopSearchServiceImpl multiStopSearchService;
+
+    @Spy
+    public SearchMetrics searchMetrics = new SearchMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    public SearchResultCache searchResultCache;
+
+    @Spy
+    public FlightSearchPropertyConfiguration propertyConfiguration = createFlightSearchPropertyConfiguration();
+
+    @Mock
+    public ConnectionScanSearchServiceImpl connectionScanSearchService;
+
     @InjectMocks
     public FlightSearchServiceImpl flightSearchService;
 
 
     private static List<RouteAPIResponseModel> getRouteMockData = Collections.emptyList();
-    private static List<Flight> directFlightMockResponse = Collections.emptyList();
-    private static List<Flight> intDepartingFlightMockResponse = Collections.emptyList();
-    private static List<Flight> intArrivingFlightMockResponse = Collections.emptyList();
+    private static List<ScheduledFlight> directFlightMockResponse = Collections.emptyList();
+    private static List<ScheduledFlight> intDepartingFlightMockResponse = Collections.emptyList();
+    private static List<ScheduledFlight> intArrivingFlightMockResponse = Collections.emptyList();
     static DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Constant.DATE_FORMAT_ISO);
 
     @BeforeAll
@@ -66,15 +91,23 @@ public class FlightSearchServiceTestContext {
 
     }
 
-    public List<Flight> getDirectFlightMockResponse() {
+    public static FlightSearchPropertyConfiguration createFlightSearchPropertyConfiguration() {
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setMinConnectionMinutes(120);
+        propertyConfiguration.setResultCacheEnabled(false);
+        propertyConfiguration.setResultCacheBucketMinutes(1440);
+        return propertyConfiguration;
+    }
+
+    public List<ScheduledFlight> getDirectFlightMockResponse() {
         return directFlightMockResponse;
     }
 
-    public List<Flight> getIntDepartingFlightMockResponse() {
+    public List<ScheduledFlight> getIntDepartingFlightMockResponse() {
         return intDepartingFlightMockResponse;
     }
 
-    public List<Flight> getIntArrivingFlightMockResponse() {
+    public List<ScheduledFlight> getIntArrivingFlightMockResponse() {
         return intArrivingFlightMockResponse;
     }
     public RequestDataDto createMockRequestDto(){
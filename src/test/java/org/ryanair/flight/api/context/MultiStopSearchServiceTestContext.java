@@ -0,0 +1,92 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.dto.PossibleRoutesDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.dto.ScheduledServiceDto;
+import org.ryanair.flight.api.dto.YearMonthDataDto;
+import org.ryanair.flight.api.engine.impl.SortedConnectionJoinEngine;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.service.frontend.impl.MultiStopSearchServiceImpl;
+import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
+import org.ryanair.flight.api.util.Constant;
+import org.ryanair.flight.api.util.EpochMinutes;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:55 PM
+ */
+public class MultiStopSearchServiceTestContext {
+
+    @Mock
+    public ScheduleServiceImpl scheduleService;
+
+    @Spy
+    public FlightSearchPropertyConfiguration propertyConfiguration = createFlightSearchPropertyConfiguration();
+
+    @Spy
+    public SortedConnectionJoinEngine connectionJoinEngine = new SortedConnectionJoinEngine(propertyConfiguration);
+
+    @Spy
+    public SearchMetrics searchMetrics = new SearchMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    public MultiStopSearchServiceImpl multiStopSearchService;
+
+    public static FlightSearchPropertyConfiguration createFlightSearchPropertyConfiguration() {
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setMinConnectionMinutes(120);
+        propertyConfiguration.setMultiStopMinLegMinutes(25);
+        return propertyConfiguration;
+    }
+
+    public RequestDataDto createMockRequestDto() {
+        return RequestDataDto.builder()
+                .departure("DUB")
+                .arrival("WRO")
+                .departureDateTime(LocalDateTime.parse("2024-04-02T00:00"))
+                .arrivalDateTime(LocalDateTime.parse("2024-04-02T23:59"))
+                .maxStops(2)
+                .build();
+    }
+
+    public List<YearMonthDataDto> getYearMonthData() {
+        return Collections.singletonList(new YearMonthDataDto(2024, 4));
+    }
+
+    /**
+     * The two-stop route DUB-STN-BGY-WRO.
+     */
+    public List<PossibleRoutesDto> getMultiStopRoutes() {
+        return Collections.singletonList(PossibleRoutesDto.builder()
+                .type(Constant.ROUTE_TYPE_MULTI_STOP)
+                .interConnectedRoute(List.of(
+                        RouteServiceTestContext.createRoute("DUB", "STN"),
+                        RouteServiceTestContext.createRoute("STN", "BGY"),
+                        RouteServiceTestContext.createRoute("BGY", "WRO")))
+                .build());
+    }
+
+    public static ScheduledFlight createFlight(String number, String departureTime, String arrivalTime) {
+        return new ScheduledFlight("FR", number,
+                EpochMinutes.of(LocalDateTime.parse(departureTime)), EpochMinutes.of(LocalDateTime.parse(arrivalTime)));
+    }
+
+    public static ArgumentMatcher<ScheduledServiceDto> isLeg(String airportFrom, String airportTo) {
+        return scheduledServiceDto -> scheduledServiceDto != null
+                && scheduledServiceDto.getDirectRouteData().getAirportFrom().equals(airportFrom)
+                && scheduledServiceDto.getDirectRouteData().getAirportTo().equals(airportTo);
+    }
+}
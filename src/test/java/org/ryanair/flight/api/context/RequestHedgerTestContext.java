@@ -0,0 +1,38 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ryanair.flight.api.client.impl.PercentileRequestHedger;
+import org.ryanair.flight.api.config.property.BackendHedgingPropertyConfiguration;
+import reactor.core.publisher.Mono;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 12:10 AM
+ */
+public class RequestHedgerTestContext {
+
+    public SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    public PercentileRequestHedger createRequestHedger(double budgetRatio) {
+        BackendHedgingPropertyConfiguration propertyConfiguration = new BackendHedgingPropertyConfiguration();
+        propertyConfiguration.setEnabled(true);
+        propertyConfiguration.setPercentile(0.95);
+        propertyConfiguration.setWindowSize(20);
+        propertyConfiguration.setMinSamples(20);
+        propertyConfiguration.setMinDelayMs(20L);
+        propertyConfiguration.setBudgetRatio(budgetRatio);
+        propertyConfiguration.setMaxBurst(10);
+        return new PercentileRequestHedger(propertyConfiguration, meterRegistry);
+    }
+
+    /**
+     * Runs enough fast calls through the hedger for it to derive its threshold, which is then the minimum delay.
+     */
+    public static void warmUp(PercentileRequestHedger requestHedger) {
+        for (int i = 0; i < 20; i++) {
+            requestHedger.execute(() -> Mono.just("fast")).block();
+        }
+    }
+}
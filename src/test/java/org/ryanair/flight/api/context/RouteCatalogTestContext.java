@@ -0,0 +1,44 @@
+package org.ryanair.flight.api.context;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.ryanair.flight.api.catalog.impl.RyanairRouteCatalog;
+import org.ryanair.flight.api.client.impl.RyanairAPIClient;
+import org.ryanair.flight.api.config.property.RouteCatalogPropertyConfiguration;
+import org.ryanair.flight.api.context.util.TestUtil;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:05 AM
+ */
+public class RouteCatalogTestContext {
+
+    @Mock
+    public RyanairAPIClient apiClient;
+
+    @Spy
+    public RouteCatalogPropertyConfiguration propertyConfiguration = createRouteCatalogPropertyConfiguration();
+
+    @InjectMocks
+    public RyanairRouteCatalog routeCatalog;
+
+    public static RouteCatalogPropertyConfiguration createRouteCatalogPropertyConfiguration() {
+        RouteCatalogPropertyConfiguration propertyConfiguration = new RouteCatalogPropertyConfiguration();
+        propertyConfiguration.setRefreshIntervalMs(1_800_000L);
+        return propertyConfiguration;
+    }
+
+    public List<RouteAPIResponseModel> getRouteResponse() {
+        try {
+            return TestUtil.getRouteMockData();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
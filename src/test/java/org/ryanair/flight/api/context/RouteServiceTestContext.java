@@ -2,12 +2,16 @@ package org.ryanair.flight.api.context;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
 import org.ryanair.flight.api.dto.PossibleRoutesDto;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.service.backend.impl.RyanairBackendAPIServiceImpl;
 import org.ryanair.flight.api.service.frontend.impl.RouteServiceImpl;
 import org.ryanair.flight.api.context.util.TestUtil;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +26,18 @@ public class RouteServiceTestContext {
     @Mock
     public RyanairBackendAPIServiceImpl backendAPIService;
 
+    @Spy
+    public FlightSearchPropertyConfiguration propertyConfiguration = createFlightSearchPropertyConfiguration();
+
     @InjectMocks
     public RouteServiceImpl routeService;
 
+    public static FlightSearchPropertyConfiguration createFlightSearchPropertyConfiguration() {
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setMultiStopMaxRoutes(64);
+        return propertyConfiguration;
+    }
+
     public List<RouteAPIResponseModel> getRouteResponse() {
         try {
             return TestUtil.getRouteMockData();
@@ -33,6 +46,28 @@ public class RouteServiceTestContext {
         }
     }
 
+    public RouteCatalogSnapshot getRouteCatalogSnapshot() {
+        return new RouteCatalogSnapshot(getRouteResponse(), Instant.now());
+    }
+
+    /**
+     * A small network with a two-stop route DUB-STN-BGY-WRO and a three-stop route DUB-STN-BGY-PMO-WRO,
+     * next to the one-stop route DUB-BGY-WRO.
+     */
+    public RouteCatalogSnapshot getMultiStopRouteCatalogSnapshot() {
+        return new RouteCatalogSnapshot(List.of(
+                createRoute("DUB", "STN"),
+                createRoute("STN", "BGY"),
+                createRoute("BGY", "WRO"),
+                createRoute("DUB", "BGY"),
+                createRoute("BGY", "PMO"),
+                createRoute("PMO", "WRO")), Instant.now());
+    }
+
+    public static RouteAPIResponseModel createRoute(String airportFrom, String airportTo) {
+        return RouteAPIResponseModel.builder().airportFrom(airportFrom).airportTo(airportTo).operator("RYANAIR").build();
+    }
+
     public Optional<PossibleRoutesDto> filterDirectRouteFromResponse(List<PossibleRoutesDto> possibleRoutesDtos) {
         return possibleRoutesDtos.stream()
                 .filter(possibleRoutesDto -> possibleRoutesDto.getType().equalsIgnoreCase("DIRECT")).findAny();
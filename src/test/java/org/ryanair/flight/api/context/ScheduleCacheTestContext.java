@@ -0,0 +1,46 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.cache.impl.CaffeineScheduleCache;
+import org.ryanair.flight.api.config.property.ScheduleCachePropertyConfiguration;
+import org.ryanair.flight.api.context.util.TestUtil;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 1:40 PM
+ */
+public class ScheduleCacheTestContext {
+
+    public CaffeineScheduleCache createScheduleCache() {
+        return createScheduleCache(60L);
+    }
+
+    public CaffeineScheduleCache createScheduleCache(long ttlSeconds) {
+        return createScheduleCache(ttlSeconds, 600L);
+    }
+
+    public CaffeineScheduleCache createScheduleCache(long ttlSeconds, long maxStalenessSeconds) {
+        ScheduleCachePropertyConfiguration propertyConfiguration = new ScheduleCachePropertyConfiguration();
+        propertyConfiguration.setTtlSeconds(ttlSeconds);
+        propertyConfiguration.setMaxWeightFlights(10_000L);
+        propertyConfiguration.setMaxStalenessSeconds(maxStalenessSeconds);
+        propertyConfiguration.setRevalidateTimeoutMs(200L);
+        return new CaffeineScheduleCache(propertyConfiguration, new SimpleMeterRegistry());
+    }
+
+    public ScheduleCacheKey getScheduleCacheKey() {
+        return new ScheduleCacheKey("STN", "PMO", 2024, 4);
+    }
+
+    public MonthlyTimetable getMockMonthlyTimetable() {
+        try {
+            return MonthlyTimetable.from(TestUtil.getScheduledAPIMockResponse(), 2024);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
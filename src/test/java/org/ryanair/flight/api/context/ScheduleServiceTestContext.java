@@ -1,13 +1,16 @@
 package org.ryanair.flight.api.context;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.ryanair.flight.api.context.util.TestUtil;
 import org.ryanair.flight.api.dto.RequestDataDto;
 import org.ryanair.flight.api.dto.ScheduledServiceDto;
 import org.ryanair.flight.api.dto.YearMonthDataDto;
+import org.ryanair.flight.api.metrics.SearchMetrics;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
-import org.ryanair.flight.api.model.ScheduleAPIResponseModel;
+import org.ryanair.flight.api.model.MonthlyTimetable;
 import org.ryanair.flight.api.service.backend.impl.RyanairBackendAPIServiceImpl;
 import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
 import org.ryanair.flight.api.util.Constant;
@@ -26,6 +29,9 @@ public class ScheduleServiceTestContext {
     static DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Constant.DATE_FORMAT_ISO);
     @Mock
     public RyanairBackendAPIServiceImpl backendAPIService;
+    public SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    public SearchMetrics searchMetrics = new SearchMetrics(meterRegistry);
     @InjectMocks
     public ScheduleServiceImpl scheduleService;
 
@@ -33,7 +39,7 @@ public class ScheduleServiceTestContext {
         return new YearMonthDataDto(2024, 4);
     }
 
-    private RouteAPIResponseModel getDirectRouteData() {
+    public RouteAPIResponseModel getDirectRouteData() {
         try {
             return TestUtil.getRouteMockData().getFirst();
         } catch (Exception e) {
@@ -67,9 +73,9 @@ public class ScheduleServiceTestContext {
                 .requestData(createMockRequestDto()).yearMonthData(getYearMonthData()).build();
     }
 
-    public ScheduleAPIResponseModel getMockScheduleAPIResponseModel() {
+    public MonthlyTimetable getMockMonthlyTimetable() {
         try {
-            return TestUtil.getScheduledAPIMockResponse();
+            return MonthlyTimetable.from(TestUtil.getScheduledAPIMockResponse(), 2024);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
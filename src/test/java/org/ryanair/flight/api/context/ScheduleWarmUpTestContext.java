@@ -0,0 +1,43 @@
+package org.ryanair.flight.api.context;
+
+import org.mockito.Mock;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.config.property.WarmUpPropertyConfiguration;
+import org.ryanair.flight.api.context.util.TestUtil;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+import org.ryanair.flight.api.warmup.impl.CatalogScheduleWarmUp;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:35 PM
+ */
+public class ScheduleWarmUpTestContext {
+
+    @Mock
+    public BackendAPIService backendAPIService;
+
+    public CatalogScheduleWarmUp createScheduleWarmUp(List<String> hubs) {
+        WarmUpPropertyConfiguration propertyConfiguration = new WarmUpPropertyConfiguration();
+        propertyConfiguration.setEnabled(true);
+        propertyConfiguration.setPairs(List.of("aal-gro"));
+        propertyConfiguration.setHubs(hubs);
+        propertyConfiguration.setLearnedLegs(false);
+        propertyConfiguration.setMonthsAhead(2);
+        propertyConfiguration.setConcurrency(4);
+        propertyConfiguration.setMaxDurationMs(10_000L);
+        return new CatalogScheduleWarmUp(backendAPIService, propertyConfiguration);
+    }
+
+    public RouteCatalogSnapshot getRouteCatalogSnapshot() {
+        try {
+            return new RouteCatalogSnapshot(TestUtil.getRouteMockData(), Instant.now());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
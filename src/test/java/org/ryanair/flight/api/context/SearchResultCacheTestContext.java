@@ -0,0 +1,43 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ryanair.flight.api.cache.ScheduleCache;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.cache.SearchResultCacheKey;
+import org.ryanair.flight.api.cache.SearchWindowResult;
+import org.ryanair.flight.api.cache.impl.CaffeineSearchResultCache;
+import org.ryanair.flight.api.config.property.FlightSearchPropertyConfiguration;
+import org.ryanair.flight.api.config.property.ScheduleCachePropertyConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:25 AM
+ */
+public class SearchResultCacheTestContext {
+
+    public CaffeineSearchResultCache createSearchResultCache(ScheduleCache scheduleCache) {
+        FlightSearchPropertyConfiguration propertyConfiguration = new FlightSearchPropertyConfiguration();
+        propertyConfiguration.setResultCacheMaxEntries(100L);
+        ScheduleCachePropertyConfiguration scheduleCachePropertyConfiguration = new ScheduleCachePropertyConfiguration();
+        scheduleCachePropertyConfiguration.setTtlSeconds(60L);
+        return new CaffeineSearchResultCache(propertyConfiguration, scheduleCachePropertyConfiguration, scheduleCache, new SimpleMeterRegistry());
+    }
+
+    public SearchResultCacheKey getSearchResultCacheKey() {
+        return new SearchResultCacheKey("DUB", "WRO", LocalDateTime.parse("2024-04-02T00:00"), LocalDateTime.parse("2024-04-02T23:59"));
+    }
+
+    public ScheduleCacheKey getScheduleCacheKey() {
+        return new ScheduleCacheKey("DUB", "WRO", 2024, 4);
+    }
+
+    public SearchWindowResult getSearchWindowResult() {
+        return new SearchWindowResult(Collections.emptyList(), Collections.emptyList(), Set.of(getScheduleCacheKey()));
+    }
+}
@@ -0,0 +1,58 @@
+package org.ryanair.flight.api.context;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mock;
+import org.ryanair.flight.api.cache.ScheduleCache;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.config.property.TimetableCrawlerPropertyConfiguration;
+import org.ryanair.flight.api.context.util.TestUtil;
+import org.ryanair.flight.api.crawler.impl.CatalogTimetableCrawler;
+import org.ryanair.flight.api.service.backend.BackendAPIService;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 2:15 AM
+ */
+public class TimetableCrawlerTestContext {
+
+    @Mock
+    public BackendAPIService backendAPIService;
+
+    @Mock
+    public ScheduleCache scheduleCache;
+
+    public CatalogTimetableCrawler createTimetableCrawler() {
+        TimetableCrawlerPropertyConfiguration propertyConfiguration = new TimetableCrawlerPropertyConfiguration();
+        propertyConfiguration.setEnabled(true);
+        propertyConfiguration.setMonthsAhead(1);
+        propertyConfiguration.setRequestsPerSecond(1000.0);
+        propertyConfiguration.setConcurrency(1);
+        propertyConfiguration.setRefreshAfterSeconds(600L);
+        propertyConfiguration.setPopularLegs(10);
+        propertyConfiguration.setInitialDelayMs(0L);
+        propertyConfiguration.setCyclePauseMs(1000L);
+        return new CatalogTimetableCrawler(backendAPIService, scheduleCache, propertyConfiguration, new SimpleMeterRegistry());
+    }
+
+    /**
+     * @return The catalog of the legs AAL-GRO, AAL-STN, STN-GRO, AAL-ABC and ABS-GRO.
+     */
+    public RouteCatalogSnapshot getRouteCatalogSnapshot() {
+        try {
+            return new RouteCatalogSnapshot(TestUtil.getRouteMockData(), Instant.now());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public ScheduleCacheKey getScheduleCacheKey(String departure, String arrival) {
+        YearMonth month = YearMonth.now();
+        return new ScheduleCacheKey(departure, arrival, month.getYear(), month.getMonthValue());
+    }
+}
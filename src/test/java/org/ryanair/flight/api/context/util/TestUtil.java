@@ -5,9 +5,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.ryanair.flight.api.model.Flight;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.model.ScheduleAPIResponseModel;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.util.EpochMinutes;
 import org.springframework.util.ResourceUtils;
 
 import java.io.File;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,22 +32,30 @@ public class TestUtil {
         });
     }
 
-    public static List<Flight> getDirectFlightMockResponse() throws Exception {
-        File file = ResourceUtils.getFile(BASE_FILE_PATH + "flight_data_1.json");
-        return objectMapper.readValue(file, new TypeReference<>() {
-        });
+    public static List<ScheduledFlight> getDirectFlightMockResponse() throws Exception {
+        return readScheduledFlights("flight_data_1.json");
     }
 
-    public static List<Flight> getIntDepartingFlightMockResponse() throws Exception {
-        File file = ResourceUtils.getFile(BASE_FILE_PATH + "flight_data_1.json");
-        return objectMapper.readValue(file, new TypeReference<>() {
-        });
+    public static List<ScheduledFlight> getIntDepartingFlightMockResponse() throws Exception {
+        return readScheduledFlights("flight_data_1.json");
     }
 
-    public static List<Flight> getIntArrivingFlightMockResponse() throws Exception {
-        File file = ResourceUtils.getFile(BASE_FILE_PATH + "flight_data_2.json");
-        return objectMapper.readValue(file, new TypeReference<>() {
+    public static List<ScheduledFlight> getIntArrivingFlightMockResponse() throws Exception {
+        return readScheduledFlights("flight_data_2.json");
+    }
+
+    public static ScheduledFlight scheduledFlight(String carrierCode, String number, String departureDateTime, String arrivalDateTime) {
+        return new ScheduledFlight(carrierCode, number,
+                EpochMinutes.of(LocalDateTime.parse(departureDateTime)), EpochMinutes.of(LocalDateTime.parse(arrivalDateTime)));
+    }
+
+    private static List<ScheduledFlight> readScheduledFlights(String fileName) throws Exception {
+        File file = ResourceUtils.getFile(BASE_FILE_PATH + fileName);
+        List<Flight> flights = objectMapper.readValue(file, new TypeReference<>() {
         });
+        return flights.stream()
+                .map(flight -> scheduledFlight(flight.getCarrierCode(), flight.getNumber(), flight.getDepartureTime(), flight.getArrivalTime()))
+                .toList();
     }
 
     public static ScheduleAPIResponseModel getScheduledAPIMockResponse() throws Exception {
@@ -0,0 +1,96 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.client.impl.AimdConcurrencyLimiter;
+import org.ryanair.flight.api.context.ConcurrencyLimiterTestContext;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.util.ResponseMessage;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 11:40 PM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AimdConcurrencyLimiter Unit Tests")
+class AimdConcurrencyLimiterTest extends ConcurrencyLimiterTestContext {
+
+    @Test
+    void execute_QueuedCallsServedRoundRobinAcrossPartitions_Success() {
+        AimdConcurrencyLimiter concurrencyLimiter = createConcurrencyLimiter(1, 1, 1, 10);
+        List<String> startedCalls = new ArrayList<>();
+
+        Sinks.One<String> a1 = executeCall(concurrencyLimiter, "A", "a1", startedCalls);
+        Sinks.One<String> a2 = executeCall(concurrencyLimiter, "A", "a2", startedCalls);
+        Sinks.One<String> a3 = executeCall(concurrencyLimiter, "A", "a3", startedCalls);
+        Sinks.One<String> b1 = executeCall(concurrencyLimiter, "B", "b1", startedCalls);
+        Assertions.assertEquals(List.of("a1"), startedCalls);
+        Assertions.assertEquals(3.0, meterRegistry.get("backend.concurrency.queued").gauge().value());
+
+        a1.tryEmitValue("a1");
+        a2.tryEmitValue("a2");
+        b1.tryEmitValue("b1");
+        a3.tryEmitValue("a3");
+
+        // B is not held back behind the remaining calls of A
+        Assertions.assertEquals(List.of("a1", "a2", "b1", "a3"), startedCalls);
+        Assertions.assertEquals(0.0, meterRegistry.get("backend.concurrency.inflight").gauge().value());
+        Assertions.assertEquals(0.0, meterRegistry.get("backend.concurrency.queued").gauge().value());
+    }
+
+    @Test
+    void execute_QueueFull_ThrowsBackendInvocationException() {
+        AimdConcurrencyLimiter concurrencyLimiter = createConcurrencyLimiter(1, 1, 1, 1);
+        List<String> startedCalls = new ArrayList<>();
+        executeCall(concurrencyLimiter, "A", "a1", startedCalls);
+        executeCall(concurrencyLimiter, "A", "a2", startedCalls);
+
+        StepVerifier.create(concurrencyLimiter.execute(Mono.just("b1")))
+                .expectErrorMatches(throwable -> throwable instanceof BackendInvocationException backendInvocationException
+                        && backendInvocationException.getStatus() == HttpStatus.SERVICE_UNAVAILABLE)
+                .verify();
+        Assertions.assertEquals(1.0, meterRegistry.get("backend.concurrency.rejected").counter().count());
+    }
+
+    @Test
+    void execute_LimitDecreasesOnOverloadAndIncreasesWhileWellUsed_Success() {
+        AimdConcurrencyLimiter concurrencyLimiter = createConcurrencyLimiter(8, 2, 100, 10);
+
+        StepVerifier.create(concurrencyLimiter.execute(Mono.error(new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE,
+                        ResponseMessage.ERR_INVALID_RESP_FROM_BACKEND, HttpStatus.SERVICE_UNAVAILABLE))))
+                .expectError(BackendInvocationException.class)
+                .verify();
+        Assertions.assertEquals(4, concurrencyLimiter.getLimit());
+
+        // a single call at a time does not use enough of the limit to raise it
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(concurrencyLimiter.execute(Mono.just(i))).expectNext(i).verifyComplete();
+        }
+        Assertions.assertEquals(4, concurrencyLimiter.getLimit());
+
+        List<String> startedCalls = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            List<Sinks.One<String>> calls = new ArrayList<>();
+            for (int i = 0; i < concurrencyLimiter.getLimit(); i++) {
+                calls.add(executeCall(concurrencyLimiter, "A", "a" + i, startedCalls));
+            }
+            calls.forEach(call -> call.tryEmitValue("done"));
+        }
+        Assertions.assertTrue(concurrencyLimiter.getLimit() > 4);
+        Assertions.assertEquals(concurrencyLimiter.getLimit(), meterRegistry.get("backend.concurrency.limit").gauge().value());
+        Assertions.assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+}
@@ -0,0 +1,127 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.cache.BatchScheduleMemo;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.context.BatchSearchServiceTestContext;
+import org.ryanair.flight.api.dto.BatchSearchResultDto;
+import org.ryanair.flight.api.dto.DataLegs;
+import org.ryanair.flight.api.dto.FinalFlightResponseDto;
+import org.ryanair.flight.api.dto.RequestDataDto;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
+import org.ryanair.flight.api.util.ResponseMessage;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:55 PM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchSearchService Unit Tests")
+class BatchSearchServiceImplTest extends BatchSearchServiceTestContext {
+
+    @Test
+    void searchBatch_SharedLegFetchedOnceAndQueriesSearchedWithBatchMemo_Success() {
+        Mockito.when(routeService.findAllPossibleRoutes("DUB", "WRO")).thenReturn(Mono.just(getDublinWroclawRoutes()));
+        Mockito.when(routeService.findAllPossibleRoutes("DUB", "BGY")).thenReturn(Mono.just(getDublinBergamoRoutes()));
+        Mockito.when(backendAPIService.getSchedules(Mockito.any()))
+                .thenReturn(Mono.just(MonthlyTimetable.of(2024, 4, Collections.emptyList())));
+        Mockito.when(flightSearchService.findFlights(Mockito.any())).thenReturn(Mono.deferContextual(context -> {
+            Assertions.assertTrue(BatchScheduleMemo.find(context).isPresent());
+            return Mono.just(List.of(FinalFlightResponseDto.builder().stops(0).legs(List.of(DataLegs.builder().build())).build()));
+        }));
+
+        StepVerifier.create(batchSearchService.searchBatch(List.of(createMockRequestDto("DUB", "WRO"), createMockRequestDto("DUB", "BGY")))
+                        .collectSortedList(Comparator.comparingInt(BatchSearchResultDto::getIndex)))
+                .consumeNextWith(batchSearchResultDtoList -> {
+                    Assertions.assertEquals(2, batchSearchResultDtoList.size());
+                    Assertions.assertEquals("WRO", batchSearchResultDtoList.get(0).getArrival());
+                    Assertions.assertEquals("BGY", batchSearchResultDtoList.get(1).getArrival());
+                    batchSearchResultDtoList.forEach(batchSearchResultDto ->
+                            Assertions.assertEquals(HttpStatus.OK.value(), batchSearchResultDto.getResult().getResponseCode()));
+                })
+                .verifyComplete();
+
+        // DUB-WRO, DUB-STN, STN-WRO and STN-BGY, the DUB-STN leg of both queries is fetched once
+        Mockito.verify(backendAPIService, Mockito.times(4)).getSchedules(Mockito.any());
+        Assertions.assertEquals(2.0, meterRegistry.get("flight.search.batch.queries").summary().totalAmount());
+    }
+
+    @Test
+    void searchBatch_FailedQueryReportedInItsResult_Success() {
+        Mockito.when(routeService.findAllPossibleRoutes(Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(Mono.just(getDublinBergamoRoutes()));
+        Mockito.when(backendAPIService.getSchedules(Mockito.any()))
+                .thenReturn(Mono.just(MonthlyTimetable.of(2024, 4, Collections.emptyList())));
+        Mockito.when(flightSearchService.findFlights(Mockito.any()))
+                .thenReturn(Mono.just(Collections.emptyList()))
+                .thenReturn(Mono.error(new BackendInvocationException(ResponseMessage.ERR_SERVICE_UNAVAILABLE,
+                        ResponseMessage.ERR_SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE)));
+
+        StepVerifier.create(batchSearchService.searchBatch(List.of(createMockRequestDto("DUB", "BGY"), createMockRequestDto("DUB", "BGY")))
+                        .map(batchSearchResultDto -> batchSearchResultDto.getResult().getResponseCode())
+                        .collectSortedList())
+                .consumeNextWith(responseCodes -> Assertions.assertEquals(
+                        List.of(HttpStatus.NO_CONTENT.value(), HttpStatus.SERVICE_UNAVAILABLE.value()), responseCodes))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchBatch_StaleLegOnlyMarksTheQueriesReadingIt_Success() {
+        Instant staleFetchedAt = Instant.now().minusSeconds(7200);
+        Mockito.when(routeService.findAllPossibleRoutes("DUB", "WRO")).thenReturn(Mono.just(getDublinWroclawRoutes()));
+        Mockito.when(routeService.findAllPossibleRoutes("DUB", "BGY")).thenReturn(Mono.just(getDublinBergamoRoutes()));
+        // looked up through the memo of the batch as the backend service does, STN-WRO is served stale
+        Mockito.when(backendAPIService.getSchedules(Mockito.any())).thenAnswer(invocation -> {
+            ScheduleCacheKey scheduleCacheKey = ScheduleCacheKey.of(invocation.getArgument(0));
+            return Mono.deferContextual(context -> BatchScheduleMemo.find(context).orElseThrow()
+                    .get(scheduleCacheKey, key -> Mono.deferContextual(loaderContext -> {
+                        if ("STN".equals(key.departure()) && "WRO".equals(key.arrival())) {
+                            ScheduleStaleness.find(loaderContext).ifPresent(staleness -> staleness.record(staleFetchedAt));
+                        }
+                        return Mono.just(MonthlyTimetable.of(2024, 4, Collections.emptyList()));
+                    })));
+        });
+        // every query reads the schedules of its own legs
+        Mockito.when(flightSearchService.findFlights(Mockito.any())).thenAnswer(invocation -> {
+            RequestDataDto requestDataDto = invocation.getArgument(0);
+            List<ScheduleAPIRequestModel> legs = "WRO".equals(requestDataDto.getArrival())
+                    ? List.of(createScheduleRequest("DUB", "WRO"), createScheduleRequest("DUB", "STN"), createScheduleRequest("STN", "WRO"))
+                    : List.of(createScheduleRequest("DUB", "STN"), createScheduleRequest("STN", "BGY"));
+            return Flux.fromIterable(legs)
+                    .concatMap(backendAPIService::getSchedules)
+                    .then(Mono.just(List.of(FinalFlightResponseDto.builder().stops(0).legs(List.of(DataLegs.builder().build())).build())));
+        });
+
+        StepVerifier.create(batchSearchService.searchBatch(List.of(createMockRequestDto("DUB", "WRO"), createMockRequestDto("DUB", "BGY")))
+                        .collectSortedList(Comparator.comparingInt(BatchSearchResultDto::getIndex)))
+                .consumeNextWith(batchSearchResultDtoList -> {
+                    Assertions.assertNotNull(batchSearchResultDtoList.get(0).getResult().getStaleness());
+                    Assertions.assertNull(batchSearchResultDtoList.get(1).getResult().getStaleness());
+                })
+                .verifyComplete();
+    }
+
+    private static ScheduleAPIRequestModel createScheduleRequest(String departure, String arrival) {
+        return ScheduleAPIRequestModel.builder().departure(departure).arrival(arrival).year(2024).month(4).build();
+    }
+}
@@ -0,0 +1,139 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.cache.impl.CaffeineScheduleCache;
+import org.ryanair.flight.api.context.ScheduleCacheTestContext;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 1:45 PM
+ */
+
+@DisplayName("ScheduleCache Unit Tests")
+class CaffeineScheduleCacheTest extends ScheduleCacheTestContext {
+
+    @Test
+    void get_SecondLookupServedFromCache_Success() {
+        CaffeineScheduleCache scheduleCache = createScheduleCache();
+        MonthlyTimetable schedule = getMockMonthlyTimetable();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> {
+                        loads.incrementAndGet();
+                        return Mono.just(schedule);
+                    }))
+                    .consumeNextWith(cached -> Assertions.assertSame(schedule, cached))
+                    .verifyComplete();
+        }
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, scheduleCache.stats().hitCount());
+        Assertions.assertEquals(1, scheduleCache.stats().missCount());
+    }
+
+    @Test
+    void get_FailedLoadIsNotCached_Success() {
+        CaffeineScheduleCache scheduleCache = createScheduleCache();
+
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key ->
+                        Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE))))
+                .expectError(BackendInvocationException.class)
+                .verify();
+
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> Mono.just(getMockMonthlyTimetable())))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void get_RestoredEntryServedAndRefreshedInBackground_Success() {
+        CaffeineScheduleCache scheduleCache = createScheduleCache();
+        MonthlyTimetable restoredSchedule = getMockMonthlyTimetable();
+        MonthlyTimetable refreshedSchedule = MonthlyTimetable.of(2024, 4, List.of());
+        AtomicInteger loads = new AtomicInteger();
+        scheduleCache.restore(new ScheduleCacheEntry(getScheduleCacheKey(), restoredSchedule, Instant.now().minusSeconds(300)));
+
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> {
+                    loads.incrementAndGet();
+                    return Mono.just(refreshedSchedule);
+                }))
+                .consumeNextWith(cached -> Assertions.assertSame(restoredSchedule, cached))
+                .verifyComplete();
+
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> Mono.error(new IllegalStateException("not reloaded"))))
+                .consumeNextWith(cached -> Assertions.assertSame(refreshedSchedule, cached))
+                .verifyComplete();
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_RestoredEntryPastMaxStalenessNotServed_Success() {
+        CaffeineScheduleCache scheduleCache = createScheduleCache();
+        // fetched longer ago than the time to live plus the maximum staleness
+        scheduleCache.restore(new ScheduleCacheEntry(getScheduleCacheKey(), getMockMonthlyTimetable(), Instant.now().minusSeconds(3600)));
+
+        Assertions.assertTrue(scheduleCache.entries().isEmpty());
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key ->
+                        Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE))))
+                .expectError(BackendInvocationException.class)
+                .verify();
+    }
+
+    @Test
+    void get_RestoredEntryExpiresAtMaxStalenessFromItsFetchTime_Success() {
+        CaffeineScheduleCache scheduleCache = createScheduleCache(0L, 1L);
+        // within the bound when restored, past it a second later although it was written just now
+        scheduleCache.restore(new ScheduleCacheEntry(getScheduleCacheKey(), getMockMonthlyTimetable(), Instant.now()));
+        StepVerifier.create(Mono.delay(Duration.ofMillis(1100))).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key ->
+                        Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE))))
+                .expectError(BackendInvocationException.class)
+                .verify();
+    }
+
+    @Test
+    void get_ExpiredEntryServedStaleWhenRevalidationFailsOrIsSlow_Success() {
+        CaffeineScheduleCache scheduleCache = createScheduleCache(0L);
+        MonthlyTimetable expiredSchedule = getMockMonthlyTimetable();
+        MonthlyTimetable revalidatedSchedule = MonthlyTimetable.of(2024, 4, List.of());
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> Mono.just(expiredSchedule)))
+                .expectNext(expiredSchedule)
+                .verifyComplete();
+
+        ScheduleStaleness failedRevalidation = new ScheduleStaleness();
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> Mono.error(
+                                new BackendInvocationException("Service Unavailable", "circuit breaker open", HttpStatus.SERVICE_UNAVAILABLE)))
+                        .contextWrite(failedRevalidation::writeTo))
+                .consumeNextWith(cached -> Assertions.assertSame(expiredSchedule, cached))
+                .verifyComplete();
+        Assertions.assertTrue(failedRevalidation.getOldestFetchedAt().isPresent());
+
+        // the slow revalidation outlives the lookup and replaces the expired entry
+        ScheduleStaleness slowRevalidation = new ScheduleStaleness();
+        StepVerifier.create(scheduleCache.get(getScheduleCacheKey(), key -> Mono.just(revalidatedSchedule).delayElement(Duration.ofMillis(400)))
+                        .contextWrite(slowRevalidation::writeTo))
+                .consumeNextWith(cached -> Assertions.assertSame(expiredSchedule, cached))
+                .verifyComplete();
+        Assertions.assertTrue(slowRevalidation.getOldestFetchedAt().isPresent());
+        StepVerifier.create(Mono.delay(Duration.ofMillis(500))).expectNextCount(1).verifyComplete();
+        Assertions.assertSame(revalidatedSchedule, scheduleCache.entries().getFirst().timetable());
+    }
+}
@@ -0,0 +1,139 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.cache.ScheduleCache;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.cache.SearchResultCacheKey;
+import org.ryanair.flight.api.cache.SearchWindowResult;
+import org.ryanair.flight.api.cache.impl.CaffeineSearchResultCache;
+import org.ryanair.flight.api.context.SearchResultCacheTestContext;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.metrics.SearchTrace;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 1:30 AM
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchResultCache Unit Tests")
+class CaffeineSearchResultCacheTest extends SearchResultCacheTestContext {
+
+    @Mock
+    private ScheduleCache scheduleCache;
+
+    @Test
+    void get_ResultReusedUntilItsScheduleIsFetchedAgain_Success() {
+        CaffeineSearchResultCache searchResultCache = createSearchResultCache(scheduleCache);
+        Instant fetchedAt = Instant.now();
+        Mockito.when(scheduleCache.findFetchedAt(getScheduleCacheKey()))
+                .thenReturn(Optional.of(fetchedAt))
+                .thenReturn(Optional.of(fetchedAt))
+                .thenReturn(Optional.of(fetchedAt.plusSeconds(1)));
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(searchResultCache.get(getSearchResultCacheKey(), key -> {
+                        loads.incrementAndGet();
+                        return Mono.just(getSearchWindowResult());
+                    }))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+
+        // the second lookup is served from the cache, the third finds the schedule fetched again
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_FailedComputationIsNotCached_Success() {
+        CaffeineSearchResultCache searchResultCache = createSearchResultCache(scheduleCache);
+        SearchWindowResult searchWindowResult = getSearchWindowResult();
+        Mockito.when(scheduleCache.findFetchedAt(getScheduleCacheKey())).thenReturn(Optional.of(Instant.now()));
+
+        StepVerifier.create(searchResultCache.get(getSearchResultCacheKey(), key ->
+                        Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE))))
+                .expectError(BackendInvocationException.class)
+                .verify();
+
+        StepVerifier.create(searchResultCache.get(getSearchResultCacheKey(), key -> Mono.just(searchWindowResult)))
+                .consumeNextWith(cached -> Assertions.assertSame(searchWindowResult.directFlights(), cached.directFlights()))
+                .verifyComplete();
+    }
+
+    @Test
+    void get_StaleSchedulesReplayedToEveryConcurrentLookup_Success() {
+        CaffeineSearchResultCache searchResultCache = createSearchResultCache(scheduleCache);
+        // past the time to live of the schedule cache, so the schedule was served stale
+        Instant staleFetchedAt = Instant.now().minusSeconds(3600);
+        Mockito.when(scheduleCache.findFetchedAt(getScheduleCacheKey())).thenReturn(Optional.of(staleFetchedAt));
+        AtomicInteger loads = new AtomicInteger();
+        Function<SearchResultCacheKey, Mono<SearchWindowResult>> loader = key -> {
+            loads.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(50)).thenReturn(getSearchWindowResult());
+        };
+        ScheduleStaleness computingStaleness = new ScheduleStaleness();
+        ScheduleStaleness joiningStaleness = new ScheduleStaleness();
+        SearchTrace joiningTrace = new SearchTrace();
+
+        StepVerifier.create(Mono.zip(
+                        searchResultCache.get(getSearchResultCacheKey(), loader).contextWrite(computingStaleness::writeTo),
+                        searchResultCache.get(getSearchResultCacheKey(), loader)
+                                .contextWrite(joiningStaleness::writeTo)
+                                .contextWrite(joiningTrace::writeTo)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(Optional.of(staleFetchedAt), computingStaleness.getOldestFetchedAt());
+        Assertions.assertEquals(Optional.of(staleFetchedAt), joiningStaleness.getOldestFetchedAt());
+        Assertions.assertEquals(1, joiningTrace.toDebugDto().getCacheHits());
+        Assertions.assertTrue(joiningTrace.toDebugDto().getTimingsMillis().containsKey(SearchMetrics.STAGE_RESULT_CACHE));
+    }
+
+    @Test
+    void get_StaleRouteCatalogReplayedToEveryConcurrentLookupAndRecomputed_Success() {
+        CaffeineSearchResultCache searchResultCache = createSearchResultCache(scheduleCache);
+        Mockito.when(scheduleCache.findFetchedAt(getScheduleCacheKey())).thenReturn(Optional.of(Instant.now()));
+        Instant routeCatalogLoadedAt = Instant.now().minusSeconds(7200);
+        AtomicInteger loads = new AtomicInteger();
+        // the route discovery of the computation records the stale catalog in the staleness of its context
+        Function<SearchResultCacheKey, Mono<SearchWindowResult>> loader = key -> Mono.deferContextual(context -> {
+            loads.incrementAndGet();
+            ScheduleStaleness.find(context).ifPresent(staleness -> staleness.recordRouteCatalog(routeCatalogLoadedAt));
+            return Mono.delay(Duration.ofMillis(50)).thenReturn(getSearchWindowResult());
+        });
+        ScheduleStaleness computingStaleness = new ScheduleStaleness();
+        ScheduleStaleness joiningStaleness = new ScheduleStaleness();
+
+        StepVerifier.create(Mono.zip(
+                        searchResultCache.get(getSearchResultCacheKey(), loader).contextWrite(computingStaleness::writeTo),
+                        searchResultCache.get(getSearchResultCacheKey(), loader).contextWrite(joiningStaleness::writeTo)))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(searchResultCache.get(getSearchResultCacheKey(), loader))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Assertions.assertEquals(Optional.of(routeCatalogLoadedAt), computingStaleness.getRouteCatalogLoadedAt());
+        Assertions.assertEquals(Optional.of(routeCatalogLoadedAt), joiningStaleness.getRouteCatalogLoadedAt());
+        Assertions.assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,78 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.context.ScheduleWarmUpTestContext;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
+import org.ryanair.flight.api.warmup.WarmUpProgress;
+import org.ryanair.flight.api.warmup.impl.CatalogScheduleWarmUp;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 8:40 PM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleWarmUp Unit Tests")
+class CatalogScheduleWarmUpTest extends ScheduleWarmUpTestContext {
+
+    @Test
+    void warmUp_PrefetchesDirectAndHubLegsForEachMonth_Success() {
+        CatalogScheduleWarmUp scheduleWarmUp = createScheduleWarmUp(List.of());
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
+        Mockito.when(backendAPIService.getSchedules(ArgumentMatchers.any(ScheduleAPIRequestModel.class)))
+                .thenReturn(Mono.just(MonthlyTimetable.of(2024, 4, List.of())));
+
+        StepVerifier.create(scheduleWarmUp.warmUp())
+                .consumeNextWith(progress -> {
+                    Assertions.assertEquals(WarmUpProgress.Status.COMPLETED, progress.status());
+                    Assertions.assertEquals(6, progress.plannedSchedules());
+                    Assertions.assertEquals(6, progress.loadedSchedules());
+                    Assertions.assertTrue(progress.isFinished());
+                })
+                .verifyComplete();
+        Mockito.verify(backendAPIService, Mockito.times(6)).getSchedules(ArgumentMatchers.any(ScheduleAPIRequestModel.class));
+    }
+
+    @Test
+    void warmUp_FailedSchedulesAreCountedAndSkipped_Success() {
+        CatalogScheduleWarmUp scheduleWarmUp = createScheduleWarmUp(List.of("BCN"));
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
+        Mockito.when(backendAPIService.getSchedules(ArgumentMatchers.any(ScheduleAPIRequestModel.class)))
+                .thenReturn(Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE)));
+
+        StepVerifier.create(scheduleWarmUp.warmUp())
+                .consumeNextWith(progress -> {
+                    Assertions.assertEquals(WarmUpProgress.Status.COMPLETED, progress.status());
+                    Assertions.assertEquals(2, progress.plannedSchedules());
+                    Assertions.assertEquals(2, progress.failedSchedules());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void warmUp_RouteCatalogUnavailable_Failed() {
+        CatalogScheduleWarmUp scheduleWarmUp = createScheduleWarmUp(List.of());
+        Mockito.when(backendAPIService.getRouteCatalog())
+                .thenReturn(Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE)));
+
+        StepVerifier.create(scheduleWarmUp.warmUp())
+                .consumeNextWith(progress -> Assertions.assertEquals(WarmUpProgress.Status.FAILED, progress.status()))
+                .verifyComplete();
+        Assertions.assertTrue(scheduleWarmUp.getProgress().isFinished());
+    }
+}
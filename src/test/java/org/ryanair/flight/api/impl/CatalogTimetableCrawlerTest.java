@@ -0,0 +1,91 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.context.TimetableCrawlerTestContext;
+import org.ryanair.flight.api.crawler.impl.CatalogTimetableCrawler;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 2:20 AM
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimetableCrawler Unit Tests")
+class CatalogTimetableCrawlerTest extends TimetableCrawlerTestContext {
+
+    @Test
+    void crawl_PopularLegsFirstAndFreshSchedulesSkipped_Success() {
+        CatalogTimetableCrawler timetableCrawler = createTimetableCrawler();
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
+        Mockito.when(scheduleCache.findPopularKeys(10)).thenReturn(List.of(getScheduleCacheKey("STN", "GRO")));
+        Mockito.when(scheduleCache.findFetchedAt(ArgumentMatchers.any())).thenReturn(Optional.empty());
+        Mockito.when(scheduleCache.findFetchedAt(getScheduleCacheKey("AAL", "STN"))).thenReturn(Optional.of(Instant.now()));
+        Mockito.when(backendAPIService.refreshSchedules(ArgumentMatchers.any(ScheduleAPIRequestModel.class)))
+                .thenReturn(Mono.just(MonthlyTimetable.of(2024, 4, List.of())));
+
+        StepVerifier.create(timetableCrawler.crawl())
+                .consumeNextWith(cycle -> {
+                    Assertions.assertEquals(5, cycle.plannedSchedules());
+                    Assertions.assertEquals(4, cycle.refreshedSchedules());
+                    Assertions.assertEquals(0, cycle.failedSchedules());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<ScheduleAPIRequestModel> scheduleRequestCaptor = ArgumentCaptor.forClass(ScheduleAPIRequestModel.class);
+        Mockito.verify(backendAPIService, Mockito.times(4)).refreshSchedules(scheduleRequestCaptor.capture());
+        Assertions.assertEquals(List.of("STN-GRO", "AAL-GRO", "AAL-ABC", "ABS-GRO"), scheduleRequestCaptor.getAllValues()
+                .stream()
+                .map(scheduleRequest -> scheduleRequest.getDeparture() + "-" + scheduleRequest.getArrival())
+                .toList());
+    }
+
+    @Test
+    void crawl_FailedSchedulesRetriedAndEmptySchedulesSkippedOnTheNextWalk_Success() {
+        CatalogTimetableCrawler timetableCrawler = createTimetableCrawler();
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
+        Mockito.when(scheduleCache.findPopularKeys(10)).thenReturn(List.of());
+        Mockito.when(scheduleCache.findFetchedAt(ArgumentMatchers.any())).thenReturn(Optional.empty());
+        Mockito.when(backendAPIService.refreshSchedules(ArgumentMatchers.any(ScheduleAPIRequestModel.class))).thenAnswer(invocation -> {
+            ScheduleAPIRequestModel scheduleRequest = invocation.getArgument(0);
+            return switch (scheduleRequest.getDeparture() + "-" + scheduleRequest.getArrival()) {
+                case "AAL-GRO" -> Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE));
+                case "ABS-GRO" -> Mono.empty();
+                default -> Mono.just(MonthlyTimetable.of(2024, 4, List.of()));
+            };
+        });
+
+        StepVerifier.create(timetableCrawler.crawl())
+                .consumeNextWith(cycle -> {
+                    Assertions.assertEquals(4, cycle.refreshedSchedules());
+                    Assertions.assertEquals(1, cycle.failedSchedules());
+                })
+                .verifyComplete();
+        StepVerifier.create(timetableCrawler.crawl())
+                .consumeNextWith(cycle -> {
+                    Assertions.assertEquals(3, cycle.refreshedSchedules());
+                    Assertions.assertEquals(1, cycle.failedSchedules());
+                })
+                .verifyComplete();
+
+        Mockito.verify(backendAPIService, Mockito.times(1)).refreshSchedules(ArgumentMatchers.argThat(scheduleRequest ->
+                "ABS".equals(scheduleRequest.getDeparture())));
+    }
+}
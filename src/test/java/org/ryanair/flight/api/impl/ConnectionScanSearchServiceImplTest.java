@@ -0,0 +1,67 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.context.ConnectionScanSearchServiceTestContext;
+import org.ryanair.flight.api.dto.DataLegs;
+import org.ryanair.flight.api.util.Constant;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.ryanair.flight.api.context.MultiStopSearchServiceTestContext.createFlight;
+import static org.ryanair.flight.api.context.MultiStopSearchServiceTestContext.isLeg;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 9:45 AM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionScanSearchService Unit Tests")
+class ConnectionScanSearchServiceImplTest extends ConnectionScanSearchServiceTestContext {
+
+    @BeforeEach
+    void setUp() {
+        // the one-stop itinerary departs earlier and arrives earlier than the direct flight, so both are Pareto optimal
+        Mockito.when(routeService.findAllPossibleRoutes("DUB", "WRO")).thenReturn(Mono.just(getPossibleRoutes()));
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("DUB", "WRO"))))
+                .thenReturn(Mono.just(List.of(createFlight("100", "2024-04-02T10:00", "2024-04-02T14:00"))));
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("DUB", "STN"))))
+                .thenReturn(Mono.just(List.of(createFlight("101", "2024-04-02T08:00", "2024-04-02T09:00"))));
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("STN", "WRO"))))
+                .thenReturn(Mono.just(List.of(createFlight("202", "2024-04-02T11:00", "2024-04-02T13:00"))));
+    }
+
+    @Test
+    void streamFlights_ProfileScan_EveryParetoOptimalItinerary() {
+        StepVerifier.create(connectionScanSearchService.streamFlights(createMockRequestDto(Constant.SCAN_PROFILE)))
+                .consumeNextWith(finalFlightResponseDto -> Assertions.assertEquals(1, finalFlightResponseDto.getStops()))
+                .consumeNextWith(finalFlightResponseDto -> Assertions.assertEquals(0, finalFlightResponseDto.getStops()))
+                .verifyComplete();
+        Mockito.verify(connectionScanEngine, Mockito.never())
+                .findEarliestArrival(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void streamFlights_EarliestArrivalScan_OnlyEarliestArrivingItinerary() {
+        StepVerifier.create(connectionScanSearchService.streamFlights(createMockRequestDto(Constant.SCAN_EARLIEST_ARRIVAL)))
+                .consumeNextWith(finalFlightResponseDto -> {
+                    Assertions.assertEquals(1, finalFlightResponseDto.getStops());
+                    Assertions.assertEquals(List.of("DUB", "STN"),
+                            finalFlightResponseDto.getLegs().stream().map(DataLegs::getDepartureAirport).toList());
+                    Assertions.assertEquals("WRO", finalFlightResponseDto.getLegs().getLast().getArrivalAirport());
+                })
+                .verifyComplete();
+        Mockito.verify(connectionScanEngine, Mockito.never())
+                .findProfile(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+    }
+}
@@ -4,17 +4,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.cache.SearchResultCacheKey;
+import org.ryanair.flight.api.cache.SearchWindowResult;
 import org.ryanair.flight.api.context.FlightSearchServiceTestContext;
 import org.ryanair.flight.api.dto.*;
-import org.ryanair.flight.api.model.Flight;
+import org.ryanair.flight.api.metrics.SearchMetrics;
+import org.ryanair.flight.api.metrics.SearchTrace;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.util.Constant;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.ryanair.flight.api.context.util.TestUtil.scheduledFlight;
 
 /**
  * Author: Gayan Sanjeewa
@@ -30,7 +42,7 @@ class FlightSearchSearchServiceImplTest extends FlightSearchServiceTestContext {
     @Test
     void findFlights_OneDirectFightOnly_Success(){
         RequestDataDto mockRequestDto = createMockRequestDto();
-        List<Flight> directFlightMockResponse = getDirectFlightMockResponse();
+        List<ScheduledFlight> directFlightMockResponse = getDirectFlightMockResponse();
 
         Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
                         .thenReturn(Mono.just(getDirectRoute()));
@@ -53,8 +65,8 @@ class FlightSearchSearchServiceImplTest extends FlightSearchServiceTestContext {
 
     @Test
     void findFlights_WithOnlyInterconnectedNoDirect_Success() {
-        List<Flight> intArrivingFlightMockResponse = getIntArrivingFlightMockResponse();
-        List<Flight> intDepartingFlightMockResponse = getIntDepartingFlightMockResponse();
+        List<ScheduledFlight> intArrivingFlightMockResponse = getIntArrivingFlightMockResponse();
+        List<ScheduledFlight> intDepartingFlightMockResponse = getIntDepartingFlightMockResponse();
         RequestDataDto mockRequestDto = createMockRequestDto();
 
         Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
@@ -79,9 +91,9 @@ class FlightSearchSearchServiceImplTest extends FlightSearchServiceTestContext {
 
     @Test
     void findFlights_WithOneDirectAndOneInterconnected_Success() {
-        List<Flight> intArrivingFlightMockResponse = getIntArrivingFlightMockResponse();
-        List<Flight> intDepartingFlightMockResponse = getIntDepartingFlightMockResponse();
-        List<Flight> directFlightMockResponse = getDirectFlightMockResponse();
+        List<ScheduledFlight> intArrivingFlightMockResponse = getIntArrivingFlightMockResponse();
+        List<ScheduledFlight> intDepartingFlightMockResponse = getIntDepartingFlightMockResponse();
+        List<ScheduledFlight> directFlightMockResponse = getDirectFlightMockResponse();
         RequestDataDto mockRequestDto = createMockRequestDto();
 
         Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
@@ -111,9 +123,9 @@ class FlightSearchSearchServiceImplTest extends FlightSearchServiceTestContext {
 
     @Test
     void findFlights_WithMultipleDirectAndMultipleInterconnected_Success() {
-        List<Flight> intArrivingFlightMockResponse = getIntArrivingFlightMockResponse();
-        List<Flight> intDepartingFlightMockResponse = getIntDepartingFlightMockResponse();
-        List<Flight> directFlightMockResponse = getDirectFlightMockResponse();
+        List<ScheduledFlight> intArrivingFlightMockResponse = getIntArrivingFlightMockResponse();
+        List<ScheduledFlight> intDepartingFlightMockResponse = getIntDepartingFlightMockResponse();
+        List<ScheduledFlight> directFlightMockResponse = getDirectFlightMockResponse();
         RequestDataDto mockRequestDto = createMockRequestDto();
 
         Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
@@ -148,4 +160,153 @@ class FlightSearchSearchServiceImplTest extends FlightSearchServiceTestContext {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void findFlights_SharedConnectingLegUsedOnce_Success() {
+        RequestDataDto mockRequestDto = createMockRequestDto();
+        List<ScheduledFlight> departingFlights = List.of(
+                scheduledFlight("FR", "3918", "2024-04-02T07:40", "2024-04-02T09:30"),
+                scheduledFlight("FR", "3920", "2024-04-02T08:00", "2024-04-02T09:45"));
+        List<ScheduledFlight> arrivingFlights = List.of(
+                scheduledFlight("FR", "9157", "2024-04-02T13:55", "2024-04-02T14:40"));
+
+        Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
+                .thenReturn(Mono.just(getInterConnectedRoute()));
+
+        Mockito.when(scheduleService.getScheduledDepartingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(departingFlights));
+
+        Mockito.when(scheduleService.getScheduledArrivingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(arrivingFlights));
+
+        StepVerifier
+                .create(flightSearchService.findFlights(mockRequestDto))
+                .consumeNextWith(finalFlightResponseDtoList -> {
+                    assertEquals(1, finalFlightResponseDtoList.size());
+                    assertEquals("2024-04-02T07:40", finalFlightResponseDtoList.getFirst().getLegs().getFirst().getDepartureDateTime());
+                    assertEquals("2024-04-02T13:55", finalFlightResponseDtoList.getFirst().getLegs().getLast().getDepartureDateTime());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamFlights_DirectFlightsEmittedFirst_Success() {
+        RequestDataDto mockRequestDto = createMockRequestDto();
+
+        Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
+                .thenReturn(Mono.just(getDirectAndInterConnectedRoutes()));
+
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList(getDirectFlightMockResponse().getFirst())).delayElement(Duration.ofMillis(100)));
+
+        Mockito.when(scheduleService.getScheduledDepartingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList(getIntDepartingFlightMockResponse().getFirst())));
+
+        Mockito.when(scheduleService.getScheduledArrivingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList(getIntArrivingFlightMockResponse().getLast())));
+
+        StepVerifier
+                .create(flightSearchService.streamFlights(mockRequestDto))
+                .assertNext(finalFlightResponseDto -> assertEquals(0, finalFlightResponseDto.getStops()))
+                .assertNext(finalFlightResponseDto -> assertEquals(1, finalFlightResponseDto.getStops()))
+                .verifyComplete();
+    }
+
+    @Test
+    void streamFlights_TracedSearchRecordsStagesIntoOwnTrace_Success() {
+        RequestDataDto mockRequestDto = createMockRequestDto();
+
+        Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture() , mockRequestDto.getArrival()))
+                .thenReturn(Mono.just(getDirectAndInterConnectedRoutes()));
+
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList(getDirectFlightMockResponse().getFirst())));
+
+        Mockito.when(scheduleService.getScheduledDepartingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList(getIntDepartingFlightMockResponse().getFirst())));
+
+        Mockito.when(scheduleService.getScheduledArrivingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(Collections.singletonList(getIntArrivingFlightMockResponse().getLast())));
+
+        SearchTrace tracedSearch = new SearchTrace();
+        SearchTrace otherSearch = new SearchTrace();
+        StepVerifier
+                .create(Flux.merge(
+                        flightSearchService.streamFlights(mockRequestDto).contextWrite(tracedSearch::writeTo),
+                        flightSearchService.streamFlights(mockRequestDto).contextWrite(otherSearch::writeTo),
+                        flightSearchService.streamFlights(mockRequestDto)))
+                .expectNextCount(6)
+                .verifyComplete();
+
+        assertEquals(Set.of(SearchMetrics.STAGE_ROUTE_DISCOVERY, SearchMetrics.STAGE_DIRECT_SCHEDULES,
+                        SearchMetrics.STAGE_JOIN, SearchMetrics.STAGE_INTERCONNECTED_SCHEDULES),
+                tracedSearch.toDebugDto().getTimingsMillis().keySet());
+        assertTrue(tracedSearch.toServerTiming().startsWith(SearchMetrics.STAGE_ROUTE_DISCOVERY + ";dur="));
+        assertEquals(tracedSearch.toDebugDto().getTimingsMillis().keySet(), otherSearch.toDebugDto().getTimingsMillis().keySet());
+    }
+
+    @Test
+    void findFlights_ResultOfTheWidenedWindowSlicedToTheRequestWindow_Success() {
+        RequestDataDto mockRequestDto = RequestDataDto.builder()
+                .departure("AAL")
+                .arrival("GRO")
+                .departureDateTime(LocalDateTime.parse("2024-04-02T07:00"))
+                .arrivalDateTime(LocalDateTime.parse("2024-04-02T16:00"))
+                .build();
+        Mockito.doReturn(true).when(propertyConfiguration).getResultCacheEnabled();
+        Mockito.when(searchResultCache.get(Mockito.any(), Mockito.any())).thenAnswer(invocation -> invocation
+                .<Function<SearchResultCacheKey, Mono<SearchWindowResult>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+
+        Mockito.when(routeService.findAllPossibleRoutes(mockRequestDto.getDeparture(), mockRequestDto.getArrival()))
+                .thenReturn(Mono.just(getDirectAndInterConnectedRoutes()));
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.any()))
+                .thenReturn(Mono.just(List.of(
+                        scheduledFlight("FR", "1", "2024-04-02T06:00", "2024-04-02T07:30"),
+                        scheduledFlight("FR", "2", "2024-04-02T08:00", "2024-04-02T09:30"),
+                        scheduledFlight("FR", "3", "2024-04-02T15:00", "2024-04-02T16:30"))));
+        Mockito.when(scheduleService.getScheduledDepartingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(List.of(
+                        scheduledFlight("FR", "4", "2024-04-02T05:00", "2024-04-02T06:30"),
+                        scheduledFlight("FR", "5", "2024-04-02T07:40", "2024-04-02T09:30"))));
+        Mockito.when(scheduleService.getScheduledArrivingFlightData(Mockito.any()))
+                .thenReturn(Mono.just(List.of(scheduledFlight("FR", "6", "2024-04-02T13:55", "2024-04-02T14:40"))));
+
+        StepVerifier
+                .create(flightSearchService.findFlights(mockRequestDto))
+                .consumeNextWith(finalFlightResponseDtoList -> {
+                    assertEquals(2, finalFlightResponseDtoList.size());
+                    assertEquals(0, finalFlightResponseDtoList.getFirst().getStops());
+                    assertEquals("2024-04-02T08:00", finalFlightResponseDtoList.getFirst().getLegs().getFirst().getDepartureDateTime());
+                    assertEquals(1, finalFlightResponseDtoList.getLast().getStops());
+                    assertEquals("2024-04-02T07:40", finalFlightResponseDtoList.getLast().getLegs().getFirst().getDepartureDateTime());
+                })
+                .verifyComplete();
+
+        // the schedules are filtered by the window widened to the whole day
+        ArgumentCaptor<ScheduledServiceDto> scheduledServiceDtoCaptor = ArgumentCaptor.forClass(ScheduledServiceDto.class);
+        Mockito.verify(scheduleService).getScheduledDirectFlightData(scheduledServiceDtoCaptor.capture());
+        assertEquals(LocalDateTime.parse("2024-04-02T00:00"), scheduledServiceDtoCaptor.getValue().getRequestData().getDepartureDateTime());
+        assertEquals(LocalDateTime.parse("2024-04-02T23:59"), scheduledServiceDtoCaptor.getValue().getRequestData().getArrivalDateTime());
+    }
+
+    @Test
+    void findFlights_ConnectionScanEngineBypassesResultCache_Success() {
+        RequestDataDto mockRequestDto = RequestDataDto.builder()
+                .departure("AAL")
+                .arrival("GRO")
+                .departureDateTime(LocalDateTime.parse("2024-04-02T07:00"))
+                .arrivalDateTime(LocalDateTime.parse("2024-04-02T16:00"))
+                .engine(Constant.ENGINE_CONNECTION_SCAN)
+                .build();
+        Mockito.doReturn(true).when(propertyConfiguration).getResultCacheEnabled();
+        FinalFlightResponseDto finalFlightResponseDto = FinalFlightResponseDto.builder().stops(0).build();
+        Mockito.when(connectionScanSearchService.streamFlights(mockRequestDto)).thenReturn(Flux.just(finalFlightResponseDto));
+
+        StepVerifier
+                .create(flightSearchService.findFlights(mockRequestDto))
+                .expectNext(List.of(finalFlightResponseDto))
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(searchResultCache, routeService, scheduleService);
+    }
+}
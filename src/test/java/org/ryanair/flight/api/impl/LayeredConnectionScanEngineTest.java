@@ -0,0 +1,75 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ryanair.flight.api.engine.ConnectionTimetable;
+import org.ryanair.flight.api.engine.FlightConnection;
+import org.ryanair.flight.api.engine.impl.LayeredConnectionScanEngine;
+import org.ryanair.flight.api.util.EpochMinutes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.ryanair.flight.api.context.util.TestUtil.scheduledFlight;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 3:40 AM
+ */
+
+@DisplayName("ConnectionScanEngine Unit Tests")
+class LayeredConnectionScanEngineTest {
+
+    private static final int MIN_CONNECTION_MINUTES = 120;
+
+    private final LayeredConnectionScanEngine connectionScanEngine = new LayeredConnectionScanEngine();
+
+    private final FlightConnection earlyFirstLeg = connection("DUB", "STN", "1", "2024-04-02T06:00", "2024-04-02T08:00");
+    private final FlightConnection firstLeg = connection("DUB", "STN", "2", "2024-04-02T07:00", "2024-04-02T09:00");
+    private final FlightConnection tooEarlySecondLeg = connection("STN", "WRO", "3", "2024-04-02T10:59", "2024-04-02T12:00");
+    private final FlightConnection secondLeg = connection("STN", "WRO", "4", "2024-04-02T11:00", "2024-04-02T13:00");
+    private final FlightConnection direct = connection("DUB", "WRO", "5", "2024-04-02T08:00", "2024-04-02T14:00");
+
+    @Test
+    void findEarliestArrival_RespectsMinimumConnectionTimeAndMaxLegs_Success() {
+        ConnectionTimetable timetable = ConnectionTimetable.of(List.of(direct, secondLeg, tooEarlySecondLeg, firstLeg));
+        int departAfter = EpochMinutes.of(LocalDateTime.parse("2024-04-02T06:30"));
+
+        Assertions.assertEquals(List.of(firstLeg, secondLeg), connectionScanEngine.findEarliestArrival(
+                timetable, "DUB", "WRO", departAfter, MIN_CONNECTION_MINUTES, 2).orElseThrow());
+        Assertions.assertEquals(List.of(direct), connectionScanEngine.findEarliestArrival(
+                timetable, "DUB", "WRO", departAfter, MIN_CONNECTION_MINUTES, 1).orElseThrow());
+        Assertions.assertTrue(connectionScanEngine.findEarliestArrival(
+                timetable, "WRO", "DUB", departAfter, MIN_CONNECTION_MINUTES, 2).isEmpty());
+    }
+
+    @Test
+    void findProfile_KeepsParetoItinerariesInDepartureOrder_Success() {
+        ConnectionTimetable timetable = ConnectionTimetable.of(List.of(direct, secondLeg, tooEarlySecondLeg, firstLeg, earlyFirstLeg));
+
+        List<List<FlightConnection>> profile = connectionScanEngine.findProfile(timetable, "DUB", "WRO", MIN_CONNECTION_MINUTES, 2);
+
+        // leaving at 06:00 and connecting to the 11:00 flight is dominated by leaving at 07:00
+        Assertions.assertEquals(List.of(
+                List.of(earlyFirstLeg, tooEarlySecondLeg),
+                List.of(firstLeg, secondLeg),
+                List.of(direct)), profile);
+    }
+
+    @Test
+    void findProfile_DropsItineraryDominatedByFewerFlights_Success() {
+        FlightConnection fasterDirect = connection("DUB", "WRO", "6", "2024-04-02T07:00", "2024-04-02T12:30");
+        ConnectionTimetable timetable = ConnectionTimetable.of(List.of(fasterDirect, secondLeg, firstLeg));
+
+        Assertions.assertEquals(List.of(List.of(fasterDirect)),
+                connectionScanEngine.findProfile(timetable, "DUB", "WRO", MIN_CONNECTION_MINUTES, 2));
+        Assertions.assertTrue(connectionScanEngine.findProfile(timetable, "DUB", "BCN", MIN_CONNECTION_MINUTES, 2).isEmpty());
+    }
+
+    private static FlightConnection connection(String departure, String arrival, String number, String departureTime, String arrivalTime) {
+        return new FlightConnection(departure, arrival, scheduledFlight("FR", number, departureTime, arrivalTime));
+    }
+}
@@ -0,0 +1,103 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ryanair.flight.api.client.decoder.MonthlyTimetableDecoder;
+import org.ryanair.flight.api.context.util.TestUtil;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.ResourceUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.ryanair.flight.api.context.util.TestUtil.scheduledFlight;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 5:50 PM
+ */
+
+@DisplayName("MonthlyTimetableDecoder Unit Tests")
+class MonthlyTimetableDecoderTest {
+
+    private static final String SCHEDULE_RESPONSE_PATH = "src/test/java/org/ryanair/flight/api/context/util/json/schedule_response.json";
+
+    @Test
+    void decode_PayloadSplitIntoSmallBuffers_Success() throws Exception {
+        byte[] payload = Files.readAllBytes(ResourceUtils.getFile(SCHEDULE_RESPONSE_PATH).toPath());
+        MonthlyTimetable expected = MonthlyTimetable.from(TestUtil.getScheduledAPIMockResponse(), 2024);
+
+        StepVerifier.create(MonthlyTimetableDecoder.decode(split(payload, 7), 2024, 4))
+                .consumeNextWith(monthlyTimetable -> {
+                    Assertions.assertEquals(expected.size(), monthlyTimetable.size());
+                    for (int i = 0; i < expected.size(); i++) {
+                        ScheduledFlight expectedFlight = expected.getFlights().get(i);
+                        ScheduledFlight flight = monthlyTimetable.getFlights().get(i);
+                        Assertions.assertEquals(expectedFlight.getNumber(), flight.getNumber());
+                        Assertions.assertEquals(expectedFlight.getDepartureEpochMinute(), flight.getDepartureEpochMinute());
+                        Assertions.assertEquals(expectedFlight.getArrivalEpochMinute(), flight.getArrivalEpochMinute());
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_UnknownFieldsAndDayAfterFlights_Success() {
+        String payload = """
+                {"month":4,"meta":{"source":["a",{"b":1}]},"days":[
+                  {"flights":[{"carrierCode":"FR","number":"2","departureTime":"18:00","arrivalTime":"20:00","extra":[1,2]}],"day":3},
+                  {"day":1,"holiday":null,"flights":[{"carrierCode":"FR","number":"1","departureTime":"07:40","arrivalTime":"09:30"}]}
+                ]}""";
+
+        StepVerifier.create(MonthlyTimetableDecoder.decode(split(payload.getBytes(StandardCharsets.UTF_8), 5), 2024, 4))
+                .consumeNextWith(monthlyTimetable -> {
+                    Assertions.assertEquals(2, monthlyTimetable.size());
+                    Assertions.assertEquals("2024-04-01T07:40", monthlyTimetable.getFlights().getFirst().getDepartureTime());
+                    Assertions.assertEquals("2024-04-03T20:00", monthlyTimetable.getFlights().getLast().getArrivalTime());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_TruncatedPayload_Error() {
+        byte[] payload = "{\"month\":4,\"days\":[{\"day\":1,".getBytes(StandardCharsets.UTF_8);
+
+        StepVerifier.create(MonthlyTimetableDecoder.decode(split(payload, 8), 2024, 4))
+                .expectError(BackendInvocationException.class)
+                .verify();
+    }
+
+    @Test
+    void findFlightsWithin_ExclusiveWindowBounds_Success() {
+        ScheduledFlight onWindowStart = scheduledFlight("FR", "1", "2024-04-02T07:00", "2024-04-02T09:00");
+        ScheduledFlight inside = scheduledFlight("FR", "2", "2024-04-02T08:00", "2024-04-02T10:00");
+        ScheduledFlight arrivesAfterWindow = scheduledFlight("FR", "3", "2024-04-02T11:00", "2024-04-02T13:00");
+        MonthlyTimetable monthlyTimetable = MonthlyTimetable.of(2024, 4, List.of(arrivesAfterWindow, inside, onWindowStart));
+
+        List<ScheduledFlight> flights = monthlyTimetable.findFlightsWithin(
+                inside.getDepartureEpochMinute() - 60, inside.getArrivalEpochMinute() + 60);
+
+        Assertions.assertEquals(List.of(inside), flights);
+    }
+
+    private static Flux<DataBuffer> split(byte[] payload, int chunkSize) {
+        List<DataBuffer> dataBuffers = new ArrayList<>();
+        for (int offset = 0; offset < payload.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, payload.length - offset);
+            dataBuffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(payload, offset, offset + length)));
+        }
+        return Flux.fromIterable(dataBuffers);
+    }
+}
@@ -0,0 +1,67 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.context.MultiStopSearchServiceTestContext;
+import org.ryanair.flight.api.dto.DataLegs;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:00 PM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultiStopSearchService Unit Tests")
+class MultiStopSearchServiceImplTest extends MultiStopSearchServiceTestContext {
+
+    @Test
+    void streamMultiStopFlights_TwoStopItinerary_Success() {
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("DUB", "STN"))))
+                .thenReturn(Mono.just(List.of(createFlight("101", "2024-04-02T06:00", "2024-04-02T07:00"))));
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("STN", "BGY"))))
+                .thenReturn(Mono.just(List.of(createFlight("202", "2024-04-02T09:30", "2024-04-02T10:30"))));
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("BGY", "WRO"))))
+                .thenReturn(Mono.just(List.of(createFlight("303", "2024-04-02T13:00", "2024-04-02T14:00"))));
+
+        StepVerifier.create(multiStopSearchService.streamMultiStopFlights(createMockRequestDto(), getMultiStopRoutes(), getYearMonthData()))
+                .consumeNextWith(finalFlightResponseDto -> {
+                    Assertions.assertEquals(2, finalFlightResponseDto.getStops());
+                    Assertions.assertEquals(List.of("DUB", "STN", "BGY"),
+                            finalFlightResponseDto.getLegs().stream().map(DataLegs::getDepartureAirport).toList());
+                    Assertions.assertEquals("WRO", finalFlightResponseDto.getLegs().getLast().getArrivalAirport());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamMultiStopFlights_FirstLegWithoutFlights_LaterLegsNotFetched() {
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("DUB", "STN"))))
+                .thenReturn(Mono.just(Collections.emptyList()));
+
+        StepVerifier.create(multiStopSearchService.streamMultiStopFlights(createMockRequestDto(), getMultiStopRoutes(), getYearMonthData()))
+                .verifyComplete();
+        Mockito.verify(scheduleService, Mockito.times(1)).getScheduledDirectFlightData(Mockito.any());
+    }
+
+    @Test
+    void streamMultiStopFlights_FirstLegArrivesTooLateForRemainingLegs_LaterLegsNotFetched() {
+        // two more legs need at least two connections and two block times, which do not fit before the window ends
+        Mockito.when(scheduleService.getScheduledDirectFlightData(Mockito.argThat(isLeg("DUB", "STN"))))
+                .thenReturn(Mono.just(List.of(createFlight("101", "2024-04-02T20:00", "2024-04-02T21:00"))));
+
+        StepVerifier.create(multiStopSearchService.streamMultiStopFlights(createMockRequestDto(), getMultiStopRoutes(), getYearMonthData()))
+                .verifyComplete();
+        Mockito.verify(scheduleService, Mockito.times(1)).getScheduledDirectFlightData(Mockito.any());
+    }
+}
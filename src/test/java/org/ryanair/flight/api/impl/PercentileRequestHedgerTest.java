@@ -0,0 +1,67 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.client.impl.PercentileRequestHedger;
+import org.ryanair.flight.api.context.RequestHedgerTestContext;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/18/26
+ * Time: 12:15 AM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PercentileRequestHedger Unit Tests")
+class PercentileRequestHedgerTest extends RequestHedgerTestContext {
+
+    @Test
+    void execute_SlowCallHedgedAndDuplicateWins_Success() {
+        PercentileRequestHedger requestHedger = createRequestHedger(0.1);
+        warmUp(requestHedger);
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(20), requestHedger.getThresholdNanos());
+
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean slowCallCancelled = new AtomicBoolean();
+        StepVerifier.create(requestHedger.execute(() -> attempts.incrementAndGet() == 1
+                        ? Mono.<String>never().doOnCancel(() -> slowCallCancelled.set(true))
+                        : Mono.just("hedge")))
+                .expectNext("hedge")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertTrue(slowCallCancelled.get());
+        Assertions.assertEquals(1.0, meterRegistry.get("backend.hedge.hedged").counter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("backend.hedge.wins").counter().count());
+        Assertions.assertEquals(21.0, meterRegistry.get("backend.hedge.calls").counter().count());
+    }
+
+    @Test
+    void execute_BudgetExhausted_SlowCallNotHedged() {
+        PercentileRequestHedger requestHedger = createRequestHedger(0.0);
+        warmUp(requestHedger);
+
+        AtomicInteger attempts = new AtomicInteger();
+        StepVerifier.create(requestHedger.execute(() -> attempts.incrementAndGet() == 1
+                        ? Mono.just("slow").delayElement(Duration.ofMillis(100))
+                        : Mono.just("hedge")))
+                .expectNext("slow")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertEquals(0.0, meterRegistry.get("backend.hedge.hedged").counter().count());
+    }
+}
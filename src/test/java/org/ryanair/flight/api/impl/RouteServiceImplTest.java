@@ -13,6 +13,8 @@ import reactor.test.StepVerifier;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Author: Gayan Sanjeewa
@@ -26,7 +28,7 @@ import java.util.Optional;
 class RouteServiceImplTest extends RouteServiceTestContext {
     @Test
     void findPossibleRoutes_OperatorRyanairAndConnectingAirportNullOnly_Success() {
-        Mockito.when(backendAPIService.getRoutes(Mockito.any(), Mockito.any())).thenReturn(Mono.just(getRouteResponse()));
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
 
         StepVerifier.create(routeService.findAllPossibleRoutes("AAL", "GRO"))
                 .consumeNextWith(finalFlightResponseDtoList -> {
@@ -46,4 +48,63 @@ class RouteServiceImplTest extends RouteServiceTestContext {
 
         }).verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPossibleRoutes_DirectAndOneStopFromIndex_Success() {
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
+
+        StepVerifier.create(routeService.findAllPossibleRoutes("AAL", "GRO"))
+                .consumeNextWith(possibleRoutesDtoList -> {
+                    Optional<PossibleRoutesDto> directRoute = filterDirectRouteFromResponse(possibleRoutesDtoList);
+                    Assertions.assertTrue(directRoute.isPresent());
+                    Assertions.assertEquals("GRO", directRoute.get().getDirectRoute().getAirportTo());
+
+                    List<PossibleRoutesDto> oneStopRoutes = filterInterConRouteFromResponse(possibleRoutesDtoList);
+                    Assertions.assertEquals(1, oneStopRoutes.size());
+                    Assertions.assertEquals("STN", oneStopRoutes.getFirst().getInterConnectedRoute().getFirst().getAirportTo());
+                    Assertions.assertEquals("STN", oneStopRoutes.getFirst().getInterConnectedRoute().getLast().getAirportFrom());
+                }).verifyComplete();
+    }
+
+    @Test
+    void findMultiStopRoutes_FewerStopsFirstWithoutOneStopRoutes_Success() {
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getMultiStopRouteCatalogSnapshot()));
+
+        StepVerifier.create(routeService.findMultiStopRoutes("DUB", "WRO", 3))
+                .consumeNextWith(possibleRoutesDtoList -> {
+                    List<String> routes = possibleRoutesDtoList.stream().map(this::describeRoute).toList();
+                    Assertions.assertEquals(Set.of("DUB-STN-BGY-WRO", "DUB-BGY-PMO-WRO"), Set.copyOf(routes.subList(0, 2)));
+                    Assertions.assertEquals("DUB-STN-BGY-PMO-WRO", routes.getLast());
+                    Assertions.assertTrue(possibleRoutesDtoList.stream()
+                            .allMatch(possibleRoutesDto -> possibleRoutesDto.getType().equals("MULTI_STOP")));
+                }).verifyComplete();
+    }
+
+    @Test
+    void findMultiStopRoutes_RoutesCappedPerQuery_Success() {
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getMultiStopRouteCatalogSnapshot()));
+        propertyConfiguration.setMultiStopMaxRoutes(1);
+
+        StepVerifier.create(routeService.findMultiStopRoutes("DUB", "WRO", 3))
+                .consumeNextWith(possibleRoutesDtoList -> {
+                    Assertions.assertEquals(1, possibleRoutesDtoList.size());
+                    Assertions.assertEquals(3, possibleRoutesDtoList.getFirst().getInterConnectedRoute().size());
+                })
+                .verifyComplete();
+    }
+
+    private String describeRoute(PossibleRoutesDto possibleRoutesDto) {
+        return possibleRoutesDto.getInterConnectedRoute().getFirst().getAirportFrom() + possibleRoutesDto.getInterConnectedRoute().stream()
+                .map(route -> "-" + route.getAirportTo())
+                .collect(Collectors.joining());
+    }
+
+    @Test
+    void findPossibleRoutes_UnknownAirport_Empty() {
+        Mockito.when(backendAPIService.getRouteCatalog()).thenReturn(Mono.just(getRouteCatalogSnapshot()));
+
+        StepVerifier.create(routeService.findAllPossibleRoutes("XXX", "GRO"))
+                .consumeNextWith(possibleRoutesDtoList -> Assertions.assertTrue(possibleRoutesDtoList.isEmpty()))
+                .verifyComplete();
+    }
+}
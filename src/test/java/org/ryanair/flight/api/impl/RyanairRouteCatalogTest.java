@@ -0,0 +1,94 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ryanair.flight.api.cache.ScheduleStaleness;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.context.RouteCatalogTestContext;
+import org.ryanair.flight.api.exception.BackendInvocationException;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:07 AM
+ */
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteCatalog Unit Tests")
+class RyanairRouteCatalogTest extends RouteCatalogTestContext {
+
+    @Test
+    void getSnapshot_LoadsOnceAndServesFromMemory_Success() {
+        Mockito.when(apiClient.getRoutes()).thenReturn(Mono.just(getRouteResponse()));
+
+        StepVerifier.create(routeCatalog.getSnapshot())
+                .consumeNextWith(snapshot -> Assertions.assertFalse(snapshot.getRoutes().isEmpty()))
+                .verifyComplete();
+        StepVerifier.create(routeCatalog.getSnapshot())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(apiClient, Mockito.times(1)).getRoutes();
+    }
+
+    @Test
+    void refresh_BackendFailure_KeepsLastGoodSnapshot() {
+        Mockito.when(apiClient.getRoutes())
+                .thenReturn(Mono.just(getRouteResponse()))
+                .thenReturn(Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE)));
+
+        RouteCatalogSnapshot loaded = routeCatalog.refresh().block();
+
+        StepVerifier.create(routeCatalog.refresh())
+                .consumeNextWith(snapshot -> Assertions.assertSame(loaded, snapshot))
+                .verifyComplete();
+    }
+
+    @Test
+    void getSnapshot_SnapshotOlderThanRefreshInterval_RecordedAsStale() {
+        Instant loadedAt = Instant.now().minus(Duration.ofHours(2));
+        routeCatalog.restore(new RouteCatalogSnapshot(getRouteResponse(), loadedAt));
+        ScheduleStaleness scheduleStaleness = new ScheduleStaleness();
+
+        StepVerifier.create(routeCatalog.getSnapshot().contextWrite(scheduleStaleness::writeTo))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Assertions.assertEquals(Optional.of(loadedAt), scheduleStaleness.getRouteCatalogLoadedAt());
+        Mockito.verifyNoInteractions(apiClient);
+    }
+
+    @Test
+    void getSnapshot_SnapshotWithinRefreshInterval_NotRecordedAsStale() {
+        Mockito.when(apiClient.getRoutes()).thenReturn(Mono.just(getRouteResponse()));
+        ScheduleStaleness scheduleStaleness = new ScheduleStaleness();
+
+        StepVerifier.create(routeCatalog.getSnapshot().contextWrite(scheduleStaleness::writeTo))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Assertions.assertTrue(scheduleStaleness.getRouteCatalogLoadedAt().isEmpty());
+    }
+
+    @Test
+    void getSnapshot_NeverLoadedAndBackendFailure_Error() {
+        Mockito.when(apiClient.getRoutes())
+                .thenReturn(Mono.error(new BackendInvocationException("Service Unavailable", "down", HttpStatus.SERVICE_UNAVAILABLE)));
+
+        StepVerifier.create(routeCatalog.getSnapshot())
+                .expectError(BackendInvocationException.class)
+                .verify();
+    }
+}
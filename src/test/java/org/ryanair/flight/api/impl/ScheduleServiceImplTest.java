@@ -3,6 +3,7 @@ package org.ryanair.flight.api.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,12 +17,13 @@ import org.ryanair.flight.api.dto.PossibleRoutesDto;
 import org.ryanair.flight.api.dto.RequestDataDto;
 import org.ryanair.flight.api.dto.ScheduledServiceDto;
 import org.ryanair.flight.api.dto.YearMonthDataDto;
-import org.ryanair.flight.api.model.Flight;
+import org.ryanair.flight.api.model.ScheduledFlight;
 import org.ryanair.flight.api.model.RouteAPIResponseModel;
 import org.ryanair.flight.api.model.ScheduleAPIRequestModel;
-import org.ryanair.flight.api.model.ScheduleAPIResponseModel;
+import org.ryanair.flight.api.model.MonthlyTimetable;
 import org.ryanair.flight.api.service.backend.impl.RyanairBackendAPIServiceImpl;
 import org.ryanair.flight.api.service.frontend.impl.ScheduleServiceImpl;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -30,6 +32,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
+import static org.ryanair.flight.api.context.util.TestUtil.scheduledFlight;
 import static org.ryanair.flight.api.util.Constant.DATE_FORMAT_ISO;
 
 /**
@@ -46,9 +49,9 @@ class ScheduleServiceImplTest extends ScheduleServiceTestContext {
     @Test
     void getScheduledDepartingFlights_Success() {
         Mockito.when(backendAPIService.getSchedules(Mockito.any()))
-                .thenReturn(Mono.just(getMockScheduleAPIResponseModel()));
+                .thenReturn(Mono.just(getMockMonthlyTimetable()));
 
-        Mono<List<Flight>> scheduledDepartingFlightData = scheduleService
+        Mono<List<ScheduledFlight>> scheduledDepartingFlightData = scheduleService
                 .getScheduledDepartingFlightData(createMockScheduledServiceDto());
         StepVerifier
                 .create(scheduledDepartingFlightData)
@@ -58,9 +61,9 @@ class ScheduleServiceImplTest extends ScheduleServiceTestContext {
     @Test
     void getScheduledArrivingFlights_Success() {
         Mockito.when(backendAPIService.getSchedules(Mockito.any()))
-                .thenReturn(Mono.just(getMockScheduleAPIResponseModel()));
+                .thenReturn(Mono.just(getMockMonthlyTimetable()));
 
-        Mono<List<Flight>> scheduledDepartingFlightData = scheduleService
+        Mono<List<ScheduledFlight>> scheduledDepartingFlightData = scheduleService
                 .getScheduledArrivingFlightData(createMockScheduledServiceDto());
         StepVerifier
                 .create(scheduledDepartingFlightData)
@@ -70,12 +73,57 @@ class ScheduleServiceImplTest extends ScheduleServiceTestContext {
     @Test
     void getScheduledDirectFlight_Success()  {
         Mockito.when(backendAPIService.getSchedules(Mockito.any()))
-                .thenReturn(Mono.just(getMockScheduleAPIResponseModel()));
+                .thenReturn(Mono.just(getMockMonthlyTimetable()));
 
-        Mono<List<Flight>> scheduledDirectFlightData = scheduleService
+        Mono<List<ScheduledFlight>> scheduledDirectFlightData = scheduleService
                 .getScheduledDirectFlightData(createMockScheduledServiceDto());
         StepVerifier
                 .create(scheduledDirectFlightData)
                 .consumeNextWith(flights -> Assertions.assertFalse(flights.isEmpty())).verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getScheduledFlights_LookupsCountedAsSearchFanOut_Success() {
+        Mockito.when(backendAPIService.getSchedules(Mockito.any()))
+                .thenReturn(Mono.just(getMockMonthlyTimetable()));
+
+        ScheduledServiceDto scheduledServiceDto = createMockScheduledServiceDto();
+        StepVerifier
+                .create(searchMetrics.recordSearch(Flux.merge(
+                        scheduleService.getScheduledDepartingFlightData(scheduledServiceDto),
+                        scheduleService.getScheduledArrivingFlightData(scheduledServiceDto))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        DistributionSummary fanOut = meterRegistry.get("flight.search.fanout").summary();
+        Assertions.assertEquals(1, fanOut.count());
+        Assertions.assertEquals(2, fanOut.totalAmount());
+        Assertions.assertEquals(2, meterRegistry.get("flight.search.stage").tag("stage", "filter").timer().count());
+    }
+
+    @Test
+    void getScheduledDirectFlight_WindowBoundsWithSecondsComparedExactly_Success() {
+        ScheduledFlight departingAtWindowStartMinute = scheduledFlight("FR", "1", "2024-04-02T07:00", "2024-04-02T08:00");
+        ScheduledFlight departingAfterWindowStart = scheduledFlight("FR", "2", "2024-04-02T07:01", "2024-04-02T09:00");
+        ScheduledFlight arrivingAtWindowEndMinute = scheduledFlight("FR", "3", "2024-04-02T15:00", "2024-04-02T16:00");
+        ScheduledFlight arrivingAfterWindowEnd = scheduledFlight("FR", "4", "2024-04-02T15:00", "2024-04-02T16:01");
+        Mockito.when(backendAPIService.getSchedules(Mockito.any()))
+                .thenReturn(Mono.just(MonthlyTimetable.of(2024, 4, List.of(departingAtWindowStartMinute,
+                        departingAfterWindowStart, arrivingAtWindowEndMinute, arrivingAfterWindowEnd))));
+        RequestDataDto requestDataDto = RequestDataDto.builder()
+                .departure("STN")
+                .arrival("PMO")
+                .departureDateTime(LocalDateTime.parse("2024-04-02T07:00:30"))
+                .arrivalDateTime(LocalDateTime.parse("2024-04-02T16:00:30"))
+                .build();
+
+        StepVerifier
+                .create(scheduleService.getScheduledDirectFlightData(ScheduledServiceDto.builder()
+                        .directRouteData(getDirectRouteData())
+                        .requestData(requestDataDto)
+                        .yearMonthData(getYearMonthData())
+                        .build()))
+                .expectNext(List.of(departingAfterWindowStart, arrivingAtWindowEndMinute))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,84 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ryanair.flight.api.util.SingleFlight;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 2:50 PM
+ */
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    @Test
+    void execute_ConcurrentSubscribersShareOneCall_Success() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        Sinks.One<String> backend = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        Mono<String> first = singleFlight.execute("STN-BGY", () -> backend.asMono().doOnSubscribe(subscription -> calls.incrementAndGet()));
+        Mono<String> second = singleFlight.execute("STN-BGY", () -> backend.asMono().doOnSubscribe(subscription -> calls.incrementAndGet()));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> backend.tryEmitValue("schedule"))
+                .consumeNextWith(tuple -> {
+                    Assertions.assertEquals("schedule", tuple.getT1());
+                    Assertions.assertEquals("schedule", tuple.getT2());
+                })
+                .verifyComplete();
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void execute_ErrorIsSharedAndKeyReleased_Success() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(singleFlight.execute("STN-BGY", () -> Mono.fromCallable(() -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("backend down");
+                })))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(singleFlight.execute("STN-BGY", () -> Mono.fromCallable(() -> {
+                    calls.incrementAndGet();
+                    return "schedule";
+                })))
+                .expectNext("schedule")
+                .verifyComplete();
+
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_AllSubscribersCancel_CallCancelledAndKeyReleased() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger cancellations = new AtomicInteger();
+
+        Disposable first = singleFlight.execute("STN-BGY", () -> Mono.<String>never().doOnCancel(cancellations::incrementAndGet)).subscribe();
+        Disposable second = singleFlight.execute("STN-BGY", () -> Mono.<String>never().doOnCancel(cancellations::incrementAndGet)).subscribe();
+
+        first.dispose();
+        Assertions.assertEquals(0, cancellations.get());
+        Assertions.assertEquals(1, singleFlight.inFlightCount());
+
+        second.dispose();
+
+        Assertions.assertEquals(1, cancellations.get());
+        Assertions.assertEquals(0, singleFlight.inFlightCount());
+    }
+}
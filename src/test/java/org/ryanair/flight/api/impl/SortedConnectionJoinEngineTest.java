@@ -0,0 +1,62 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ryanair.flight.api.context.FlightSearchServiceTestContext;
+import org.ryanair.flight.api.engine.ConnectionCandidate;
+import org.ryanair.flight.api.engine.impl.SortedConnectionJoinEngine;
+import org.ryanair.flight.api.model.ScheduledFlight;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.ryanair.flight.api.context.util.TestUtil.scheduledFlight;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 3:55 PM
+ */
+
+@DisplayName("ConnectionJoinEngine Unit Tests")
+class SortedConnectionJoinEngineTest {
+
+    private final SortedConnectionJoinEngine connectionJoinEngine =
+            new SortedConnectionJoinEngine(FlightSearchServiceTestContext.createFlightSearchPropertyConfiguration());
+
+    @Test
+    void join_PicksEarliestConnectionAfterMinimumConnectionTime_Success() {
+        ScheduledFlight departing = scheduledFlight("FR", "1", "2024-04-02T07:00", "2024-04-02T09:00");
+        ScheduledFlight tooEarly = scheduledFlight("FR", "2", "2024-04-02T10:59", "2024-04-02T12:00");
+        ScheduledFlight exactlyOnTime = scheduledFlight("FR", "3", "2024-04-02T11:00", "2024-04-02T13:00");
+        ScheduledFlight later = scheduledFlight("FR", "4", "2024-04-02T15:00", "2024-04-02T17:00");
+
+        List<ConnectionCandidate> candidates = connectionJoinEngine.join(List.of(departing), List.of(later, tooEarly, exactlyOnTime));
+
+        Assertions.assertEquals(1, candidates.size());
+        Assertions.assertSame(departing, candidates.getFirst().departingFlight());
+        Assertions.assertSame(exactlyOnTime, candidates.getFirst().connectingFlight());
+    }
+
+    @Test
+    void join_SameDepartureMinuteKeepsListOrder_Success() {
+        ScheduledFlight departing = scheduledFlight("FR", "1", "2024-04-02T07:00", "2024-04-02T09:00");
+        ScheduledFlight first = scheduledFlight("FR", "2", "2024-04-02T12:00", "2024-04-02T13:00");
+        ScheduledFlight second = scheduledFlight("FR", "3", "2024-04-02T12:00", "2024-04-02T14:00");
+
+        List<ConnectionCandidate> candidates = connectionJoinEngine.join(List.of(departing), List.of(first, second));
+
+        Assertions.assertSame(first, candidates.getFirst().connectingFlight());
+    }
+
+    @Test
+    void join_NoConnectionInWindow_Empty() {
+        ScheduledFlight departing = scheduledFlight("FR", "1", "2024-04-02T17:00", "2024-04-02T19:00");
+        ScheduledFlight beforeArrival = scheduledFlight("FR", "2", "2024-04-02T12:00", "2024-04-02T13:00");
+
+        Assertions.assertTrue(connectionJoinEngine.join(List.of(departing), List.of(beforeArrival)).isEmpty());
+        Assertions.assertTrue(connectionJoinEngine.join(List.of(departing), Collections.emptyList()).isEmpty());
+    }
+}
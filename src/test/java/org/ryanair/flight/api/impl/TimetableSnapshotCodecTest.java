@@ -0,0 +1,92 @@
+package org.ryanair.flight.api.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ryanair.flight.api.cache.ScheduleCacheEntry;
+import org.ryanair.flight.api.cache.ScheduleCacheKey;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.context.util.TestUtil;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.snapshot.TimetableSnapshot;
+import org.ryanair.flight.api.snapshot.TimetableSnapshotCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 7:40 PM
+ */
+
+@DisplayName("TimetableSnapshotCodec Unit Tests")
+class TimetableSnapshotCodecTest {
+
+    @Test
+    void write_ReadBackSameSnapshot_Success() throws Exception {
+        Instant createdAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        RouteCatalogSnapshot routeCatalog = new RouteCatalogSnapshot(TestUtil.getRouteMockData(), createdAt.minusSeconds(60));
+        MonthlyTimetable timetable = MonthlyTimetable.from(TestUtil.getScheduledAPIMockResponse(), 2024);
+        ScheduleCacheEntry entry = new ScheduleCacheEntry(new ScheduleCacheKey("STN", "PMO", 2024, 4), timetable, createdAt.minusSeconds(30));
+
+        TimetableSnapshot restored = roundTrip(new TimetableSnapshot(createdAt, routeCatalog, List.of(entry)));
+
+        Assertions.assertEquals(createdAt, restored.createdAt());
+        Assertions.assertEquals(routeCatalog.getLoadedAt(), restored.routeCatalog().getLoadedAt());
+        Assertions.assertEquals(routeCatalog.getRoutes().size(), restored.routeCatalog().getRoutes().size());
+        for (int i = 0; i < routeCatalog.getRoutes().size(); i++) {
+            RouteAPIResponseModel expectedRoute = routeCatalog.getRoutes().get(i);
+            RouteAPIResponseModel route = restored.routeCatalog().getRoutes().get(i);
+            Assertions.assertEquals(expectedRoute.getAirportFrom(), route.getAirportFrom());
+            Assertions.assertEquals(expectedRoute.getAirportTo(), route.getAirportTo());
+            Assertions.assertEquals(expectedRoute.getOperator(), route.getOperator());
+            Assertions.assertArrayEquals(expectedRoute.getTags(), route.getTags());
+        }
+
+        ScheduleCacheEntry restoredEntry = restored.scheduleEntries().get(0);
+        Assertions.assertEquals(entry.key(), restoredEntry.key());
+        Assertions.assertEquals(entry.fetchedAt(), restoredEntry.fetchedAt());
+        Assertions.assertEquals(timetable.size(), restoredEntry.timetable().size());
+        for (int i = 0; i < timetable.size(); i++) {
+            ScheduledFlight expectedFlight = timetable.getFlights().get(i);
+            ScheduledFlight flight = restoredEntry.timetable().getFlights().get(i);
+            Assertions.assertEquals(expectedFlight.getCarrierCode(), flight.getCarrierCode());
+            Assertions.assertEquals(expectedFlight.getNumber(), flight.getNumber());
+            Assertions.assertEquals(expectedFlight.getDepartureEpochMinute(), flight.getDepartureEpochMinute());
+            Assertions.assertEquals(expectedFlight.getArrivalEpochMinute(), flight.getArrivalEpochMinute());
+        }
+    }
+
+    @Test
+    void write_WithoutRouteCatalog_Success() throws Exception {
+        TimetableSnapshot restored = roundTrip(new TimetableSnapshot(Instant.ofEpochMilli(0), null, List.of()));
+
+        Assertions.assertTrue(restored.findRouteCatalog().isEmpty());
+        Assertions.assertTrue(restored.scheduleEntries().isEmpty());
+    }
+
+    @Test
+    void read_NotASnapshot_Failure() {
+        byte[] content = new byte[]{'{', '"', 'a', '"', ':', '1', '}', ' '};
+
+        Assertions.assertThrows(IOException.class,
+                () -> TimetableSnapshotCodec.read(new DataInputStream(new ByteArrayInputStream(content))));
+    }
+
+    private static TimetableSnapshot roundTrip(TimetableSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            TimetableSnapshotCodec.write(snapshot, output);
+        }
+        return TimetableSnapshotCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
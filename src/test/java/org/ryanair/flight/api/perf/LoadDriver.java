@@ -0,0 +1,90 @@
+package org.ryanair.flight.api.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:10 PM
+ */
+
+/**
+ * Closed loop load driver keeping a fixed number of interconnection queries in flight for the given duration.
+ * Latency is measured from sending the request until the whole response body was received.
+ */
+public final class LoadDriver implements AutoCloseable {
+
+    private static final long MAX_TRACKED_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final QueryMix queryMix;
+    private final int concurrency;
+
+    public LoadDriver(String baseUrl, QueryMix queryMix, int concurrency) {
+        this.queryMix = queryMix;
+        this.concurrency = concurrency;
+        this.connectionProvider = ConnectionProvider.builder("load-driver").maxConnections(concurrency).build();
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+    }
+
+    /**
+     * Runs the query mix for the given duration, queries in flight when the duration ends are awaited.
+     *
+     * @param duration The time to keep sending queries.
+     * @return The latencies and counts of the run, backend calls are filled in by the caller.
+     */
+    public LoadReport run(Duration duration) {
+        Histogram latencies = new ConcurrentHistogram(MAX_TRACKED_LATENCY_NANOS, 3);
+        AtomicLong queries = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        long start = System.nanoTime();
+        Flux.<String>generate(sink -> sink.next(queryMix.next()))
+                .take(duration)
+                .flatMap(uri -> query(uri, latencies, queries, failures), concurrency)
+                .blockLast();
+        return new LoadReport(queries.get(), failures.get(), Duration.ofNanos(System.nanoTime() - start), latencies, 0, 0);
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block();
+    }
+
+    private Mono<Void> query(String uri, Histogram latencies, AtomicLong queries, AtomicLong failures) {
+        return Mono.defer(() -> {
+            long sent = System.nanoTime();
+            return webClient.get()
+                    .uri(uri)
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                    .doOnNext(status -> {
+                        latencies.recordValue(Math.min(System.nanoTime() - sent, MAX_TRACKED_LATENCY_NANOS));
+                        queries.incrementAndGet();
+                        if (!status.is2xxSuccessful()) {
+                            failures.incrementAndGet();
+                        }
+                    })
+                    .then()
+                    .onErrorResume(throwable -> {
+                        queries.incrementAndGet();
+                        failures.incrementAndGet();
+                        return Mono.empty();
+                    });
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package org.ryanair.flight.api.perf;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:05 PM
+ */
+
+/**
+ * Outcome of one load run.
+ *
+ * @param queries       The number of completed queries.
+ * @param failures      The queries answered with a non 2xx status or failed on the client.
+ * @param elapsed       The wall clock duration of the run.
+ * @param latencies     The end to end latencies of the answered queries in nanoseconds.
+ * @param routeCalls    The routes calls received by the stub backend during the run.
+ * @param scheduleCalls The schedules calls received by the stub backend during the run.
+ */
+public record LoadReport(long queries, long failures, Duration elapsed, Histogram latencies, long routeCalls, long scheduleCalls) {
+
+    public double throughput() {
+        return queries / (elapsed.toNanos() / 1e9);
+    }
+
+    public double backendCallsPerQuery() {
+        return queries == 0 ? 0 : (double) (routeCalls + scheduleCalls) / queries;
+    }
+
+    public String format() {
+        return String.format(Locale.ROOT, """
+                        queries            %d (%d failed)
+                        throughput         %.1f queries/s
+                        latency p50        %.2f ms
+                        latency p99        %.2f ms
+                        latency p999       %.2f ms
+                        latency max        %.2f ms
+                        backend calls      %.2f per query (%d routes, %d schedules)""",
+                queries, failures, throughput(),
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()),
+                backendCallsPerQuery(), routeCalls, scheduleCalls);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,72 @@
+package org.ryanair.flight.api.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ryanair.flight.api.RyanairFlightConnectingServiceRunner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:15 PM
+ */
+
+/**
+ * End to end load test of the whole pipeline, from the API client to the handler, against the stub backend.
+ * Starts the stub and the application on free local ports, warms up, resets the backend counters and measures.
+ * Runs offline, configured through load.* and stub.* system properties:
+ * mvn -P load-test -DskipTests verify -Dload.args="-Dload.concurrency=64 -Dstub.latency-ms=50"
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) {
+        StubBackendSettings stubBackendSettings = StubBackendSettings.fromSystemProperties();
+        int concurrency = Integer.getInteger("load.concurrency", 32);
+        Duration warmUp = Duration.ofSeconds(Long.getLong("load.warm-up-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+        long seed = Long.getLong("load.seed", 7);
+
+        try (StubRyanairBackend backend = StubRyanairBackend.start(stubBackendSettings);
+             ConfigurableApplicationContext application = new SpringApplicationBuilder(RyanairFlightConnectingServiceRunner.class)
+                     .run(applicationArguments(backend, args))) {
+            String applicationUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            QueryMix queryMix = new QueryMix(backend.getRouteIndex(), YearMonth.now().plusMonths(1), seed);
+
+            try (LoadDriver loadDriver = new LoadDriver(applicationUrl, queryMix, concurrency)) {
+                log.warn("Load test against {} with {} queries in flight, stub {}", applicationUrl, concurrency, stubBackendSettings);
+                loadDriver.run(warmUp);
+                backend.resetCounters();
+                LoadReport measured = loadDriver.run(duration);
+                LoadReport report = new LoadReport(measured.queries(), measured.failures(), measured.elapsed(), measured.latencies(),
+                        backend.getRouteCalls(), backend.getScheduleCalls());
+                log.warn("Load test finished after {} s{}{}", duration.toSeconds(), System.lineSeparator(), report.format());
+            }
+        }
+    }
+
+    /**
+     * Points the application at the stub, passed as command line arguments so they take precedence over application.yml.
+     */
+    private static String[] applicationArguments(StubRyanairBackend backend, String[] args) {
+        List<String> applicationArguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--backend.ryanair.api.base-url=" + backend.baseUrl(),
+                "--backend.ryanair.api.protocols=HTTP11",
+                "--backend.ryanair.warm-up.enabled=false",
+                "--backend.ryanair.snapshot.enabled=false",
+                "--logging.level.org.ryanair=WARN",
+                "--logging.level.org.springframework=WARN"));
+        applicationArguments.addAll(List.of(args));
+        return applicationArguments.toArray(String[]::new);
+    }
+}
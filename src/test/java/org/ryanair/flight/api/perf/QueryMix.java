@@ -0,0 +1,93 @@
+package org.ryanair.flight.api.perf;
+
+import org.ryanair.flight.api.catalog.RouteIndex;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 10:00 PM
+ */
+
+/**
+ * Realistic mix of interconnection queries over the synthetic network.
+ * Most queries are between two regional airports and are answered through the hubs, the rest touch a hub directly.
+ * Most windows are a single day, some span a few days and a few cross into the next month.
+ */
+public final class QueryMix {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    private final Random random;
+    private final List<String> hubs = new ArrayList<>();
+    private final List<String> spokes = new ArrayList<>();
+    private final YearMonth month;
+
+    public QueryMix(RouteIndex routeIndex, YearMonth month, long seed) {
+        this.random = new Random(seed);
+        this.month = month;
+        for (int i = 0; i < SyntheticTimetables.HUBS; i++) {
+            hubs.add(SyntheticTimetables.hub(i));
+        }
+        routeIndex.getAirports().stream()
+                .filter(airport -> !hubs.contains(airport))
+                .sorted()
+                .forEach(spokes::add);
+    }
+
+    /**
+     * @return The path and query of the next interconnection request.
+     */
+    public synchronized String next() {
+        double pairType = random.nextDouble();
+        String departure;
+        String arrival;
+        if (pairType < 0.6) {
+            departure = pick(spokes);
+            arrival = pickOther(spokes, departure);
+        } else if (pairType < 0.9) {
+            boolean fromHub = random.nextBoolean();
+            departure = fromHub ? pick(hubs) : pick(spokes);
+            arrival = fromHub ? pick(spokes) : pick(hubs);
+        } else {
+            departure = pick(hubs);
+            arrival = pickOther(hubs, departure);
+        }
+
+        double windowType = random.nextDouble();
+        LocalDateTime windowStart;
+        LocalDateTime windowEnd;
+        if (windowType < 0.7) {
+            windowStart = month.atDay(1 + random.nextInt(month.lengthOfMonth() - 1)).atTime(6 + random.nextInt(6), 0);
+            windowEnd = windowStart.plusHours(14);
+        } else if (windowType < 0.9) {
+            windowStart = month.atDay(1 + random.nextInt(month.lengthOfMonth() - 3)).atTime(6, 0);
+            windowEnd = windowStart.plusDays(2 + random.nextInt(2));
+        } else {
+            windowStart = month.atEndOfMonth().atTime(8, 0);
+            windowEnd = windowStart.plusDays(2);
+        }
+        return "/api/v1/flight/interconnections?departure=" + departure + "&arrival=" + arrival
+                + "&departureDateTime=" + DATE_TIME_FORMAT.format(windowStart)
+                + "&arrivalDateTime=" + DATE_TIME_FORMAT.format(windowEnd);
+    }
+
+    private String pick(List<String> airports) {
+        return airports.get(random.nextInt(airports.size()));
+    }
+
+    private String pickOther(List<String> airports, String excluded) {
+        String airport;
+        do {
+            airport = pick(airports);
+        } while (airport.equals(excluded));
+        return airport;
+    }
+}
@@ -0,0 +1,52 @@
+package org.ryanair.flight.api.perf;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:45 PM
+ */
+
+/**
+ * Behaviour of the stub backend: response latency, injected failures and the size of the synthetic dataset.
+ */
+@Getter
+@Builder
+@ToString
+public class StubBackendSettings {
+
+    @Builder.Default
+    private final long latencyMs = 30;
+    @Builder.Default
+    private final long latencyJitterMs = 20;
+    // share of requests answered with 503 Service Unavailable
+    @Builder.Default
+    private final double errorRate = 0.0;
+    @Builder.Default
+    private final int airports = SyntheticTimetables.AIRPORTS;
+    @Builder.Default
+    private final int flightsPerDay = 6;
+    @Builder.Default
+    private final long seed = 42;
+
+    /**
+     * Reads the settings from the stub.* system properties, missing properties keep their default.
+     *
+     * @return The StubBackendSettings of the current JVM.
+     */
+    public static StubBackendSettings fromSystemProperties() {
+        StubBackendSettings defaults = StubBackendSettings.builder().build();
+        return StubBackendSettings.builder()
+                .latencyMs(Long.getLong("stub.latency-ms", defaults.getLatencyMs()))
+                .latencyJitterMs(Long.getLong("stub.latency-jitter-ms", defaults.getLatencyJitterMs()))
+                .errorRate(Double.parseDouble(System.getProperty("stub.error-rate", String.valueOf(defaults.getErrorRate()))))
+                .airports(Integer.getInteger("stub.airports", defaults.getAirports()))
+                .flightsPerDay(Integer.getInteger("stub.flights-per-day", defaults.getFlightsPerDay()))
+                .seed(Long.getLong("stub.seed", defaults.getSeed()))
+                .build();
+    }
+}
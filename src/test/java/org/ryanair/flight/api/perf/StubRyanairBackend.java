@@ -0,0 +1,191 @@
+package org.ryanair.flight.api.perf;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.catalog.RouteIndex;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.util.EpochMinutes;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:50 PM
+ */
+
+/**
+ * Embeddable stub of the Ryanair routes and schedules endpoints on a local Reactor Netty server.
+ * Serves the synthetic network with the configured latency and failure rate and counts the calls per endpoint,
+ * schedules of legs missing from the catalog are answered with 404 like the real API does.
+ */
+public final class StubRyanairBackend implements AutoCloseable {
+
+    public static final String ROUTES_PATH = "/views/locate/3/routes";
+    public static final String SCHEDULES_PATH = "/timtbl/3/schedules/{departure}/{arrival}/years/{year}/months/{month}";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final StubBackendSettings settings;
+    private final RouteIndex routeIndex;
+    private final byte[] routesPayload;
+    private final Map<String, byte[]> schedulePayloads = new ConcurrentHashMap<>();
+    private final AtomicLong routeCalls = new AtomicLong();
+    private final AtomicLong scheduleCalls = new AtomicLong();
+    private final DisposableServer server;
+
+    private StubRyanairBackend(StubBackendSettings settings) {
+        this.settings = settings;
+        RouteCatalogSnapshot routeCatalogSnapshot = SyntheticTimetables.routeCatalog(settings.getAirports(), settings.getSeed());
+        this.routeIndex = routeCatalogSnapshot.getRouteIndex();
+        try {
+            this.routesPayload = new ObjectMapper().writeValueAsBytes(routeCatalogSnapshot.getRoutes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .compress(true)
+                .route(routes -> routes
+                        .get(ROUTES_PATH, this::handleRoutes)
+                        .get(SCHEDULES_PATH, this::handleSchedules))
+                .bindNow();
+    }
+
+    /**
+     * Starts the stub on a free local port.
+     *
+     * @param settings The latency, failure and dataset settings.
+     * @return The running StubRyanairBackend.
+     */
+    public static StubRyanairBackend start(StubBackendSettings settings) {
+        return new StubRyanairBackend(settings);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    public RouteIndex getRouteIndex() {
+        return routeIndex;
+    }
+
+    public long getRouteCalls() {
+        return routeCalls.get();
+    }
+
+    public long getScheduleCalls() {
+        return scheduleCalls.get();
+    }
+
+    public void resetCounters() {
+        routeCalls.set(0);
+        scheduleCalls.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private Publisher<Void> handleRoutes(HttpServerRequest request, HttpServerResponse response) {
+        routeCalls.incrementAndGet();
+        return respond(response, routesPayload);
+    }
+
+    private Publisher<Void> handleSchedules(HttpServerRequest request, HttpServerResponse response) {
+        scheduleCalls.incrementAndGet();
+        String departure = request.param("departure");
+        String arrival = request.param("arrival");
+        if (routeIndex.findDirectRoute(departure, arrival).isEmpty()) {
+            return delay().then(response.status(HttpResponseStatus.NOT_FOUND).send());
+        }
+        YearMonth month = YearMonth.of(Integer.parseInt(Objects.requireNonNull(request.param("year"))),
+                Integer.parseInt(Objects.requireNonNull(request.param("month"))));
+        byte[] payload = schedulePayloads.computeIfAbsent(departure + arrival + month,
+                key -> schedulePayload(month, SyntheticTimetables.busyMonth(month, settings.getFlightsPerDay(), key.hashCode())));
+        return respond(response, payload);
+    }
+
+    private Mono<Void> respond(HttpServerResponse response, byte[] payload) {
+        return delay().then(Mono.defer(() -> {
+            if (ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+                return response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send().then();
+            }
+            return response.header(HttpHeaderNames.CONTENT_TYPE, JSON_CONTENT_TYPE)
+                    .sendByteArray(Mono.just(payload))
+                    .then();
+        }));
+    }
+
+    private Mono<Long> delay() {
+        long jitter = settings.getLatencyJitterMs() > 0 ? ThreadLocalRandom.current().nextLong(settings.getLatencyJitterMs() + 1) : 0;
+        return Mono.delay(Duration.ofMillis(settings.getLatencyMs() + jitter));
+    }
+
+    /**
+     * Writes the timetable in the schedules API form, the flights are grouped by day in departure order.
+     */
+    private static byte[] schedulePayload(YearMonth month, MonthlyTimetable monthlyTimetable) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeNumberField("month", month.getMonthValue());
+            generator.writeArrayFieldStart("days");
+            int currentDay = -1;
+            for (ScheduledFlight flight : monthlyTimetable.getFlights()) {
+                LocalDateTime departure = EpochMinutes.toLocalDateTime(flight.getDepartureEpochMinute());
+                LocalDateTime arrival = EpochMinutes.toLocalDateTime(flight.getArrivalEpochMinute());
+                if (departure.getDayOfMonth() != currentDay) {
+                    if (currentDay != -1) {
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                    currentDay = departure.getDayOfMonth();
+                    generator.writeStartObject();
+                    generator.writeNumberField("day", currentDay);
+                    generator.writeArrayFieldStart("flights");
+                }
+                generator.writeStartObject();
+                generator.writeStringField("carrierCode", flight.getCarrierCode());
+                generator.writeStringField("number", flight.getNumber());
+                generator.writeStringField("departureTime", String.format("%02d:%02d", departure.getHour(), departure.getMinute()));
+                generator.writeStringField("arrivalTime", String.format("%02d:%02d", arrival.getHour(), arrival.getMinute()));
+                generator.writeEndObject();
+            }
+            if (currentDay != -1) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
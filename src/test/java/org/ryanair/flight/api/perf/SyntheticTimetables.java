@@ -0,0 +1,149 @@
+package org.ryanair.flight.api.perf;
+
+import org.ryanair.flight.api.catalog.RouteCatalogSnapshot;
+import org.ryanair.flight.api.model.MonthlyTimetable;
+import org.ryanair.flight.api.model.RouteAPIResponseModel;
+import org.ryanair.flight.api.model.ScheduledFlight;
+import org.ryanair.flight.api.util.Constant;
+import org.ryanair.flight.api.util.EpochMinutes;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Author: Gayan Sanjeewa
+ * User: gayan
+ * Date: 10/17/26
+ * Time: 9:00 PM
+ */
+
+/**
+ * Deterministic synthetic network and timetables sized like the production data.
+ * The catalog has a few hubs connected to about half of the other airports plus random point to point routes,
+ * which gives a catalog of a few thousand routes and dozens of one-stop options between two hubs.
+ * Shared by the JMH benchmarks and the stub backend of the load test.
+ */
+public final class SyntheticTimetables {
+
+    public static final int AIRPORTS = 240;
+    public static final int HUBS = 12;
+    public static final YearMonth MONTH = YearMonth.of(2024, 4);
+
+    private static final int POINT_TO_POINT_ROUTES_PER_AIRPORT = 8;
+    private static final double HUB_COVERAGE = 0.5;
+    private static final int FIRST_DEPARTURE_MINUTE = 6 * 60;
+    private static final int LAST_DEPARTURE_MINUTE = 22 * 60;
+
+    private SyntheticTimetables() {
+    }
+
+    /**
+     * @param index The airport index, hubs come first.
+     * @return The three letter code of the airport.
+     */
+    public static String airport(int index) {
+        return new String(new char[]{(char) ('A' + index / 676 % 26), (char) ('A' + index / 26 % 26), (char) ('A' + index % 26)}).intern();
+    }
+
+    public static String hub(int index) {
+        return airport(index);
+    }
+
+    public static String spoke(int index) {
+        return airport(HUBS + index);
+    }
+
+    /**
+     * Builds the route catalog of the synthetic network with the default number of airports.
+     *
+     * @param seed The random seed, the same seed always yields the same catalog.
+     * @return The RouteCatalogSnapshot of the network.
+     */
+    public static RouteCatalogSnapshot routeCatalog(long seed) {
+        return routeCatalog(AIRPORTS, seed);
+    }
+
+    /**
+     * Builds the route catalog of a synthetic network of the given size.
+     *
+     * @param airports The number of airports including the hubs.
+     * @param seed     The random seed, the same seed always yields the same catalog.
+     * @return The RouteCatalogSnapshot of the network.
+     */
+    public static RouteCatalogSnapshot routeCatalog(int airports, long seed) {
+        Random random = new Random(seed);
+        Set<String> legs = new LinkedHashSet<>();
+        for (int hub = 0; hub < HUBS; hub++) {
+            for (int other = 0; other < airports; other++) {
+                if (other != hub && (other < HUBS || random.nextDouble() < HUB_COVERAGE)) {
+                    legs.add(airport(hub) + airport(other));
+                    legs.add(airport(other) + airport(hub));
+                }
+            }
+        }
+        for (int airport = HUBS; airport < airports; airport++) {
+            for (int i = 0; i < POINT_TO_POINT_ROUTES_PER_AIRPORT; i++) {
+                int other = HUBS + random.nextInt(airports - HUBS);
+                if (other != airport) {
+                    legs.add(airport(airport) + airport(other));
+                }
+            }
+        }
+        List<RouteAPIResponseModel> routes = new ArrayList<>(legs.size());
+        for (String leg : legs) {
+            routes.add(route(leg.substring(0, 3), leg.substring(3)));
+        }
+        return new RouteCatalogSnapshot(routes, Instant.EPOCH);
+    }
+
+    public static RouteAPIResponseModel route(String airportFrom, String airportTo) {
+        return RouteAPIResponseModel.builder()
+                .airportFrom(airportFrom.intern())
+                .airportTo(airportTo.intern())
+                .operator(Constant.PROVIDER)
+                .carrierCode("FR")
+                .group("CITY")
+                .build();
+    }
+
+    /**
+     * Builds a month of one leg in the default month.
+     *
+     * @param flightsPerDay The departures per day.
+     * @param seed          The random seed of the block times and flight numbers.
+     * @return The MonthlyTimetable of the leg.
+     */
+    public static MonthlyTimetable busyMonth(int flightsPerDay, long seed) {
+        return busyMonth(MONTH, flightsPerDay, seed);
+    }
+
+    /**
+     * Builds a month of one leg with the given number of flights per day, spread between early morning and late evening.
+     *
+     * @param month         The schedule month.
+     * @param flightsPerDay The departures per day.
+     * @param seed          The random seed of the block times and flight numbers.
+     * @return The MonthlyTimetable of the leg.
+     */
+    public static MonthlyTimetable busyMonth(YearMonth month, int flightsPerDay, long seed) {
+        Random random = new Random(seed);
+        List<ScheduledFlight> flights = new ArrayList<>(flightsPerDay * month.lengthOfMonth());
+        long firstEpochDay = month.atDay(1).toEpochDay();
+        int departureSpacing = (LAST_DEPARTURE_MINUTE - FIRST_DEPARTURE_MINUTE) / flightsPerDay;
+        for (int day = 0; day < month.lengthOfMonth(); day++) {
+            for (int i = 0; i < flightsPerDay; i++) {
+                int departureMinute = FIRST_DEPARTURE_MINUTE + i * departureSpacing + random.nextInt(Math.max(1, departureSpacing));
+                int blockMinutes = 60 + random.nextInt(180);
+                int departureEpochMinute = EpochMinutes.of(firstEpochDay + day, departureMinute);
+                flights.add(new ScheduledFlight("FR", String.valueOf(1000 + random.nextInt(9000)),
+                        departureEpochMinute, departureEpochMinute + blockMinutes));
+            }
+        }
+        return MonthlyTimetable.of(month.getYear(), month.getMonthValue(), flights);
+    }
+}